@@ -0,0 +1,94 @@
+package com.github.achaaab.scrabble.benchmark;
+
+import com.github.achaaab.scrabble.model.core.Dictionary;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static com.github.achaaab.scrabble.model.core.Dictionary.COMPILED_EXTENSION;
+import static org.openjdk.jmh.annotations.Mode.SingleShotTime;
+import static org.openjdk.jmh.annotations.Scope.Benchmark;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+
+/**
+ * Benchmark of dictionary construction: from the word list, with or without the GADDAG, and from a compiled file.
+ *
+ * @author Jonathan Guéhenneux
+ * @since 1.1.0
+ */
+@State(Benchmark)
+@BenchmarkMode(SingleShotTime)
+@OutputTimeUnit(MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 10)
+@Fork(2)
+public class DictionaryBenchmark {
+
+	private static final String RESOURCE_NAME = "dictionaries/csw21.txt";
+
+	private Path compiledPath;
+
+	/**
+	 * Compiles the dictionary to a temporary file.
+	 *
+	 * @throws IOException if the temporary file cannot be created
+	 * @since 1.1.0
+	 */
+	@Setup
+	public void setUp() throws IOException {
+
+		compiledPath = Files.createTempFile("csw21", COMPILED_EXTENSION);
+		new Dictionary(RESOURCE_NAME).save(compiledPath);
+	}
+
+	/**
+	 * Deletes the compiled dictionary file.
+	 *
+	 * @throws IOException if the temporary file cannot be deleted
+	 * @since 1.1.0
+	 */
+	@TearDown
+	public void tearDown() throws IOException {
+		Files.deleteIfExists(compiledPath);
+	}
+
+	/**
+	 * @return dictionary built from its word list
+	 * @since 1.1.0
+	 */
+	@Benchmark
+	public Dictionary build() {
+		return new Dictionary(RESOURCE_NAME);
+	}
+
+	/**
+	 * @return dictionary built from its word list, with its GADDAG
+	 * @since 1.1.0
+	 */
+	@Benchmark
+	public Dictionary buildWithGaddag() {
+
+		var dictionary = new Dictionary(RESOURCE_NAME);
+		dictionary.gaddag();
+		return dictionary;
+	}
+
+	/**
+	 * @return dictionary loaded from its compiled file
+	 * @since 1.1.0
+	 */
+	@Benchmark
+	public Dictionary load() {
+		return Dictionary.load(compiledPath);
+	}
+}
@@ -0,0 +1,86 @@
+package com.github.achaaab.scrabble.benchmark;
+
+import com.github.achaaab.scrabble.model.core.Bag;
+import com.github.achaaab.scrabble.model.core.Board;
+import com.github.achaaab.scrabble.model.core.Rack;
+import com.github.achaaab.scrabble.model.move.Engine;
+import com.github.achaaab.scrabble.model.move.Evaluator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import static com.github.achaaab.scrabble.benchmark.Position.dictionary;
+import static com.github.achaaab.scrabble.benchmark.Position.createBag;
+import static org.openjdk.jmh.annotations.Level.Invocation;
+import static org.openjdk.jmh.annotations.Mode.AverageTime;
+import static org.openjdk.jmh.annotations.Scope.Thread;
+import static java.lang.Integer.MAX_VALUE;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+
+/**
+ * Benchmark of complete self-play games, always playing the best move. Each game is played from a bag drawn with
+ * the seed given as parameter.
+ *
+ * @author Jonathan Guéhenneux
+ * @since 1.1.0
+ */
+@State(Thread)
+@BenchmarkMode(AverageTime)
+@OutputTimeUnit(MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(2)
+public class GameBenchmark {
+
+	@Param({ "0", "1", "2" })
+	private long seed;
+
+	@Param({ "DAWG", "GADDAG" })
+	private Engine engine;
+
+	private Board board;
+	private Rack rack;
+	private Evaluator evaluator;
+	private Bag bag;
+
+	/**
+	 * Creates the board and its evaluator.
+	 *
+	 * @since 1.1.0
+	 */
+	@Setup
+	public void setUp() {
+
+		board = new Board();
+		rack = new Rack();
+		evaluator = engine.createEvaluator(board, dictionary());
+	}
+
+	/**
+	 * Starts a new game.
+	 *
+	 * @since 1.1.0
+	 */
+	@Setup(Invocation)
+	public void newGame() {
+
+		board.clear();
+		rack.clear();
+		bag = createBag(seed);
+	}
+
+	/**
+	 * @return total score of the game
+	 * @since 1.1.0
+	 */
+	@Benchmark
+	public int play() {
+		return Position.play(evaluator, board, rack, bag, MAX_VALUE);
+	}
+}
@@ -0,0 +1,81 @@
+package com.github.achaaab.scrabble.benchmark;
+
+import com.github.achaaab.scrabble.model.core.Board;
+import com.github.achaaab.scrabble.model.core.Rack;
+import com.github.achaaab.scrabble.model.move.Engine;
+import com.github.achaaab.scrabble.model.move.Evaluator;
+import com.github.achaaab.scrabble.model.move.Move;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.openjdk.jmh.annotations.Mode.AverageTime;
+import static org.openjdk.jmh.annotations.Scope.Thread;
+import static java.util.concurrent.TimeUnit.MICROSECONDS;
+
+/**
+ * Benchmark of move generation on fixed positions, for each engine.
+ *
+ * @author Jonathan Guéhenneux
+ * @since 1.1.0
+ */
+@State(Thread)
+@BenchmarkMode(AverageTime)
+@OutputTimeUnit(MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class MoveGenerationBenchmark {
+
+	@Param({ "EMPTY", "MID_GAME", "CROWDED" })
+	private Position position;
+
+	@Param({ "DAWG", "GADDAG" })
+	private Engine engine;
+
+	private Evaluator evaluator;
+	private Rack rack;
+
+	/**
+	 * Reaches the position to benchmark.
+	 *
+	 * @since 1.1.0
+	 */
+	@Setup
+	public void setUp() {
+
+		var board = new Board();
+		rack = new Rack();
+
+		position.reach(board, rack);
+
+		evaluator = engine.createEvaluator(board, Position.dictionary());
+	}
+
+	/**
+	 * @return all the moves of the position
+	 * @since 1.1.0
+	 */
+	@Benchmark
+	public List<Move> listMoves() {
+		return evaluator.listMoves(rack);
+	}
+
+	/**
+	 * @return best move of the position
+	 * @since 1.1.0
+	 */
+	@Benchmark
+	public Optional<Move> getBestMove() {
+		return evaluator.getBestMove(rack);
+	}
+}
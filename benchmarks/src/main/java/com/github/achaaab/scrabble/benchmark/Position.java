@@ -0,0 +1,125 @@
+package com.github.achaaab.scrabble.benchmark;
+
+import com.github.achaaab.scrabble.model.core.Bag;
+import com.github.achaaab.scrabble.model.core.Board;
+import com.github.achaaab.scrabble.model.core.Dictionary;
+import com.github.achaaab.scrabble.model.core.Rack;
+import com.github.achaaab.scrabble.model.move.Evaluator;
+
+import java.util.SplittableRandom;
+
+import static com.github.achaaab.scrabble.model.core.Lexicon.ENGLISH_CSW21;
+import static com.github.achaaab.scrabble.model.core.Tile.getEnglishTiles;
+
+/**
+ * Fixed positions on which to run benchmarks. Positions are reached by self-play, always playing the best move, from
+ * a bag drawn with a fixed seed. Hence, they are the same across runs.
+ *
+ * @author Jonathan Guéhenneux
+ * @since 1.1.0
+ */
+public enum Position {
+
+	/**
+	 * Empty board, first move to play.
+	 */
+	EMPTY(0),
+
+	/**
+	 * Board after 8 moves.
+	 */
+	MID_GAME(8),
+
+	/**
+	 * Board after 16 moves.
+	 */
+	CROWDED(16);
+
+	public static final long SEED = 0;
+
+	/**
+	 * @return dictionary used by the benchmarks
+	 * @since 1.1.0
+	 */
+	public static Dictionary dictionary() {
+		return ENGLISH_CSW21.get();
+	}
+
+	/**
+	 * Creates a bag with a full set of tiles.
+	 *
+	 * @param seed seed of the draws
+	 * @return created bag
+	 * @since 1.1.0
+	 */
+	public static Bag createBag(long seed) {
+
+		var bag = new Bag(new SplittableRandom(seed));
+		bag.addAll(getEnglishTiles());
+		return bag;
+	}
+
+	/**
+	 * Plays a game, always playing the best move, until the specified number of moves is played or no move can be
+	 * played. The rack is filled from the bag before the first move and after each move.
+	 *
+	 * @param evaluator evaluator of the board to play on
+	 * @param board board to play on
+	 * @param rack rack to play from
+	 * @param bag bag to draw tiles from
+	 * @param maximumMoveCount maximum number of moves to play
+	 * @return sum of the scores of the played moves
+	 * @since 1.1.0
+	 */
+	public static int play(Evaluator evaluator, Board board, Rack rack, Bag bag, int maximumMoveCount) {
+
+		var total = 0;
+		var moveCount = 0;
+		var over = false;
+
+		rack.fill(bag);
+
+		while (moveCount < maximumMoveCount && !over) {
+
+			var optionalMove = evaluator.getBestMove(rack);
+
+			if (optionalMove.isEmpty()) {
+
+				over = true;
+
+			} else {
+
+				var move = optionalMove.get();
+				rack.removeAll(move.tiles());
+				board.play(move.tiles(), move.reference());
+				rack.fill(bag);
+
+				total += move.score();
+				moveCount++;
+			}
+		}
+
+		return total;
+	}
+
+	private final int moveCount;
+
+	/**
+	 * @param moveCount number of moves played to reach this position
+	 * @since 1.1.0
+	 */
+	Position(int moveCount) {
+		this.moveCount = moveCount;
+	}
+
+	/**
+	 * Reaches this position.
+	 *
+	 * @param board empty board on which to play
+	 * @param rack empty rack, filled with the tiles to play at this position
+	 * @since 1.1.0
+	 */
+	public void reach(Board board, Rack rack) {
+		play(new Evaluator(board, dictionary()), board, rack, createBag(SEED), moveCount);
+	}
+}
@@ -0,0 +1,109 @@
+package com.github.achaaab.scrabble.benchmark;
+
+import com.github.achaaab.scrabble.model.core.Dictionary;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static com.github.achaaab.scrabble.benchmark.Position.SEED;
+import static com.github.achaaab.scrabble.benchmark.Position.dictionary;
+import static org.openjdk.jmh.annotations.Mode.AverageTime;
+import static org.openjdk.jmh.annotations.Scope.Benchmark;
+import static java.util.concurrent.TimeUnit.MICROSECONDS;
+
+/**
+ * Benchmark of the dictionary queries: batch validation of words drawn with a fixed seed, half of them with a letter
+ * replaced, anagrams and sub-anagrams of a rack with a blank tile, and pattern matching.
+ *
+ * @author Jonathan Guéhenneux
+ * @since 1.1.0
+ */
+@State(Benchmark)
+@BenchmarkMode(AverageTime)
+@OutputTimeUnit(MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class QueryBenchmark {
+
+	private static final int WORD_COUNT = 4096;
+
+	private Dictionary dictionary;
+	private List<String> words;
+
+	/**
+	 * Draws the words to validate.
+	 *
+	 * @since 1.1.0
+	 */
+	@Setup
+	public void setUp() {
+
+		dictionary = dictionary();
+
+		var dictionaryWords = new ArrayList<String>();
+		dictionary.dawg().forEachWord(dictionaryWords::add);
+
+		var random = new Random(SEED);
+		words = new ArrayList<>();
+
+		for (var index = 0; index < WORD_COUNT; index++) {
+
+			var word = dictionaryWords.get(random.nextInt(dictionaryWords.size()));
+
+			if (index % 2 == 1) {
+
+				var letters = word.toCharArray();
+				letters[random.nextInt(letters.length)] = (char) ('A' + random.nextInt(26));
+				word = new String(letters);
+			}
+
+			words.add(word);
+		}
+	}
+
+	/**
+	 * @return invalid words of the batch
+	 * @since 1.1.0
+	 */
+	@Benchmark
+	public List<String> getInvalidWords() {
+		return dictionary.getInvalidWords(words);
+	}
+
+	/**
+	 * @return anagrams of a rack with a blank tile
+	 * @since 1.1.0
+	 */
+	@Benchmark
+	public List<String> getAnagrams() {
+		return dictionary.getAnagrams("AERSTL", 1);
+	}
+
+	/**
+	 * @return sub-anagrams of a rack with a blank tile
+	 * @since 1.1.0
+	 */
+	@Benchmark
+	public List<String> getSubanagrams() {
+		return dictionary.getSubanagrams("AERSTL", 1);
+	}
+
+	/**
+	 * @return words matching a pattern
+	 * @since 1.1.0
+	 */
+	@Benchmark
+	public List<String> getMatchingWords() {
+		return dictionary.getMatchingWords("?A*ING");
+	}
+}
@@ -0,0 +1,187 @@
+package com.github.achaaab.scrabble.benchmark;
+
+import com.github.achaaab.scrabble.model.core.Board;
+import com.github.achaaab.scrabble.model.core.Dictionary;
+import com.github.achaaab.scrabble.model.core.Rack;
+import com.github.achaaab.scrabble.model.core.Tile;
+import com.github.achaaab.scrabble.model.move.Evaluator;
+import com.github.achaaab.scrabble.model.move.Move;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.List;
+
+import static org.openjdk.jmh.annotations.Mode.AverageTime;
+import static org.openjdk.jmh.annotations.Scope.Thread;
+import static java.util.concurrent.TimeUnit.MICROSECONDS;
+
+/**
+ * Benchmark of move scoring: all the moves of a fixed position are scored, either with
+ * {@link Evaluator#computeScore()}, which reads the across word values from the cross-checks, or with the former
+ * scoring, which collected the across tiles in lists for each placed tile.
+ *
+ * @author Jonathan Guéhenneux
+ * @since 1.1.0
+ */
+@State(Thread)
+@BenchmarkMode(AverageTime)
+@OutputTimeUnit(MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class ScoreBenchmark {
+
+	@Param({ "EMPTY", "MID_GAME", "CROWDED" })
+	private Position position;
+
+	private ScoringEvaluator evaluator;
+	private List<Move> moves;
+
+	/**
+	 * Reaches the position to benchmark and lists its moves.
+	 *
+	 * @since 1.1.0
+	 */
+	@Setup
+	public void setUp() {
+
+		var board = new Board();
+		var rack = new Rack();
+
+		position.reach(board, rack);
+
+		evaluator = new ScoringEvaluator(board, Position.dictionary());
+		moves = evaluator.listMoves(rack);
+	}
+
+	/**
+	 * @param blackhole consumer of the scores
+	 * @since 1.1.0
+	 */
+	@Benchmark
+	public void computeScore(Blackhole blackhole) {
+
+		for (var move : moves) {
+			blackhole.consume(evaluator.computeScore(move));
+		}
+	}
+
+	/**
+	 * @param blackhole consumer of the scores
+	 * @since 1.1.0
+	 */
+	@Benchmark
+	public void computeScoreWithTileLists(Blackhole blackhole) {
+
+		for (var move : moves) {
+			blackhole.consume(evaluator.computeScoreWithTileLists(move));
+		}
+	}
+
+	/**
+	 * Evaluator exposing its scoring.
+	 *
+	 * @author Jonathan Guéhenneux
+	 * @since 1.1.0
+	 */
+	private static class ScoringEvaluator extends Evaluator {
+
+		/**
+		 * @param board board on which to evaluate moves
+		 * @param dictionary dictionary to use
+		 * @since 1.1.0
+		 */
+		ScoringEvaluator(Board board, Dictionary dictionary) {
+			super(board, dictionary);
+		}
+
+		/**
+		 * @param move move to score
+		 * @since 1.1.0
+		 */
+		private void setCurrentMove(Move move) {
+
+			start = move.reference().square().index();
+			setDirection(move.reference().direction());
+			tiles.clear();
+			tiles.addAll(move.tiles());
+		}
+
+		/**
+		 * @param move move to score
+		 * @return score of the specified move
+		 * @since 1.1.0
+		 */
+		int computeScore(Move move) {
+
+			setCurrentMove(move);
+			return computeScore();
+		}
+
+		/**
+		 * Scores a move as before the cross-checks were cached, collecting the across tiles of each placed tile.
+		 *
+		 * @param move move to score
+		 * @return score of the specified move
+		 * @since 1.1.0
+		 */
+		int computeScoreWithTileLists(Move move) {
+
+			setCurrentMove(move);
+
+			var score = 0;
+			var square = move.reference().square();
+			var wordScore = 0;
+			var wordMultiplier = 1;
+
+			for (var tile : tiles) {
+
+				while (square.hasTile()) {
+
+					wordScore += square.getTile().value();
+					square = square.getNext(direction);
+				}
+
+				var award = square.award();
+				var letterMultiplier = award.letterMultiplier();
+				wordMultiplier *= award.wordMultiplier();
+				wordScore += letterMultiplier * tile.value();
+
+				var prefixTiles = board.getPreviousTiles(square, direction.across());
+				var suffixTiles = board.getNextTiles(square, direction.across());
+
+				if (!prefixTiles.isEmpty() || !suffixTiles.isEmpty()) {
+
+					score += award.wordMultiplier() * (
+							prefixTiles.stream().mapToInt(Tile::value).sum() +
+									letterMultiplier * tile.value() +
+									suffixTiles.stream().mapToInt(Tile::value).sum());
+				}
+
+				square = square.getNext(direction);
+			}
+
+			while (square != null && square.hasTile()) {
+
+				wordScore += square.getTile().value();
+				square = square.getNext(direction);
+			}
+
+			score += wordScore * wordMultiplier;
+
+			if (tiles.size() == SCRABBLE_LENGTH) {
+				score += SCRABBLE_REWARD;
+			}
+
+			return score;
+		}
+	}
+}
@@ -0,0 +1,126 @@
+package com.github.achaaab.scrabble.benchmark;
+
+import com.github.achaaab.scrabble.tools.Dawg;
+import com.github.achaaab.scrabble.tools.Trie;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.ArrayList;
+import java.util.Random;
+
+import static com.github.achaaab.scrabble.benchmark.Position.SEED;
+import static com.github.achaaab.scrabble.benchmark.Position.dictionary;
+import static org.openjdk.jmh.annotations.Mode.AverageTime;
+import static org.openjdk.jmh.annotations.Scope.Benchmark;
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+
+/**
+ * Benchmark of word lookups, through {@link Trie} cursors and directly in the {@link Dawg}. Looked up words are drawn
+ * from the dictionary with a fixed seed. Half of them have a letter replaced, so that most of them are not words.
+ *
+ * @author Jonathan Guéhenneux
+ * @since 1.1.0
+ */
+@State(Benchmark)
+@BenchmarkMode(AverageTime)
+@OutputTimeUnit(NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class TrieBenchmark {
+
+	private static final int WORD_COUNT = 1024;
+
+	private Dawg dawg;
+	private Trie trie;
+	private String[] words;
+
+	/**
+	 * Draws the words to look up.
+	 *
+	 * @since 1.1.0
+	 */
+	@Setup
+	public void setUp() {
+
+		var dictionary = dictionary();
+		dawg = dictionary.dawg();
+		trie = dictionary.trie();
+
+		var dictionaryWords = new ArrayList<String>();
+		dawg.forEachWord(dictionaryWords::add);
+
+		var random = new Random(SEED);
+		words = new String[WORD_COUNT];
+
+		for (var index = 0; index < WORD_COUNT; index++) {
+
+			var word = dictionaryWords.get(random.nextInt(dictionaryWords.size()));
+
+			if (index % 2 == 1) {
+
+				var letters = word.toCharArray();
+				letters[random.nextInt(letters.length)] = (char) ('A' + random.nextInt(26));
+				word = new String(letters);
+			}
+
+			words[index] = word;
+		}
+	}
+
+	/**
+	 * @param blackhole consumer of the lookup results
+	 * @since 1.1.0
+	 */
+	@Benchmark
+	@OperationsPerInvocation(WORD_COUNT)
+	public void trieGetChild(Blackhole blackhole) {
+
+		for (var word : words) {
+
+			var child = trie.getChild(word);
+			blackhole.consume(child != null && child.isWord());
+		}
+	}
+
+	/**
+	 * @param blackhole consumer of the lookup results
+	 * @since 1.1.0
+	 */
+	@Benchmark
+	@OperationsPerInvocation(WORD_COUNT)
+	public void trieGetChildByLetter(Blackhole blackhole) {
+
+		for (var word : words) {
+
+			var child = trie;
+
+			for (var index = 0; child != null && index < word.length(); index++) {
+				child = child.getChild(word.charAt(index));
+			}
+
+			blackhole.consume(child != null && child.isWord());
+		}
+	}
+
+	/**
+	 * @param blackhole consumer of the lookup results
+	 * @since 1.1.0
+	 */
+	@Benchmark
+	@OperationsPerInvocation(WORD_COUNT)
+	public void dawgContains(Blackhole blackhole) {
+
+		for (var word : words) {
+			blackhole.consume(dawg.contains(word));
+		}
+	}
+}
@@ -0,0 +1,77 @@
+package com.github.achaaab.scrabble;
+
+import com.github.achaaab.scrabble.model.core.Lexicon;
+import com.github.achaaab.scrabble.model.duplicate.DrawRule;
+import com.github.achaaab.scrabble.model.duplicate.DuplicateSimulator;
+import com.github.achaaab.scrabble.model.duplicate.SimulatedGame;
+
+import java.util.SplittableRandom;
+import java.util.function.Consumer;
+import java.util.function.LongFunction;
+import java.util.random.RandomGenerator;
+import java.util.random.RandomGeneratorFactory;
+
+import static com.github.achaaab.scrabble.model.core.Lexicon.ENGLISH_CSW21;
+import static java.lang.Integer.parseInt;
+import static java.lang.Long.parseLong;
+import static java.lang.Runtime.getRuntime;
+
+/**
+ * Command line duplicate simulator, playing independent self-played duplicate games in parallel. Options:
+ * <ul>
+ *   <li>{@code --games <count>}: number of games to play, 100 by default,</li>
+ *   <li>{@code --seed <seed>}: seed of the simulation, 0 by default,</li>
+ *   <li>{@code --threads <count>}: number of worker threads, the number of processors by default,</li>
+ *   <li>{@code --lexicon <name>}: {@link Lexicon} to play with, {@code ENGLISH_CSW21} by default,</li>
+ *   <li>{@code --free-draw}: accept any draw instead of applying {@link DrawRule#DUPLICATE},</li>
+ *   <li>{@code --random <algorithm>}: algorithm of the random generators, see {@link RandomGeneratorFactory},
+ *   {@code SplittableRandom} by default,</li>
+ *   <li>{@code --quiet}: only print the statistics, not the scoring sheet of each game.</li>
+ * </ul>
+ *
+ * @author Jonathan Guéhenneux
+ * @since 1.1.0
+ */
+public class DuplicateSimulatorApplication {
+
+	/**
+	 * @param arguments options, see {@link DuplicateSimulatorApplication}
+	 * @throws InterruptedException if interrupted while waiting for the simulation
+	 * @since 1.1.0
+	 */
+	public static void main(String... arguments) throws InterruptedException {
+
+		var gameCount = 100;
+		var seed = 0L;
+		var threadCount = getRuntime().availableProcessors();
+		var lexicon = ENGLISH_CSW21;
+		var drawRule = DrawRule.DUPLICATE;
+		LongFunction<? extends RandomGenerator> randomFactory = SplittableRandom::new;
+		var quiet = false;
+
+		for (var index = 0; index < arguments.length; index++) {
+
+			switch (arguments[index]) {
+
+				case "--games" -> gameCount = parseInt(arguments[++index]);
+				case "--seed" -> seed = parseLong(arguments[++index]);
+				case "--threads" -> threadCount = parseInt(arguments[++index]);
+				case "--lexicon" -> lexicon = Lexicon.valueOf(arguments[++index]);
+				case "--free-draw" -> drawRule = DrawRule.FREE;
+				case "--random" -> randomFactory = RandomGeneratorFactory.of(arguments[++index])::create;
+				case "--quiet" -> quiet = true;
+				default -> throw new IllegalArgumentException("unknown option: " + arguments[index]);
+			}
+		}
+
+		var simulator = new DuplicateSimulator(lexicon.get(), lexicon.getTiles(), drawRule, randomFactory);
+
+		Consumer<SimulatedGame> consumer = quiet ?
+				game -> {
+				} :
+				System.out::println;
+
+		var report = simulator.run(gameCount, seed, threadCount, consumer);
+		System.out.println(report);
+	}
+}
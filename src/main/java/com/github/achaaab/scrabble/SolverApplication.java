@@ -9,7 +9,7 @@ import com.github.achaaab.scrabble.view.solver.SolverView;
 import javax.swing.JFrame;
 import javax.swing.JPanel;
 
-import static com.github.achaaab.scrabble.model.core.Dictionary.FRENCH_ODS9;
+import static com.github.achaaab.scrabble.model.core.Lexicon.FRENCH_ODS9;
 import static com.github.achaaab.scrabble.model.core.Tile.getFrenchTiles;
 import static com.github.achaaab.scrabble.tools.ResourceUtilities.loadImage;
 import static com.github.achaaab.scrabble.view.ViewUtilities.showException;
@@ -31,13 +31,15 @@ public class SolverApplication {
 	 */
 	public static void main(String... arguments) {
 
+		FRENCH_ODS9.preload();
+
 		try {
 			setLookAndFeel(getSystemLookAndFeelClassName());
 		} catch (Exception exception) {
 			showException(exception);
 		}
 
-		var solver = new Solver(getFrenchTiles(), FRENCH_ODS9);
+		var solver = new Solver(getFrenchTiles(), FRENCH_ODS9.get());
 		solver.sheet().add(new SolverSheetEntry());
 
 		var window = new JFrame("Scrabble solver");
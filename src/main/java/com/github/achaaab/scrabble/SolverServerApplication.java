@@ -0,0 +1,61 @@
+package com.github.achaaab.scrabble;
+
+import com.github.achaaab.scrabble.model.core.Lexicon;
+import com.github.achaaab.scrabble.model.move.LeaveTable;
+import com.github.achaaab.scrabble.server.SolverServer;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.file.Path;
+import java.util.ArrayList;
+
+import static java.lang.Integer.parseInt;
+
+/**
+ * Command line solver server, see {@link SolverServer}. Options:
+ * <ul>
+ *   <li>{@code --host <name>}: host name or address to bind, {@code localhost} by default,</li>
+ *   <li>{@code --port <port>}: port to bind, 8080 by default,</li>
+ *   <li>{@code --lexicon <name>}: {@link Lexicon} to load before serving, repeatable, other lexicons being loaded on
+ *   first request,</li>
+ *   <li>{@code --leaves <path>}: leave table file, see {@link LeaveTable#load(Path)}, to rank moves by equity
+ *   rather than by score.</li>
+ * </ul>
+ *
+ * @author Jonathan Guéhenneux
+ * @since 1.1.0
+ */
+public class SolverServerApplication {
+
+	/**
+	 * @param arguments options, see {@link SolverServerApplication}
+	 * @throws IOException if the server address cannot be bound
+	 * @since 1.1.0
+	 */
+	public static void main(String... arguments) throws IOException {
+
+		var host = "localhost";
+		var port = 8080;
+		var lexicons = new ArrayList<Lexicon>();
+		LeaveTable leaveTable = null;
+
+		for (var index = 0; index < arguments.length; index++) {
+
+			switch (arguments[index]) {
+
+				case "--host" -> host = arguments[++index];
+				case "--port" -> port = parseInt(arguments[++index]);
+				case "--lexicon" -> lexicons.add(Lexicon.valueOf(arguments[++index]));
+				case "--leaves" -> leaveTable = LeaveTable.load(Path.of(arguments[++index]));
+				default -> throw new IllegalArgumentException("unknown option: " + arguments[index]);
+			}
+		}
+
+		var server = new SolverServer(new InetSocketAddress(host, port));
+		server.setLeaveTable(leaveTable);
+		lexicons.forEach(server::getDictionary);
+		server.start();
+
+		System.out.println("solver server listening on " + server.getAddress());
+	}
+}
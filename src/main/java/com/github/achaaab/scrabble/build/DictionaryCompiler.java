@@ -0,0 +1,42 @@
+package com.github.achaaab.scrabble.build;
+
+import com.github.achaaab.scrabble.model.core.Dictionary;
+
+import java.nio.file.Path;
+
+import static com.github.achaaab.scrabble.model.core.Dictionary.COMPILED_EXTENSION;
+
+/**
+ * Script compiling word lists into binary dictionary files, which can then be loaded in a few milliseconds with
+ * {@link Dictionary#load(Path)}.
+ *
+ * @author Jonathan Guéhenneux
+ * @since 1.1.0
+ */
+public class DictionaryCompiler {
+
+	/**
+	 * Compiles the specified dictionary resources to the target directory. Each compiled file is named after its
+	 * resource, with the {@link Dictionary#COMPILED_EXTENSION} extension.
+	 *
+	 * @param arguments names of the dictionary resources to compile, {@code dictionaries/csw21.txt} if none
+	 * @since 1.1.0
+	 */
+	public static void main(String... arguments) {
+
+		var resourceNames = arguments.length == 0 ? new String[] { "dictionaries/csw21.txt" } : arguments;
+
+		for (var resourceName : resourceNames) {
+
+			var fileName = Path.of(resourceName).getFileName().toString();
+			var extensionIndex = fileName.lastIndexOf('.');
+
+			if (extensionIndex != -1) {
+				fileName = fileName.substring(0, extensionIndex);
+			}
+
+			var path = Path.of("target", fileName + COMPILED_EXTENSION);
+			new Dictionary(resourceName).save(path);
+		}
+	}
+}
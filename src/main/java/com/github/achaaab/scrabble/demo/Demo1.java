@@ -11,7 +11,7 @@ import javax.swing.JFrame;
 import java.awt.FlowLayout;
 import java.lang.reflect.InvocationTargetException;
 
-import static com.github.achaaab.scrabble.model.core.Dictionary.FRENCH_ODS9;
+import static com.github.achaaab.scrabble.model.core.Lexicon.FRENCH_ODS9;
 import static com.github.achaaab.scrabble.model.core.Tile.getFrenchTiles;
 import static javax.swing.SwingUtilities.invokeAndWait;
 import static javax.swing.WindowConstants.EXIT_ON_CLOSE;
@@ -25,7 +25,7 @@ public class Demo1 {
 		var bag = new Bag();
 
 		var duplicate = new Duplicate(board, rack, bag);
-		var evaluator = new Evaluator(board, FRENCH_ODS9);
+		var evaluator = new Evaluator(board, FRENCH_ODS9.get());
 
 		var window = new JFrame("Test Scrabble");
 		window.setDefaultCloseOperation(EXIT_ON_CLOSE);
@@ -63,7 +63,7 @@ public class Demo1 {
 					}
 				}
 
-				var optionalBestMove = evaluator.listMoves(rack).stream().findFirst();
+				var optionalBestMove = evaluator.getBestMove(rack);
 
 				if (optionalBestMove.isEmpty()) {
 					break;
@@ -8,9 +8,39 @@ package com.github.achaaab.scrabble.model.core;
  */
 public enum Award {
 
-	NONE,
-	LETTER_DOUBLE,
-	LETTER_TRIPLE,
-	WORD_DOUBLE,
-	WORD_TRIPLE
+	NONE(1, 1),
+	LETTER_DOUBLE(2, 1),
+	LETTER_TRIPLE(3, 1),
+	WORD_DOUBLE(1, 2),
+	WORD_TRIPLE(1, 3);
+
+	private final int letterMultiplier;
+	private final int wordMultiplier;
+
+	/**
+	 * @param letterMultiplier multiplier applied to the value of a tile placed on a square with this award
+	 * @param wordMultiplier multiplier applied to the words formed by a tile placed on a square with this award
+	 * @since 1.1.0
+	 */
+	Award(int letterMultiplier, int wordMultiplier) {
+
+		this.letterMultiplier = letterMultiplier;
+		this.wordMultiplier = wordMultiplier;
+	}
+
+	/**
+	 * @return multiplier applied to the value of a tile placed on a square with this award
+	 * @since 1.1.0
+	 */
+	public int letterMultiplier() {
+		return letterMultiplier;
+	}
+
+	/**
+	 * @return multiplier applied to the words formed by a tile placed on a square with this award
+	 * @since 1.1.0
+	 */
+	public int wordMultiplier() {
+		return wordMultiplier;
+	}
 }
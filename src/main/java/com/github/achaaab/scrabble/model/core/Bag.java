@@ -3,7 +3,8 @@ package com.github.achaaab.scrabble.model.core;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.NoSuchElementException;
-import java.util.Random;
+import java.util.SplittableRandom;
+import java.util.random.RandomGenerator;
 
 /**
  * A bag of tiles.
@@ -13,10 +14,31 @@ import java.util.Random;
  */
 public class Bag extends TileCollection {
 
-	private static final Random RANDOM = new Random();
+	private final RandomGenerator random;
 
 	/**
-	 * Picks a random tile from this bag.
+	 * Creates an empty bag, drawing tiles with its own unseeded random generator.
+	 *
+	 * @since 0.0.0
+	 */
+	public Bag() {
+		this(new SplittableRandom());
+	}
+
+	/**
+	 * Creates an empty bag, drawing tiles with the specified random generator. Draws are reproducible with a seeded
+	 * generator. The generator is not synchronized by this bag, so it should not be shared with other threads.
+	 *
+	 * @param random random generator used to draw tiles
+	 * @since 1.1.0
+	 */
+	public Bag(RandomGenerator random) {
+		this.random = random;
+	}
+
+	/**
+	 * Picks a random tile from this bag. Each tile has the same probability to be picked, so each letter is picked
+	 * with a probability proportional to its count.
 	 *
 	 * @return picked tile
 	 * @since 0.0.0
@@ -27,9 +49,14 @@ public class Bag extends TileCollection {
 			throw new NoSuchElementException("This bag is empty.");
 		}
 
-		var tileCount = tiles.size();
-		var tileIndex = RANDOM.nextInt(tileCount);
-		return tiles.remove(tileIndex);
+		var slot = 0;
+		var remaining = random.nextInt(size);
+
+		while (remaining >= counts[slot]) {
+			remaining -= counts[slot++];
+		}
+
+		return take(slot, null);
 	}
 
 	/**
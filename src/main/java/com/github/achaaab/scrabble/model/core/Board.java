@@ -2,6 +2,7 @@ package com.github.achaaab.scrabble.model.core;
 
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.BitSet;
 import java.util.HashMap;
 import java.util.LinkedList;
 import java.util.List;
@@ -14,8 +15,7 @@ import static com.github.achaaab.scrabble.model.core.Award.LETTER_TRIPLE;
 import static com.github.achaaab.scrabble.model.core.Award.NONE;
 import static com.github.achaaab.scrabble.model.core.Award.WORD_DOUBLE;
 import static com.github.achaaab.scrabble.model.core.Award.WORD_TRIPLE;
-import static com.github.achaaab.scrabble.model.core.Direction.HORIZONTAL;
-import static com.github.achaaab.scrabble.model.core.Direction.VERTICAL;
+import static com.github.achaaab.scrabble.model.core.CrossChecks.ALL_LINES;
 
 /**
  * Scrabble 15x15 board.
@@ -27,6 +27,7 @@ public class Board {
 
 	public static final int SIZE = 15;
 	public static final int HALF_SIZE = SIZE / 2;
+	public static final int SQUARE_COUNT = SIZE * SIZE;
 
 	private static final Set<String> DOUBLE_WORD_SQUARES = Set.of(
 			"B2", "B14", "C3", "C13", "D4", "D12", "E5", "E11", "H8",
@@ -70,6 +71,10 @@ public class Board {
 
 	private final Square[][] squares;
 	private final Map<String, Reference> references;
+	private final Reference[] squareReferences;
+	private final List<CrossChecks> crossChecks;
+	private final BitSet anchors;
+	private final Grid grid;
 
 	/**
 	 * Creates an empty board.
@@ -80,6 +85,9 @@ public class Board {
 
 		squares = new Square[SIZE][SIZE];
 		references = new HashMap<>();
+		squareReferences = new Reference[2 * SQUARE_COUNT];
+		crossChecks = new ArrayList<>();
+		anchors = new BitSet(SQUARE_COUNT);
 
 		for (var column = 0; column < SIZE; column++) {
 			for (var row = 0; row < SIZE; row++) {
@@ -89,10 +97,28 @@ public class Board {
 				var square = new Square(this, column, row, award);
 
 				squares[column][row] = square;
-				references.put(square.getKey(HORIZONTAL), new Reference(square, HORIZONTAL));
-				references.put(square.getKey(VERTICAL), new Reference(square, VERTICAL));
+
+				for (var direction : Direction.values()) {
+
+					var reference = new Reference(square, direction);
+					references.put(square.getKey(direction), reference);
+					squareReferences[direction.ordinal() * SQUARE_COUNT + square.index()] = reference;
+				}
 			}
 		}
+
+		grid = new Grid(this);
+		updateAnchors();
+	}
+
+	/**
+	 * Gets the primitive representation of this board, maintained each time a tile is placed or removed.
+	 *
+	 * @return grid of this board
+	 * @since 1.1.0
+	 */
+	public Grid grid() {
+		return grid;
 	}
 
 	/**
@@ -108,6 +134,18 @@ public class Board {
 		return squares[column][row];
 	}
 
+	/**
+	 * Gets the square at the specified index.
+	 *
+	 * @param index square index, see {@link Square#index()}
+	 * @return square at the specified index
+	 * @throws ArrayIndexOutOfBoundsException if the specified index is out of bounds
+	 * @since 1.1.0
+	 */
+	public Square getSquare(int index) {
+		return squares[index / SIZE][index % SIZE];
+	}
+
 	/**
 	 * Gets a reference from its key.
 	 *
@@ -128,7 +166,19 @@ public class Board {
 	 * @since 0.0.0
 	 */
 	public Reference getReference(Square square, Direction direction) {
-		return getReference(square.getKey(direction));
+		return getReference(square.index(), direction);
+	}
+
+	/**
+	 * Gets a reference from a square index and direction.
+	 *
+	 * @param index index of the reference square, see {@link Square#index()}
+	 * @param direction reference direction
+	 * @return reference
+	 * @since 1.1.0
+	 */
+	public Reference getReference(int index, Direction direction) {
+		return squareReferences[direction.ordinal() * SQUARE_COUNT + index];
 	}
 
 	/**
@@ -136,29 +186,243 @@ public class Board {
 	 *
 	 * @param tiles tiles to play
 	 * @param reference reference indicating the starting square and the layout direction
+	 * @return placement of the tiles, to remove them with {@link #unplay(Placement)}
 	 * @throws IllegalArgumentException if the given tiles do not fit at the given reference
 	 * @since 0.0.0
 	 */
-	public void play(List<Tile> tiles, Reference reference) {
+	public Placement play(List<Tile> tiles, Reference reference) {
 
 		var square = reference.square();
 		var direction = reference.direction();
+		var tileCount = tiles.size();
+		var placedSquares = new int[tileCount];
+		var placedTiles = new Tile[tileCount];
+		var columns = 0;
+		var rows = 0;
+
+		try {
+
+			for (var index = 0; index < tileCount; index++) {
 
-		for (var tile : tiles) {
+				var tile = tiles.get(index);
 
-			while (square.hasTile()) {
+				while (square.hasTile()) {
 
-				square = square.getNext(direction);
+					square = square.getNext(direction);
 
-				if (square == null) {
-					throw new IllegalArgumentException();
+					if (square == null) {
+						throw new IllegalArgumentException();
+					}
 				}
+
+				setTile(square, tile);
+				placedSquares[index] = square.index();
+				placedTiles[index] = tile;
+
+				columns |= 1 << square.column();
+				rows |= 1 << square.row();
+			}
+
+		} finally {
+
+			update(columns, rows);
+		}
+
+		return new Placement(this, placedSquares, placedTiles);
+	}
+
+	/**
+	 * Removes tiles placed by {@link #play(List, Reference)}, restoring squares, anchors and cross-checks as they were
+	 * before. Only the squares of the placement and their lines are updated.
+	 * Placements must be removed in the reverse order they were played.
+	 *
+	 * @param placement placement to remove
+	 * @throws IllegalArgumentException if the specified placement was not played on this board or if its tiles are no
+	 * longer on this board
+	 * @since 1.1.0
+	 */
+	public void unplay(Placement placement) {
+
+		var tileCount = placement.size();
+
+		if (placement.board() != this) {
+			throw new IllegalArgumentException();
+		}
+
+		for (var index = 0; index < tileCount; index++) {
+
+			if (getSquare(placement.getSquare(index)).getTile() != placement.getTile(index)) {
+				throw new IllegalArgumentException();
+			}
+		}
+
+		var columns = 0;
+		var rows = 0;
+
+		for (var index = tileCount - 1; index >= 0; index--) {
+
+			var square = getSquare(placement.getSquare(index));
+			setTile(square, null);
+
+			columns |= 1 << square.column();
+			rows |= 1 << square.row();
+		}
+
+		update(columns, rows);
+	}
+
+	/**
+	 * Sets the tile of a square, updating the grid and the anchors. The caller is responsible for updating the
+	 * cross-checks.
+	 *
+	 * @param square square
+	 * @param tile tile to set, {@code null} to clear the square
+	 * @since 1.1.0
+	 */
+	private void setTile(Square square, Tile tile) {
+
+		square.putTile(tile);
+		grid.set(square.index(), tile);
+		updateAnchors(square);
+	}
+
+	/**
+	 * Gets the cross-checks of this board for the specified dictionary. Cross-checks are created on first call, then
+	 * maintained by this board each time a tile is placed or removed.
+	 *
+	 * @param dictionary dictionary to check across words with
+	 * @return cross-checks of this board for the specified dictionary
+	 * @since 1.1.0
+	 */
+	public CrossChecks getCrossChecks(Dictionary dictionary) {
+
+		return crossChecks.stream().
+				filter(dictionaryCrossChecks -> dictionaryCrossChecks.dictionary() == dictionary).
+				findFirst().
+				orElseGet(() -> {
+
+					var dictionaryCrossChecks = new CrossChecks(this, dictionary);
+					crossChecks.add(dictionaryCrossChecks);
+					return dictionaryCrossChecks;
+				});
+	}
+
+	/**
+	 * Updates the state maintained by this board after a tile was placed on or removed from the specified square.
+	 *
+	 * @param square changed square
+	 * @since 1.1.0
+	 */
+	void update(Square square) {
+
+		grid.set(square.index(), square.getTile());
+		updateAnchors(square);
+		update(1 << square.column(), 1 << square.row());
+	}
+
+	/**
+	 * Updates the state maintained by this board after tiles were placed on or removed from the specified lines.
+	 *
+	 * @param columns mask of the changed columns, bit {@code i} for column {@code i}
+	 * @param rows mask of the changed rows, bit {@code i} for row {@code i}
+	 * @since 1.1.0
+	 */
+	private void update(int columns, int rows) {
+
+		if (columns != 0 || rows != 0) {
+			crossChecks.forEach(dictionaryCrossChecks -> dictionaryCrossChecks.update(columns, rows));
+		}
+	}
+
+	/**
+	 * Determines if a square is an anchor square. Anchor squares are maintained by this board, so this check is done
+	 * in constant time.
+	 *
+	 * @param square square of this board
+	 * @return whether the specified square is an anchor
+	 * @see Square#isAnchor()
+	 * @since 1.1.0
+	 */
+	boolean isAnchor(Square square) {
+		return isAnchor(square.index());
+	}
+
+	/**
+	 * Determines if the square at the specified index is an anchor square.
+	 *
+	 * @param index square index, see {@link Square#index()}
+	 * @return whether the square at the specified index is an anchor
+	 * @see Square#isAnchor()
+	 * @since 1.1.0
+	 */
+	public boolean isAnchor(int index) {
+		return anchors.get(index);
+	}
+
+	/**
+	 * Gets the index of the first anchor square at or after the specified index. Anchor squares can be iterated with:
+	 * <pre>{@code
+	 * for (var index = board.getNextAnchor(0); index != -1; index = board.getNextAnchor(index + 1)) {
+	 *     var anchor = board.getSquare(index);
+	 * }
+	 * }</pre>
+	 *
+	 * @param index square index to start from, inclusive
+	 * @return index of the next anchor square, {@code -1} if there is none
+	 * @since 1.1.0
+	 */
+	public int getNextAnchor(int index) {
+		return anchors.nextSetBit(index);
+	}
+
+	/**
+	 * Recomputes the anchor state of all squares.
+	 *
+	 * @since 1.1.0
+	 */
+	private void updateAnchors() {
+		squares().forEach(this::updateAnchor);
+	}
+
+	/**
+	 * Recomputes the anchor state of the squares depending on the specified square: the square itself and its
+	 * adjacent squares.
+	 *
+	 * @param square changed square
+	 * @since 1.1.0
+	 */
+	private void updateAnchors(Square square) {
+
+		updateAnchor(square);
+
+		for (var direction : Direction.values()) {
+
+			var previous = square.getPrevious(direction);
+			var next = square.getNext(direction);
+
+			if (previous != null) {
+				updateAnchor(previous);
 			}
 
-			square.setTile(tile);
+			if (next != null) {
+				updateAnchor(next);
+			}
 		}
 	}
 
+	/**
+	 * Recomputes the anchor state of a square. An anchor square is an empty square adjacent to at least 1 square with
+	 * a tile. The central square is always an anchor square while it is empty.
+	 *
+	 * @param square square to update
+	 * @since 1.1.0
+	 */
+	private void updateAnchor(Square square) {
+
+		var index = square.index();
+		anchors.set(index, grid.isEmpty(index) && (square.isCentral() || grid.hasAdjacentTile(index)));
+	}
+
 	/**
 	 * Gets the adjacent tiles before a square in a direction.
 	 *
@@ -221,6 +485,25 @@ public class Board {
 	 * @since 0.0.0
 	 */
 	public void clear() {
-		squares().forEach(Square::clear);
+
+		squares().forEach(square -> square.putTile(null));
+		grid.clear();
+		updateAnchors();
+		update(ALL_LINES, ALL_LINES);
+	}
+
+	/**
+	 * Copies the tiles of another board on this board, replacing the tiles of this board. Tiles are shared, not copied.
+	 *
+	 * @param board board whose tiles to copy
+	 * @since 1.1.0
+	 */
+	public void copy(Board board) {
+
+		for (var index = 0; index < SQUARE_COUNT; index++) {
+			setTile(getSquare(index), board.getSquare(index).getTile());
+		}
+
+		update(ALL_LINES, ALL_LINES);
 	}
 }
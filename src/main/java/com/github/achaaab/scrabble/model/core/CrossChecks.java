@@ -0,0 +1,243 @@
+package com.github.achaaab.scrabble.model.core;
+
+import com.github.achaaab.scrabble.tools.Dawg;
+
+import static com.github.achaaab.scrabble.model.core.Board.SIZE;
+import static com.github.achaaab.scrabble.model.core.Board.SQUARE_COUNT;
+import static com.github.achaaab.scrabble.model.core.Dictionary.LETTER_COUNT;
+import static com.github.achaaab.scrabble.model.core.Direction.HORIZONTAL;
+import static com.github.achaaab.scrabble.model.core.Direction.VERTICAL;
+import static com.github.achaaab.scrabble.model.core.Grid.getStep;
+import static com.github.achaaab.scrabble.tools.Dawg.NONE;
+import static com.github.achaaab.scrabble.tools.Dawg.ROOT;
+
+/**
+ * Cross-checks of a board for a dictionary. For each empty square and each layout direction, a cross-check is a mask
+ * of the letters that can be placed on the square without forming an invalid word in the across direction:
+ * <ul>
+ *   <li>bit {@code i} (from 0 to {@link Dictionary#LETTER_COUNT} excluded) is set if letter {@code 'A' + i} can be
+ *   placed,</li>
+ *   <li>bit {@link #CROSS_WORD} is set if placing a tile on the square forms a word in the across direction.</li>
+ * </ul>
+ * The sum of the values of the tiles forming the across word (not counting the placed tile) is cached along with the
+ * mask.
+ * <p>
+ * Cross-checks are maintained by their board, which only recomputes the lines affected by a change.
+ *
+ * @author Jonathan Guéhenneux
+ * @since 1.1.0
+ */
+public class CrossChecks {
+
+	public static final int ALL_LETTERS = (1 << LETTER_COUNT) - 1;
+	public static final int CROSS_WORD = 1 << LETTER_COUNT;
+
+	static final int ALL_LINES = (1 << SIZE) - 1;
+
+	/**
+	 * @param index square index
+	 * @param direction layout direction
+	 * @return index of the specified square and direction in the mask and score arrays
+	 * @since 1.1.0
+	 */
+	private static int getIndex(int index, Direction direction) {
+		return direction.ordinal() * SQUARE_COUNT + index;
+	}
+
+	private final Grid grid;
+	private final Dictionary dictionary;
+	private final Dawg dawg;
+	private final int[] masks;
+	private final int[] scores;
+
+	/**
+	 * Creates the cross-checks of a board for a dictionary.
+	 *
+	 * @param board board
+	 * @param dictionary dictionary to check across words with
+	 * @since 1.1.0
+	 */
+	CrossChecks(Board board, Dictionary dictionary) {
+
+		this.dictionary = dictionary;
+
+		grid = board.grid();
+		dawg = dictionary.dawg();
+		masks = new int[2 * SQUARE_COUNT];
+		scores = new int[2 * SQUARE_COUNT];
+
+		update(ALL_LINES, ALL_LINES);
+	}
+
+	/**
+	 * @return dictionary used to check across words
+	 * @since 1.1.0
+	 */
+	public Dictionary dictionary() {
+		return dictionary;
+	}
+
+	/**
+	 * Gets the cross-check of a square.
+	 *
+	 * @param square empty square
+	 * @param direction direction of the word being played
+	 * @return mask of the letters that can be placed on the specified square, combined with {@link #CROSS_WORD} if
+	 * an across word is formed
+	 * @since 1.1.0
+	 */
+	public int getMask(Square square, Direction direction) {
+		return getMask(square.index(), direction);
+	}
+
+	/**
+	 * Gets the cross-check of a square.
+	 *
+	 * @param index index of an empty square
+	 * @param direction direction of the word being played
+	 * @return mask of the letters that can be placed on the specified square, combined with {@link #CROSS_WORD} if
+	 * an across word is formed
+	 * @since 1.1.0
+	 */
+	public int getMask(int index, Direction direction) {
+		return masks[getIndex(index, direction)];
+	}
+
+	/**
+	 * Gets the cached score of the across word formed when placing a tile on a square.
+	 *
+	 * @param square empty square
+	 * @param direction direction of the word being played
+	 * @return sum of the values of the tiles before and after the specified square in the across direction
+	 * @since 1.1.0
+	 */
+	public int getScore(Square square, Direction direction) {
+		return getScore(square.index(), direction);
+	}
+
+	/**
+	 * Gets the cached score of the across word formed when placing a tile on a square.
+	 *
+	 * @param index index of an empty square
+	 * @param direction direction of the word being played
+	 * @return sum of the values of the tiles before and after the specified square in the across direction
+	 * @since 1.1.0
+	 */
+	public int getScore(int index, Direction direction) {
+		return scores[getIndex(index, direction)];
+	}
+
+	/**
+	 * Recomputes the cross-checks affected by changes in the specified columns and rows.
+	 * A change in a column affects the vertical across words, and thus horizontal cross-checks, of this column.
+	 * A change in a row affects the horizontal across words, and thus vertical cross-checks, of this row.
+	 *
+	 * @param columns mask of the changed columns, bit {@code i} for column {@code i}
+	 * @param rows mask of the changed rows, bit {@code i} for row {@code i}
+	 * @since 1.1.0
+	 */
+	void update(int columns, int rows) {
+
+		for (var column = 0; column < SIZE; column++) {
+
+			if ((columns & 1 << column) != 0) {
+
+				for (var row = 0; row < SIZE; row++) {
+					update(column * SIZE + row, HORIZONTAL);
+				}
+			}
+		}
+
+		for (var row = 0; row < SIZE; row++) {
+
+			if ((rows & 1 << row) != 0) {
+
+				for (var column = 0; column < SIZE; column++) {
+					update(column * SIZE + row, VERTICAL);
+				}
+			}
+		}
+	}
+
+	/**
+	 * Recomputes the cross-check of a square.
+	 *
+	 * @param index square index
+	 * @param direction direction of the word being played
+	 * @since 1.1.0
+	 */
+	private void update(int index, Direction direction) {
+
+		var mask = 0;
+		var score = 0;
+
+		if (grid.isEmpty(index)) {
+
+			var acrossDirection = direction.across();
+			var step = getStep(acrossDirection);
+			var prefixLength = grid.getTileCountBefore(index, acrossDirection);
+			var suffixLength = grid.getTileCountAfter(index, acrossDirection);
+
+			if (prefixLength > 0 || suffixLength > 0) {
+
+				var node = ROOT;
+
+				for (var previous = index - prefixLength * step; previous != index; previous += step) {
+
+					score += grid.getValue(previous);
+
+					if (node != NONE) {
+						node = dawg.getChild(node, grid.getLetterIndex(previous));
+					}
+				}
+
+				for (var next = index + step; next <= index + suffixLength * step; next += step) {
+					score += grid.getValue(next);
+				}
+
+				mask = CROSS_WORD;
+
+				if (node != NONE) {
+
+					var end = dawg.getEdgeEnd(node);
+
+					for (var edge = dawg.getEdgeStart(node); edge < end; edge++) {
+
+						var letterIndex = dawg.getLetterIndex(edge);
+
+						if (letterIndex < LETTER_COUNT && isWord(dawg.getTarget(edge), index, suffixLength, step)) {
+							mask |= 1 << letterIndex;
+						}
+					}
+				}
+
+			} else {
+
+				mask = ALL_LETTERS;
+			}
+		}
+
+		var crossIndex = getIndex(index, direction);
+		masks[crossIndex] = mask;
+		scores[crossIndex] = score;
+	}
+
+	/**
+	 * Determines if the tiles following the specified square complete a word from the specified node.
+	 *
+	 * @param node current node
+	 * @param index index of the square preceding the tiles to follow
+	 * @param length number of tiles to follow
+	 * @param step step between the tiles to follow
+	 * @return whether a word is completed
+	 * @since 1.1.0
+	 */
+	private boolean isWord(int node, int index, int length, int step) {
+
+		for (var next = index + step; node != NONE && next <= index + length * step; next += step) {
+			node = dawg.getChild(node, grid.getLetterIndex(next));
+		}
+
+		return node != NONE && dawg.isWord(node);
+	}
+}
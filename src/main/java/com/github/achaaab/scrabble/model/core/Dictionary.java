@@ -1,11 +1,37 @@
 package com.github.achaaab.scrabble.model.core;
 
+import com.github.achaaab.scrabble.tools.Dawg;
+import com.github.achaaab.scrabble.tools.DawgBuilder;
+import com.github.achaaab.scrabble.tools.Gaddag;
 import com.github.achaaab.scrabble.tools.Trie;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+import static com.github.achaaab.scrabble.tools.Dawg.ROOT;
 import static com.github.achaaab.scrabble.tools.ResourceUtilities.consumeLines;
+import static java.lang.Integer.BYTES;
+import static java.nio.ByteOrder.LITTLE_ENDIAN;
+import static java.nio.channels.FileChannel.MapMode.READ_ONLY;
+import static java.nio.channels.FileChannel.MapMode.READ_WRITE;
+import static java.nio.file.StandardOpenOption.CREATE;
+import static java.nio.file.StandardOpenOption.READ;
+import static java.nio.file.StandardOpenOption.TRUNCATE_EXISTING;
+import static java.nio.file.StandardOpenOption.WRITE;
+import static java.util.Comparator.naturalOrder;
+import static java.util.function.Predicate.not;
 
 /**
- * Scrabble dictionary.
+ * Scrabble dictionary. Built-in dictionaries are obtained from {@link Lexicon}.
+ * <p>
+ * A dictionary can be built from a word list, which takes a few seconds, or loaded from a compiled dictionary file,
+ * see {@link #save(Path)} and {@link #load(Path)}. A compiled dictionary file is made of a magic number, a format
+ * version, then the binary forms of the word graph and of the GADDAG, as described in {@link Dawg}.
  *
  * @author Jonathan Guéhenneux
  * @since 0.0.0
@@ -13,11 +39,50 @@ import static com.github.achaaab.scrabble.tools.ResourceUtilities.consumeLines;
 public class Dictionary {
 
 	public static final int LETTER_COUNT = 26;
+	public static final String COMPILED_EXTENSION = ".dawg";
+
+	private static final int MAGIC = 0x44524353;
+	private static final int VERSION = 1;
+
+	/**
+	 * Loads a compiled dictionary file. The file is memory-mapped and navigated in place: nothing is copied to the heap
+	 * and the pages of the file are shared by all the processes loading it.
+	 *
+	 * @param path path of the compiled dictionary file
+	 * @return loaded dictionary
+	 * @throws UncheckedIOException if an I/O error occurs while mapping the file
+	 * @throws IllegalArgumentException if the specified file is not a compiled dictionary
+	 * @since 1.1.0
+	 */
+	public static Dictionary load(Path path) {
+
+		try (var channel = FileChannel.open(path, READ)) {
+
+			var buffer = channel.map(READ_ONLY, 0, channel.size()).order(LITTLE_ENDIAN);
+
+			if (buffer.remaining() < 2 * BYTES || buffer.getInt() != MAGIC) {
+				throw new IllegalArgumentException(path + " is not a compiled dictionary");
+			}
+
+			var version = buffer.getInt();
+
+			if (version != VERSION) {
+				throw new IllegalArgumentException("unsupported dictionary version " + version + " in " + path);
+			}
 
-	public static final Dictionary FRENCH_ODS9 = new Dictionary("dictionaries/ods9.txt");
-	public static final Dictionary ENGLISH_CSW21 = new Dictionary("dictionaries/csw21.txt");
+			var dawg = Dawg.read(buffer);
+			var gaddag = Dawg.read(buffer);
 
-	private final Trie trie;
+			return new Dictionary(dawg, gaddag);
+
+		} catch (IOException cause) {
+
+			throw new UncheckedIOException(cause);
+		}
+	}
+
+	private final Dawg dawg;
+	private volatile Dawg gaddag;
 
 	/**
 	 * Creates a dictionary from a resource.
@@ -27,19 +92,158 @@ public class Dictionary {
 	 */
 	public Dictionary(String resourceName) {
 
-		trie = new Trie();
+		var words = new ArrayList<String>();
+
+		consumeLines(resourceName, word -> words.add(word.toUpperCase()));
+		words.sort(naturalOrder());
 
-		consumeLines(resourceName, this::add);
+		var builder = new DawgBuilder();
+		words.forEach(builder::add);
+		dawg = builder.build();
 	}
 
 	/**
-	 * Adds a word into this dictionary.
+	 * Creates a dictionary from its compiled graphs.
 	 *
-	 * @param word word to add
-	 * @since 0.0.0
+	 * @param dawg word graph
+	 * @param gaddag GADDAG
+	 * @since 1.1.0
+	 */
+	private Dictionary(Dawg dawg, Dawg gaddag) {
+
+		this.dawg = dawg;
+		this.gaddag = gaddag;
+	}
+
+	/**
+	 * Writes this dictionary to a compiled dictionary file, building the GADDAG if it was not already. The graphs are
+	 * written directly in the memory-mapped file, so that saving does not need a heap copy of the whole file.
+	 *
+	 * @param path path of the compiled dictionary file to write, replaced if it already exists
+	 * @throws UncheckedIOException if an I/O error occurs while writing the file
+	 * @see #load(Path)
+	 * @since 1.1.0
+	 */
+	public void save(Path path) {
+
+		var gaddag = gaddag();
+		var size = 2L * BYTES + dawg.getByteCount() + gaddag.getByteCount();
+
+		try (var channel = FileChannel.open(path, CREATE, TRUNCATE_EXISTING, READ, WRITE)) {
+
+			var buffer = channel.map(READ_WRITE, 0, size).order(LITTLE_ENDIAN);
+
+			buffer.putInt(MAGIC);
+			buffer.putInt(VERSION);
+			dawg.write(buffer);
+			gaddag.write(buffer);
+
+		} catch (IOException cause) {
+
+			throw new UncheckedIOException(cause);
+		}
+	}
+
+	/**
+	 * Checks whether a word is in this dictionary, ignoring case.
+	 *
+	 * @param word word to check
+	 * @return whether the specified word is in this dictionary
+	 * @since 1.1.0
+	 */
+	public boolean contains(CharSequence word) {
+		return dawg.contains(word);
+	}
+
+	/**
+	 * Checks a batch of words against this dictionary, ignoring case.
+	 *
+	 * @param words words to check
+	 * @return words not in this dictionary, in the order of the specified words
+	 * @since 1.1.0
+	 */
+	public List<String> getInvalidWords(Collection<? extends CharSequence> words) {
+
+		return words.stream().
+				filter(not(dawg::contains)).
+				map(CharSequence::toString).
+				toList();
+	}
+
+	/**
+	 * Finds the words made of all the specified letters, blank tiles standing for any letter.
+	 *
+	 * @param letters letters to use, ignoring case
+	 * @param blankCount number of blank tiles to use
+	 * @return anagrams, in alphabetical order
+	 * @throws IllegalArgumentException if a letter is not in the latin alphabet
+	 * @since 1.1.0
+	 */
+	public List<String> getAnagrams(CharSequence letters, int blankCount) {
+
+		var anagrams = new ArrayList<String>();
+		dawg.forEachAnagram(countLetters(letters), blankCount, true, anagrams::add);
+		return anagrams;
+	}
+
+	/**
+	 * Finds the words made of some of the specified letters, blank tiles standing for any letter.
+	 *
+	 * @param letters available letters, ignoring case
+	 * @param blankCount number of available blank tiles
+	 * @return sub-anagrams, in alphabetical order
+	 * @throws IllegalArgumentException if a letter is not in the latin alphabet
+	 * @since 1.1.0
+	 */
+	public List<String> getSubanagrams(CharSequence letters, int blankCount) {
+
+		var subanagrams = new ArrayList<String>();
+		dawg.forEachAnagram(countLetters(letters), blankCount, false, subanagrams::add);
+		return subanagrams;
+	}
+
+	/**
+	 * Finds the words matching a pattern, where {@value Dawg#ANY_LETTER} stands for any letter and
+	 * {@value Dawg#ANY_LETTERS} for any sequence of letters, possibly empty.
+	 *
+	 * @param pattern pattern to match, ignoring case
+	 * @return matching words, in alphabetical order
+	 * @throws IllegalArgumentException if the pattern is too long
+	 * @see Dawg#forEachMatch(CharSequence, java.util.function.Consumer)
+	 * @since 1.1.0
 	 */
-	private void add(String word) {
-		trie.add(word);
+	public List<String> getMatchingWords(CharSequence pattern) {
+
+		var words = new ArrayList<String>();
+		dawg.forEachMatch(pattern, words::add);
+		return words;
+	}
+
+	/**
+	 * Counts the letters of a sequence.
+	 *
+	 * @param letters letters to count, ignoring case
+	 * @return number of each letter, by letter index
+	 * @throws IllegalArgumentException if a letter is not in the latin alphabet
+	 * @since 1.1.0
+	 */
+	private static int[] countLetters(CharSequence letters) {
+
+		var letterCounts = new int[LETTER_COUNT];
+		var length = letters.length();
+
+		for (var index = 0; index < length; index++) {
+
+			var letter = Character.toUpperCase(letters.charAt(index));
+
+			if (letter < 'A' || letter > 'Z') {
+				throw new IllegalArgumentException("unsupported letter: " + letters.charAt(index));
+			}
+
+			letterCounts[letter - 'A']++;
+		}
+
+		return letterCounts;
 	}
 
 	/**
@@ -49,6 +253,44 @@ public class Dictionary {
 	 * @since 0.0.0
 	 */
 	public Trie trie() {
-		return trie;
+		return new Trie(dawg, ROOT);
+	}
+
+	/**
+	 * Returns the minimal word graph of this dictionary.
+	 *
+	 * @return word graph
+	 * @since 1.1.0
+	 */
+	public Dawg dawg() {
+		return dawg;
+	}
+
+	/**
+	 * Returns the GADDAG of this dictionary, building it on first call.
+	 *
+	 * @return GADDAG of this dictionary
+	 * @see Gaddag
+	 * @since 1.1.0
+	 */
+	public Dawg gaddag() {
+
+		var gaddag = this.gaddag;
+
+		if (gaddag == null) {
+
+			synchronized (this) {
+
+				gaddag = this.gaddag;
+
+				if (gaddag == null) {
+
+					gaddag = Gaddag.build(dawg);
+					this.gaddag = gaddag;
+				}
+			}
+		}
+
+		return gaddag;
 	}
 }
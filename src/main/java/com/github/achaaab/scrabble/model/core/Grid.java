@@ -0,0 +1,344 @@
+package com.github.achaaab.scrabble.model.core;
+
+import static com.github.achaaab.scrabble.model.core.Board.SIZE;
+import static com.github.achaaab.scrabble.model.core.Board.SQUARE_COUNT;
+import static com.github.achaaab.scrabble.model.core.Direction.HORIZONTAL;
+import static com.github.achaaab.scrabble.model.core.Direction.VERTICAL;
+import static com.github.achaaab.scrabble.tools.Toolbox.mix;
+import static java.lang.Integer.numberOfLeadingZeros;
+import static java.lang.Integer.numberOfTrailingZeros;
+
+/**
+ * Primitive representation of a board, for move generation and scoring. Squares are designated by their index
+ * (see {@link Square#index()}) and their content is stored in flat arrays:
+ * <ul>
+ *   <li>the letter code of each square, {@code 0} if the square is empty, {@code letterIndex + 1} otherwise,</li>
+ *   <li>the value of the tile of each square,</li>
+ *   <li>the letter and word multipliers of each square,</li>
+ *   <li>an occupancy bitboard for each row and each column, bit {@code i} being set if the square at position
+ *   {@code i} in the line has a tile.</li>
+ * </ul>
+ * Moving along a direction is a matter of adding or subtracting {@link #getStep(Direction)} to a square index.
+ * <p>
+ * A grid is maintained by its board, which remains the reference for the UI: {@link Board#getSquare(int)} and
+ * {@link Square#index()} map indices to squares and back.
+ *
+ * @author Jonathan Guéhenneux
+ * @since 1.1.0
+ */
+public class Grid {
+
+	public static final int OUTSIDE = -1;
+
+	/**
+	 * @param direction direction to move along
+	 * @return difference between the indices of consecutive squares along the specified direction
+	 * @since 1.1.0
+	 */
+	public static int getStep(Direction direction) {
+		return direction == HORIZONTAL ? SIZE : 1;
+	}
+
+	/**
+	 * @param index square index
+	 * @param direction direction of the line
+	 * @return position of the specified square in its line along the specified direction
+	 * @since 1.1.0
+	 */
+	public static int getPosition(int index, Direction direction) {
+		return direction == HORIZONTAL ? index / SIZE : index % SIZE;
+	}
+
+	/**
+	 * @param index square index
+	 * @param direction direction of the line
+	 * @return index of the line containing the specified square along the specified direction: the row for
+	 * {@link Direction#HORIZONTAL}, the column for {@link Direction#VERTICAL}
+	 * @since 1.1.0
+	 */
+	public static int getLine(int index, Direction direction) {
+		return direction == HORIZONTAL ? index % SIZE : index / SIZE;
+	}
+
+	/**
+	 * Gets the index of the square following a square along a direction.
+	 *
+	 * @param index square index
+	 * @param direction direction to consider
+	 * @return index of the next square, {@link #OUTSIDE} if there is no next square
+	 * @since 1.1.0
+	 */
+	public static int getNext(int index, Direction direction) {
+		return getPosition(index, direction) < SIZE - 1 ? index + getStep(direction) : OUTSIDE;
+	}
+
+	/**
+	 * Gets the index of the square preceding a square along a direction.
+	 *
+	 * @param index square index
+	 * @param direction direction to consider
+	 * @return index of the previous square, {@link #OUTSIDE} if there is no previous square
+	 * @since 1.1.0
+	 */
+	public static int getPrevious(int index, Direction direction) {
+		return getPosition(index, direction) > 0 ? index - getStep(direction) : OUTSIDE;
+	}
+
+	/**
+	 * Gets the Zobrist key of a tile on a square, the hash of a grid being the exclusive or of the keys of its tiles.
+	 *
+	 * @param index square index
+	 * @param letter letter code of the tile
+	 * @param value value of the tile
+	 * @return key of the specified tile on the specified square
+	 * @since 1.1.0
+	 */
+	private static long getKey(int index, int letter, int value) {
+		return mix((long) index << 16 | letter << 8 | value);
+	}
+
+	private final byte[] letters;
+	private final byte[] values;
+	private final byte[] letterMultipliers;
+	private final byte[] wordMultipliers;
+	private final int[] lines;
+
+	private long hash;
+
+	/**
+	 * Creates an empty grid.
+	 *
+	 * @param board board whose awards to copy
+	 * @since 1.1.0
+	 */
+	Grid(Board board) {
+
+		letters = new byte[SQUARE_COUNT];
+		values = new byte[SQUARE_COUNT];
+		letterMultipliers = new byte[SQUARE_COUNT];
+		wordMultipliers = new byte[SQUARE_COUNT];
+		lines = new int[2 * SIZE];
+
+		for (var index = 0; index < SQUARE_COUNT; index++) {
+
+			var award = board.getSquare(index).award();
+			letterMultipliers[index] = (byte) award.letterMultiplier();
+			wordMultipliers[index] = (byte) award.wordMultiplier();
+		}
+	}
+
+	/**
+	 * Sets the tile of a square.
+	 *
+	 * @param index square index
+	 * @param tile tile to set, {@code null} to clear the square
+	 * @since 1.1.0
+	 */
+	void set(int index, Tile tile) {
+
+		var column = index / SIZE;
+		var row = index % SIZE;
+
+		if (letters[index] != 0) {
+			hash ^= getKey(index, letters[index], values[index]);
+		}
+
+		if (tile == null) {
+
+			letters[index] = 0;
+			values[index] = 0;
+			lines[HORIZONTAL.ordinal() * SIZE + row] &= ~(1 << column);
+			lines[VERTICAL.ordinal() * SIZE + column] &= ~(1 << row);
+
+		} else {
+
+			letters[index] = (byte) (tile.letterIndex() + 1);
+			values[index] = (byte) tile.value();
+			lines[HORIZONTAL.ordinal() * SIZE + row] |= 1 << column;
+			lines[VERTICAL.ordinal() * SIZE + column] |= 1 << row;
+			hash ^= getKey(index, letters[index], values[index]);
+		}
+	}
+
+	/**
+	 * Clears all the squares.
+	 *
+	 * @since 1.1.0
+	 */
+	void clear() {
+
+		for (var index = 0; index < SQUARE_COUNT; index++) {
+
+			letters[index] = 0;
+			values[index] = 0;
+		}
+
+		for (var line = 0; line < lines.length; line++) {
+			lines[line] = 0;
+		}
+
+		hash = 0;
+	}
+
+	/**
+	 * Gets the Zobrist hash of this grid, maintained each time a tile is placed or removed. Grids with the same tiles
+	 * on the same squares have the same hash, whatever the order in which the tiles were placed. The hash of an empty
+	 * grid is {@code 0}.
+	 *
+	 * @return hash of the tiles of this grid
+	 * @since 1.1.0
+	 */
+	public long getHash() {
+		return hash;
+	}
+
+	/**
+	 * @param index square index
+	 * @return whether the specified square has a tile
+	 * @since 1.1.0
+	 */
+	public boolean hasTile(int index) {
+		return letters[index] != 0;
+	}
+
+	/**
+	 * @param index square index
+	 * @return whether the specified square is empty
+	 * @since 1.1.0
+	 */
+	public boolean isEmpty(int index) {
+		return letters[index] == 0;
+	}
+
+	/**
+	 * @param index index of a square with a tile
+	 * @return letter index of the tile on the specified square, the assigned letter for a blank tile
+	 * @since 1.1.0
+	 */
+	public int getLetterIndex(int index) {
+		return letters[index] - 1;
+	}
+
+	/**
+	 * @param index index of a square with a tile
+	 * @return letter of the tile on the specified square, the assigned letter for a blank tile
+	 * @since 1.1.0
+	 */
+	public char getLetter(int index) {
+		return (char) ('A' + letters[index] - 1);
+	}
+
+	/**
+	 * @param index square index
+	 * @return value of the tile on the specified square, {@code 0} if the square is empty
+	 * @since 1.1.0
+	 */
+	public int getValue(int index) {
+		return values[index];
+	}
+
+	/**
+	 * @param index square index
+	 * @return letter multiplier of the specified square
+	 * @since 1.1.0
+	 */
+	public int getLetterMultiplier(int index) {
+		return letterMultipliers[index];
+	}
+
+	/**
+	 * @param index square index
+	 * @return word multiplier of the specified square
+	 * @since 1.1.0
+	 */
+	public int getWordMultiplier(int index) {
+		return wordMultipliers[index];
+	}
+
+	/**
+	 * Gets the occupancy bitboard of a line.
+	 *
+	 * @param line row index for {@link Direction#HORIZONTAL}, column index for {@link Direction#VERTICAL}
+	 * @param direction direction of the line
+	 * @return occupancy of the specified line, bit {@code i} being set if the square at position {@code i} has a tile
+	 * @since 1.1.0
+	 */
+	public int getOccupancy(int line, Direction direction) {
+		return lines[direction.ordinal() * SIZE + line];
+	}
+
+	/**
+	 * Counts the consecutive tiles right before a square along a direction.
+	 *
+	 * @param index square index
+	 * @param direction direction to consider
+	 * @return number of consecutive tiles before the specified square
+	 * @since 1.1.0
+	 */
+	public int getTileCountBefore(int index, Direction direction) {
+
+		var position = getPosition(index, direction);
+
+		return position == 0 ?
+				0 :
+				numberOfLeadingZeros(~(getOccupancy(getLine(index, direction), direction) << Integer.SIZE - position));
+	}
+
+	/**
+	 * Counts the consecutive tiles right after a square along a direction.
+	 *
+	 * @param index square index
+	 * @param direction direction to consider
+	 * @return number of consecutive tiles after the specified square
+	 * @since 1.1.0
+	 */
+	public int getTileCountAfter(int index, Direction direction) {
+
+		var position = getPosition(index, direction);
+		return numberOfTrailingZeros(~(getOccupancy(getLine(index, direction), direction) >>> position + 1));
+	}
+
+	/**
+	 * Determines if a square has a tile right before it along a direction.
+	 *
+	 * @param index square index
+	 * @param direction direction to consider
+	 * @return whether the previous square has a tile
+	 * @since 1.1.0
+	 */
+	public boolean hasPreviousTile(int index, Direction direction) {
+
+		var position = getPosition(index, direction);
+		return position > 0 && (getOccupancy(getLine(index, direction), direction) & 1 << position - 1) != 0;
+	}
+
+	/**
+	 * Determines if a square has a tile right after it along a direction.
+	 *
+	 * @param index square index
+	 * @param direction direction to consider
+	 * @return whether the next square has a tile
+	 * @since 1.1.0
+	 */
+	public boolean hasNextTile(int index, Direction direction) {
+
+		var position = getPosition(index, direction);
+		return (getOccupancy(getLine(index, direction), direction) & 1 << position + 1) != 0;
+	}
+
+	/**
+	 * Determines if a square has at least one adjacent square (left, right, top or bottom) with a tile.
+	 *
+	 * @param index square index
+	 * @return whether the specified square has an adjacent square with a tile
+	 * @since 1.1.0
+	 */
+	public boolean hasAdjacentTile(int index) {
+
+		var column = index / SIZE;
+		var row = index % SIZE;
+
+		return (getOccupancy(row, HORIZONTAL) & 0b101 << column >> 1) != 0 ||
+				(getOccupancy(column, VERTICAL) & 0b101 << row >> 1) != 0;
+	}
+}
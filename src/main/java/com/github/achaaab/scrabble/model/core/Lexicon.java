@@ -0,0 +1,173 @@
+package com.github.achaaab.scrabble.model.core;
+
+import java.lang.ref.SoftReference;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Supplier;
+
+import static com.github.achaaab.scrabble.model.core.Dictionary.COMPILED_EXTENSION;
+import static java.nio.file.Files.isRegularFile;
+import static java.util.concurrent.CompletableFuture.completedFuture;
+import static java.util.concurrent.CompletableFuture.supplyAsync;
+
+/**
+ * Registry of the built-in dictionaries. Each dictionary is loaded on first request, possibly in the background with
+ * {@link #preload()}, so that a deployment never pays for dictionaries it does not use.
+ * <p>
+ * A loaded dictionary is softly referenced by the registry: it is kept as long as memory allows, and it is released
+ * when memory runs low if nothing else references it, in which case the next request loads it again.
+ * <p>
+ * If the system property {@value #DIRECTORY_PROPERTY} names a directory containing a compiled dictionary file (for
+ * example {@code csw21.dawg}), this file is memory-mapped. Otherwise, the dictionary is built from its word list
+ * resource (for example {@code dictionaries/csw21.txt}).
+ *
+ * @author Jonathan Guéhenneux
+ * @since 1.1.0
+ */
+public enum Lexicon {
+
+	/**
+	 * French "Officiel du Scrabble", 9th edition.
+	 */
+	FRENCH_ODS9("ods9", Tile::getFrenchTiles),
+
+	/**
+	 * English "Collins Scrabble Words", 2021 edition.
+	 */
+	ENGLISH_CSW21("csw21", Tile::getEnglishTiles);
+
+	public static final String DIRECTORY_PROPERTY = "scrabble.dictionaries";
+
+	private final String name;
+	private final Supplier<List<Tile>> tiles;
+
+	private SoftReference<Dictionary> reference;
+	private CompletableFuture<Dictionary> loading;
+
+	/**
+	 * @param name base name of the word list resource and of the compiled dictionary file
+	 * @param tiles supplier of the set of tiles of the language of this lexicon
+	 * @since 1.1.0
+	 */
+	Lexicon(String name, Supplier<List<Tile>> tiles) {
+
+		this.name = name;
+		this.tiles = tiles;
+
+		reference = new SoftReference<>(null);
+		loading = null;
+	}
+
+	/**
+	 * Gets the set of tiles to play with this lexicon.
+	 *
+	 * @return new list of the tiles of the language of this lexicon
+	 * @since 1.1.0
+	 */
+	public List<Tile> getTiles() {
+		return tiles.get();
+	}
+
+	/**
+	 * Gets the dictionary of this lexicon, loading it if it is not loaded yet. If the dictionary is being loaded in
+	 * the background, waits for it.
+	 *
+	 * @return dictionary of this lexicon
+	 * @throws RuntimeException if the dictionary cannot be loaded
+	 * @since 1.1.0
+	 */
+	public Dictionary get() {
+
+		try {
+
+			return preload().join();
+
+		} catch (CompletionException exception) {
+
+			throw exception.getCause() instanceof RuntimeException cause ? cause : exception;
+		}
+	}
+
+	/**
+	 * Starts loading the dictionary of this lexicon in the background, unless it is already loaded or being loaded.
+	 *
+	 * @return future dictionary of this lexicon
+	 * @since 1.1.0
+	 */
+	public synchronized CompletableFuture<Dictionary> preload() {
+
+		CompletableFuture<Dictionary> future;
+		var dictionary = reference.get();
+
+		if (dictionary != null) {
+
+			future = completedFuture(dictionary);
+
+		} else if (loading != null) {
+
+			future = loading;
+
+		} else {
+
+			future = supplyAsync(this::load);
+			loading = future;
+			future.whenComplete(this::loaded);
+		}
+
+		return future;
+	}
+
+	/**
+	 * Determines if the dictionary of this lexicon is loaded, without loading it.
+	 *
+	 * @return whether the dictionary of this lexicon is loaded
+	 * @since 1.1.0
+	 */
+	public synchronized boolean isLoaded() {
+		return reference.get() != null;
+	}
+
+	/**
+	 * Releases the dictionary of this lexicon. The dictionary can still be used by those who already got it, and will
+	 * be loaded again on next request.
+	 *
+	 * @since 1.1.0
+	 */
+	public synchronized void release() {
+		reference.clear();
+	}
+
+	/**
+	 * Loads the dictionary of this lexicon, from its compiled file if available, from its word list otherwise.
+	 *
+	 * @return loaded dictionary
+	 * @since 1.1.0
+	 */
+	private Dictionary load() {
+
+		var directory = System.getProperty(DIRECTORY_PROPERTY);
+		var path = directory == null ? null : Path.of(directory, name + COMPILED_EXTENSION);
+
+		return path != null && isRegularFile(path) ?
+				Dictionary.load(path) :
+				new Dictionary("dictionaries/" + name + ".txt");
+	}
+
+	/**
+	 * Registers the result of a background loading.
+	 *
+	 * @param dictionary loaded dictionary, {@code null} if the loading failed
+	 * @param exception loading failure, {@code null} if the loading succeeded
+	 * @since 1.1.0
+	 */
+	private synchronized void loaded(Dictionary dictionary, Throwable exception) {
+
+		if (dictionary != null) {
+			reference = new SoftReference<>(dictionary);
+		}
+
+		loading = null;
+	}
+}
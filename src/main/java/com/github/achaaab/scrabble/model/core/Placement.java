@@ -0,0 +1,83 @@
+package com.github.achaaab.scrabble.model.core;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Tiles placed on a board by {@link Board#play(List, Reference)}, allowing to remove them with
+ * {@link Board#unplay(Placement)}.
+ *
+ * @author Jonathan Guéhenneux
+ * @since 1.1.0
+ */
+public class Placement {
+
+	private final Board board;
+	private final int[] squares;
+	private final Tile[] tiles;
+
+	/**
+	 * Creates a placement.
+	 *
+	 * @param board board on which the tiles were placed
+	 * @param squares indices of the squares on which the tiles were placed
+	 * @param tiles placed tiles, in the same order as the squares
+	 * @since 1.1.0
+	 */
+	Placement(Board board, int[] squares, Tile[] tiles) {
+
+		this.board = board;
+		this.squares = squares;
+		this.tiles = tiles;
+	}
+
+	/**
+	 * @return board on which the tiles were placed
+	 * @since 1.1.0
+	 */
+	public Board board() {
+		return board;
+	}
+
+	/**
+	 * @return squares on which the tiles were placed
+	 * @since 1.1.0
+	 */
+	public List<Square> squares() {
+		return Arrays.stream(squares).mapToObj(board::getSquare).toList();
+	}
+
+	/**
+	 * @return placed tiles
+	 * @since 1.1.0
+	 */
+	public List<Tile> tiles() {
+		return List.of(tiles);
+	}
+
+	/**
+	 * @return number of placed tiles
+	 * @since 1.1.0
+	 */
+	int size() {
+		return squares.length;
+	}
+
+	/**
+	 * @param index index of a placed tile
+	 * @return index of the square on which the tile was placed
+	 * @since 1.1.0
+	 */
+	int getSquare(int index) {
+		return squares[index];
+	}
+
+	/**
+	 * @param index index of a placed tile
+	 * @return placed tile
+	 * @since 1.1.0
+	 */
+	Tile getTile(int index) {
+		return tiles[index];
+	}
+}
@@ -3,10 +3,12 @@ package com.github.achaaab.scrabble.model.core;
 import java.util.ArrayList;
 import java.util.List;
 
-import static com.github.achaaab.scrabble.model.core.Dictionary.LETTER_COUNT;
+import static com.github.achaaab.scrabble.tools.Toolbox.mix;
+import static java.util.Collections.unmodifiableList;
 
 /**
- * Scrabble rack.
+ * Scrabble rack. Besides the number of tiles of each letter, a rack keeps its tiles in the order they were added, so
+ * that they are displayed in a stable order.
  *
  * @author Jonathan Guéhenneux
  * @since 0.0.0
@@ -15,6 +17,46 @@ public class Rack extends TileCollection {
 
 	public static final int CAPACITY = 7;
 
+	private final List<Tile> arrangement;
+	private final List<Tile> tiles;
+
+	/**
+	 * Creates an empty rack.
+	 *
+	 * @since 0.0.0
+	 */
+	public Rack() {
+
+		arrangement = new ArrayList<>(CAPACITY);
+		tiles = unmodifiableList(arrangement);
+	}
+
+	@Override
+	public void clear() {
+
+		super.clear();
+		arrangement.clear();
+	}
+
+	@Override
+	public void add(Tile tile) {
+
+		super.add(tile);
+		arrangement.add(samples[getSlot(tile)]);
+	}
+
+	/**
+	 * Returns a read-only view of the tiles in this rack, in the order they were added. When a tile is removed, the
+	 * first tile of its letter is removed from the view.
+	 *
+	 * @return tiles in this rack
+	 * @since 0.0.0
+	 */
+	@Override
+	public List<Tile> getTiles() {
+		return tiles;
+	}
+
 	/**
 	 * Returns the number of each letter as an array.
 	 * The returned array has a length of {@code {@link Dictionary#LETTER_COUNT} + 1}.
@@ -27,13 +69,20 @@ public class Rack extends TileCollection {
 	 * @since 0.0.0
 	 */
 	public int[] getLetterCounts() {
+		return counts.clone();
+	}
 
-		var letterCounts = new int[LETTER_COUNT + 1];
-
-		tiles.stream().
-				map(Tile::letterIndex).
-				forEach(letterIndex -> letterCounts[letterIndex]++);
+	/**
+	 * Copies the number of each letter in the specified array, as returned by {@link #getLetterCounts()}, so that a
+	 * search can reuse its buffer.
+	 *
+	 * @param letterCounts array of length {@code {@link Dictionary#LETTER_COUNT} + 1} in which to copy the counts
+	 * @return specified array
+	 * @since 1.1.0
+	 */
+	public int[] getLetterCounts(int[] letterCounts) {
 
+		System.arraycopy(counts, 0, letterCounts, 0, SLOT_COUNT);
 		return letterCounts;
 	}
 
@@ -54,19 +103,58 @@ public class Rack extends TileCollection {
 	 * @since 0.0.0
 	 */
 	public Tile[] getTileSamples() {
+		return getTileSamples(new Tile[SLOT_COUNT]);
+	}
 
-		var tileSamples = new Tile[LETTER_COUNT + 1];
+	/**
+	 * Copies a sample tile for each letter in the specified array, as returned by {@link #getTileSamples()}, so that a
+	 * search can reuse its buffer.
+	 *
+	 * @param tileSamples array of length {@code {@link Dictionary#LETTER_COUNT} + 1} in which to copy the samples
+	 * @return specified array
+	 * @since 1.1.0
+	 */
+	public Tile[] getTileSamples(Tile[] tileSamples) {
 
-		for (var tile : tiles) {
-			tileSamples[tile.letterIndex()] = tile;
+		for (var slot = 0; slot < SLOT_COUNT; slot++) {
+			tileSamples[slot] = counts[slot] > 0 ? samples[slot] : null;
 		}
 
 		return tileSamples;
 	}
 
+	/**
+	 * Gets a canonical hash of this rack: racks with the same number of tiles of each letter, with the same values,
+	 * have the same hash, whatever the order in which the tiles were added.
+	 *
+	 * @return hash of the letter counts of this rack
+	 * @since 1.1.0
+	 */
+	public long getHash() {
+
+		var hash = 0L;
+
+		for (var slot = 0; slot < SLOT_COUNT; slot++) {
+
+			if (counts[slot] > 0) {
+				hash = mix(hash ^ (long) slot << 16 ^ counts[slot] << 8 ^ samples[slot].value());
+			}
+		}
+
+		return hash;
+	}
+
 	@Override
 	public boolean isFull() {
-		return tiles.size() == CAPACITY;
+		return size == CAPACITY;
+	}
+
+	@Override
+	protected Tile take(int slot, String message) {
+
+		var tile = super.take(slot, message);
+		arrangement.remove(tile);
+		return tile;
 	}
 
 	/**
@@ -90,8 +178,8 @@ public class Rack extends TileCollection {
 	 */
 	public List<Tile> pickAll() {
 
-		var pickedTiles = new ArrayList<>(tiles);
-		tiles.clear();
+		var pickedTiles = new ArrayList<>(getTiles());
+		clear();
 		return pickedTiles;
 	}
 }
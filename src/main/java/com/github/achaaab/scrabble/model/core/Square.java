@@ -76,7 +76,7 @@ public class Square {
 	 * @since 0.0.0
 	 */
 	public void clear() {
-		tile = null;
+		setTile(null);
 	}
 
 	/**
@@ -115,6 +115,16 @@ public class Square {
 		return row;
 	}
 
+	/**
+	 * Gets the index of this square on its board, in the order of {@link Board#squares()}.
+	 *
+	 * @return index of this square, between 0 and {@link Board#SQUARE_COUNT} excluded
+	 * @since 1.1.0
+	 */
+	public int index() {
+		return column * SIZE + row;
+	}
+
 	/**
 	 * @return award of this square
 	 * @since 0.0.0
@@ -138,6 +148,18 @@ public class Square {
 	 * @since 0.0.0
 	 */
 	public void setTile(Tile tile) {
+
+		this.tile = tile;
+		board.update(this);
+	}
+
+	/**
+	 * Sets a tile for this square, without notifying the board. The caller is responsible for updating the board.
+	 *
+	 * @param tile tile to set, {@code null} to clear this square
+	 * @since 1.1.0
+	 */
+	void putTile(Tile tile) {
 		this.tile = tile;
 	}
 
@@ -272,12 +294,13 @@ public class Square {
 	 * with a tile.
 	 * A played word must cover at least 1 anchor square.
 	 * For the first word to play, the central square is considered as an anchor square.
+	 * Anchor squares are maintained by the board.
 	 *
 	 * @return whether this square is an anchor
 	 * @since 0.0.0
 	 */
 	public boolean isAnchor() {
-		return isEmpty() && (isCentral() || hasAdjacentTile());
+		return board.isAnchor(this);
 	}
 
 	@Override
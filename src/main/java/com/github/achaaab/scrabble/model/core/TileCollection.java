@@ -1,25 +1,68 @@
 package com.github.achaaab.scrabble.model.core;
 
+import java.util.AbstractList;
 import java.util.ArrayList;
 import java.util.Collection;
-import java.util.LinkedList;
 import java.util.List;
 import java.util.NoSuchElementException;
 
+import static com.github.achaaab.scrabble.model.core.Dictionary.LETTER_COUNT;
 import static com.github.achaaab.scrabble.model.core.Tile.BLANK;
+import static com.github.achaaab.scrabble.model.core.Tile.blank;
 import static com.github.achaaab.scrabble.tools.MessageBundle.getMessage;
 import static java.lang.Character.isLowerCase;
 import static java.lang.Character.toUpperCase;
+import static java.util.Arrays.fill;
 
 /**
- * Scrabble tile collection.
+ * Scrabble tile collection, stored as a multiset: the number of tiles of each letter, plus the number of blank tiles.
+ * Adding, removing or picking a tile takes a constant time.
+ * <p>
+ * Tiles with the same letter are expected to have the same value while they are in the collection. Blank tiles are
+ * stored without their assigned letter, if any.
  *
  * @author Jonathan Guéhenneux
  * @since 0.0.0
  */
 public abstract class TileCollection {
 
-	protected final List<Tile> tiles;
+	protected static final int BLANK_INDEX = LETTER_COUNT;
+	protected static final int SLOT_COUNT = LETTER_COUNT + 1;
+
+	/**
+	 * @param tile tile
+	 * @return index of the slot in which the specified tile is counted
+	 * @since 1.1.0
+	 */
+	protected static int getSlot(Tile tile) {
+		return tile.isBlank() ? BLANK_INDEX : tile.letterIndex();
+	}
+
+	/**
+	 * @param letter upper case letter, or {@link Tile#BLANK}
+	 * @return index of the slot matching the specified letter, {@code -1} if there is no such slot
+	 * @since 1.1.0
+	 */
+	private static int getSlot(char letter) {
+
+		int slot;
+
+		if (letter == BLANK) {
+			slot = BLANK_INDEX;
+		} else if (letter >= 'A' && letter < 'A' + LETTER_COUNT) {
+			slot = letter - 'A';
+		} else {
+			slot = -1;
+		}
+
+		return slot;
+	}
+
+	protected final int[] counts;
+	protected final Tile[] samples;
+	protected int size;
+
+	private final List<Tile> tiles;
 
 	/**
 	 * Creates an empty tile collection.
@@ -27,7 +70,10 @@ public abstract class TileCollection {
 	 * @since 0.0.0
 	 */
 	public TileCollection() {
-		tiles = new LinkedList<>();
+
+		counts = new int[SLOT_COUNT];
+		samples = new Tile[SLOT_COUNT];
+		tiles = new TileView();
 	}
 
 	/**
@@ -36,7 +82,9 @@ public abstract class TileCollection {
 	 * @since 0.0.0
 	 */
 	public void clear() {
-		tiles.clear();
+
+		fill(counts, 0);
+		size = 0;
 	}
 
 	/**
@@ -46,7 +94,15 @@ public abstract class TileCollection {
 	 * @since 0.0.0
 	 */
 	public void add(Tile tile) {
-		tiles.add(tile);
+
+		var slot = getSlot(tile);
+
+		if (counts[slot] == 0) {
+			samples[slot] = slot == BLANK_INDEX ? blank(BLANK) : tile;
+		}
+
+		counts[slot]++;
+		size++;
 	}
 
 	/**
@@ -56,7 +112,7 @@ public abstract class TileCollection {
 	 * @since 0.0.0
 	 */
 	public void addAll(Collection<Tile> tiles) {
-		this.tiles.addAll(tiles);
+		tiles.forEach(this::add);
 	}
 
 	/**
@@ -70,20 +126,24 @@ public abstract class TileCollection {
 	}
 
 	/**
-	 * Removes the given tile from this collection.
+	 * Removes the given tile from this collection. Any blank tile matches a blank tile. Nothing is removed if there is
+	 * no more tile with the letter of the given tile.
 	 *
 	 * @param tile tile to remove
+	 * @throws NoSuchElementException if the given tile is blank and there is no more blank tile in this collection
 	 * @since 0.0.0
 	 */
 	public void remove(Tile tile) {
 
-		tiles.remove(tile.isBlank() ?
-				getFirstBlank() :
-				tile);
+		if (tile.isBlank()) {
+			take(BLANK_INDEX, getMessage("no_more_blank"));
+		} else if (counts[tile.letterIndex()] > 0) {
+			take(tile.letterIndex(), null);
+		}
 	}
 
 	/**
-	 * Returns the backing list of tiles in this collection.
+	 * Returns a read-only view of the tiles in this collection, sorted by letter, blank tiles last.
 	 *
 	 * @return tiles in this collection
 	 * @since 0.0.0
@@ -99,7 +159,7 @@ public abstract class TileCollection {
 	 * @since 0.0.0
 	 */
 	public boolean isEmpty() {
-		return tiles.isEmpty();
+		return size == 0;
 	}
 
 	/**
@@ -119,7 +179,7 @@ public abstract class TileCollection {
 	 * @since 0.0.0
 	 */
 	public int size() {
-		return tiles.size();
+		return size;
 	}
 
 	/**
@@ -142,18 +202,17 @@ public abstract class TileCollection {
 
 		if (letter == BLANK){
 
-			tile = getFirstBlank();
-			tiles.remove(tile);
+			tile = take(BLANK_INDEX, getMessage("no_more_blank"));
 
 		} else if (isLowerCase(letter)) {
 
-			tiles.remove(getFirstBlank());
+			take(BLANK_INDEX, getMessage("no_more_blank"));
 			tile = new Tile(toUpperCase(letter), 0);
 
 		} else {
 
 			tile = getFirst(letter);
-			tiles.remove(tile);
+			take(getSlot(tile), null);
 		}
 
 		return tile;
@@ -209,10 +268,11 @@ public abstract class TileCollection {
 	 */
 	public Tile getFirstBlank() {
 
-		return tiles.stream().
-				filter(Tile::isBlank).
-				findFirst().
-				orElseThrow(() -> new NoSuchElementException(getMessage("no_more_blank")));
+		if (counts[BLANK_INDEX] == 0) {
+			throw new NoSuchElementException(getMessage("no_more_blank"));
+		}
+
+		return samples[BLANK_INDEX];
 	}
 
 	/**
@@ -225,10 +285,13 @@ public abstract class TileCollection {
 	 */
 	public Tile getFirst(char letter) {
 
-		return tiles.stream().
-				filter(tile -> tile.letter() == letter).
-				findFirst().
-				orElseThrow(() -> new NoSuchElementException(getMessage("no_more_letter", letter)));
+		var slot = getSlot(letter);
+
+		if (slot == -1 || counts[slot] == 0) {
+			throw new NoSuchElementException(getMessage("no_more_letter", letter));
+		}
+
+		return samples[slot];
 	}
 
 	/**
@@ -238,7 +301,17 @@ public abstract class TileCollection {
 	 * @since 0.0.0
 	 */
 	public long getVowelCount() {
-		return tiles.stream().filter(Tile::isVowel).count();
+
+		var vowelCount = 0L;
+
+		for (var slot = 0; slot < SLOT_COUNT; slot++) {
+
+			if (counts[slot] > 0 && samples[slot].isVowel()) {
+				vowelCount += counts[slot];
+			}
+		}
+
+		return vowelCount;
 	}
 
 	/**
@@ -248,6 +321,68 @@ public abstract class TileCollection {
 	 * @since 0.0.0
 	 */
 	public long getConsonantCount() {
-		return tiles.stream().filter(Tile::isConsonant).count();
+
+		var consonantCount = 0L;
+
+		for (var slot = 0; slot < SLOT_COUNT; slot++) {
+
+			if (counts[slot] > 0 && samples[slot].isConsonant()) {
+				consonantCount += counts[slot];
+			}
+		}
+
+		return consonantCount;
+	}
+
+	/**
+	 * Removes a tile from a slot.
+	 *
+	 * @param slot index of the slot from which to remove a tile
+	 * @param message message of the exception to throw if the slot is empty
+	 * @return removed tile
+	 * @throws NoSuchElementException if the slot is empty
+	 * @since 1.1.0
+	 */
+	protected Tile take(int slot, String message) {
+
+		if (counts[slot] == 0) {
+			throw new NoSuchElementException(message);
+		}
+
+		counts[slot]--;
+		size--;
+
+		return samples[slot];
+	}
+
+	/**
+	 * Read-only view of the tiles of this collection.
+	 *
+	 * @author Jonathan Guéhenneux
+	 * @since 1.1.0
+	 */
+	private class TileView extends AbstractList<Tile> {
+
+		@Override
+		public Tile get(int index) {
+
+			if (index < 0 || index >= size) {
+				throw new IndexOutOfBoundsException(index);
+			}
+
+			var slot = 0;
+			var remaining = index;
+
+			while (remaining >= counts[slot]) {
+				remaining -= counts[slot++];
+			}
+
+			return samples[slot];
+		}
+
+		@Override
+		public int size() {
+			return size;
+		}
 	}
 }
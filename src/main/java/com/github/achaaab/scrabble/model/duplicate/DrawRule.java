@@ -0,0 +1,55 @@
+package com.github.achaaab.scrabble.model.duplicate;
+
+import com.github.achaaab.scrabble.model.core.Bag;
+import com.github.achaaab.scrabble.model.core.Rack;
+
+import static com.github.achaaab.scrabble.model.core.Rack.CAPACITY;
+
+/**
+ * Rule deciding whether a draw is kept or rejected, in which case all the tiles of the rack are put back in the bag and
+ * a new rack is drawn.
+ *
+ * @author Jonathan Guéhenneux
+ * @since 1.1.0
+ */
+@FunctionalInterface
+public interface DrawRule {
+
+	/**
+	 * Rule accepting any draw.
+	 */
+	DrawRule FREE = (rack, bag, moveCount) -> true;
+
+	/**
+	 * Usual duplicate rule: during the first 15 moves, a rack must contain at least 2 vowels and 2 consonants, as long
+	 * as the bag allows it.
+	 */
+	DrawRule DUPLICATE = balanced(2, 15);
+
+	/**
+	 * Creates a rule requiring a minimum number of vowels and consonants in the rack, as long as there are enough
+	 * tiles in the bag. Blank tiles count as both vowels and consonants.
+	 *
+	 * @param minimum minimum number of vowels and minimum number of consonants
+	 * @param moveCount number of moves during which the rule applies
+	 * @return created rule
+	 * @since 1.1.0
+	 */
+	static DrawRule balanced(int minimum, int moveCount) {
+
+		return (rack, bag, playedMoveCount) -> playedMoveCount >= moveCount || bag.size() < CAPACITY ||
+				(rack.getVowelCount() >= minimum || bag.getVowelCount() < minimum) &&
+						(rack.getConsonantCount() >= minimum || bag.getConsonantCount() < minimum);
+	}
+
+	/**
+	 * Determines if a draw is accepted.
+	 *
+	 * @param rack rack after the draw
+	 * @param bag bag after the draw
+	 * @param moveCount number of moves already played
+	 * @return whether the draw is accepted
+	 * @since 1.1.0
+	 */
+	boolean accepts(Rack rack, Bag bag, int moveCount);
+}
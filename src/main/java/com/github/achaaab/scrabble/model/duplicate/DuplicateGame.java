@@ -0,0 +1,117 @@
+package com.github.achaaab.scrabble.model.duplicate;
+
+import com.github.achaaab.scrabble.model.core.Bag;
+import com.github.achaaab.scrabble.model.core.Board;
+import com.github.achaaab.scrabble.model.core.Dictionary;
+import com.github.achaaab.scrabble.model.core.Rack;
+import com.github.achaaab.scrabble.model.core.Tile;
+import com.github.achaaab.scrabble.model.move.Evaluator;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.random.RandomGenerator;
+
+import static com.github.achaaab.scrabble.model.core.Rack.CAPACITY;
+
+/**
+ * Self-played duplicate game: the best move is played on every draw, until the bag is empty or no move is possible.
+ * A duplicate game owns its board and evaluator, so that it can be played again and again without allocating them,
+ * but it must not be played by several threads at the same time.
+ *
+ * @author Jonathan Guéhenneux
+ * @since 1.1.0
+ */
+public class DuplicateGame {
+
+	private final List<Tile> tiles;
+	private final DrawRule drawRule;
+	private final Board board;
+	private final Rack rack;
+	private final Evaluator evaluator;
+
+	/**
+	 * Creates a duplicate game.
+	 *
+	 * @param dictionary dictionary of the playable words
+	 * @param tiles tiles to put in the bag at the start of a game
+	 * @param drawRule rule deciding whether a draw is rejected
+	 * @since 1.1.0
+	 */
+	public DuplicateGame(Dictionary dictionary, List<Tile> tiles, DrawRule drawRule) {
+
+		this.tiles = tiles;
+		this.drawRule = drawRule;
+
+		board = new Board();
+		rack = new Rack();
+		evaluator = new Evaluator(board, dictionary);
+	}
+
+	/**
+	 * Plays a game from an empty board. The game only depends on the draws, so it is reproducible with a seeded
+	 * random generator.
+	 *
+	 * @param random random generator used to draw tiles
+	 * @return scoring sheet of the played game
+	 * @since 1.1.0
+	 */
+	public DuplicateSheet play(RandomGenerator random) {
+
+		var bag = new Bag(random);
+		var sheet = new DuplicateSheet();
+
+		board.clear();
+		rack.clear();
+		bag.addAll(tiles);
+
+		while (!rack.isEmpty() || !bag.isEmpty()) {
+
+			var residual = new ArrayList<>(rack.getTiles());
+			var draw = bag.pickRandom(CAPACITY - rack.size());
+			rack.addAll(draw);
+
+			var reject = false;
+
+			while (!drawRule.accepts(rack, bag, sheet.entryCount())) {
+
+				var rejectedTiles = rack.pickAll();
+				rack.fill(bag);
+				bag.addAll(rejectedTiles);
+
+				reject = true;
+				draw = new ArrayList<>(rack.getTiles());
+			}
+
+			var optionalBestMove = evaluator.getBestMove(rack);
+
+			if (optionalBestMove.isEmpty()) {
+				break;
+			}
+
+			var bestMove = optionalBestMove.get();
+			var bestMoveTiles = bestMove.tiles();
+			var reference = bestMove.reference();
+			rack.removeAll(bestMoveTiles);
+			board.play(bestMoveTiles, reference);
+
+			sheet.add(new DuplicateSheetEntry(
+					sheet.entryCount() + 1,
+					residual,
+					reject,
+					draw,
+					bestMove.word(),
+					reference,
+					bestMove.score()));
+		}
+
+		return sheet;
+	}
+
+	/**
+	 * @return board of the last played game
+	 * @since 1.1.0
+	 */
+	public Board board() {
+		return board;
+	}
+}
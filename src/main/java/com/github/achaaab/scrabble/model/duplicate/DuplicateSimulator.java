@@ -0,0 +1,165 @@
+package com.github.achaaab.scrabble.model.duplicate;
+
+import com.github.achaaab.scrabble.model.core.Dictionary;
+import com.github.achaaab.scrabble.model.core.Tile;
+
+import java.util.ArrayList;
+import java.util.IntSummaryStatistics;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.function.LongFunction;
+import java.util.random.RandomGenerator;
+
+import static java.lang.System.nanoTime;
+import static java.util.concurrent.Executors.newFixedThreadPool;
+
+/**
+ * Simulator of independent self-played duplicate games, run in parallel. Each worker thread has its own
+ * {@link DuplicateGame}, so that workers only share the dictionary, which is read-only.
+ * <p>
+ * A simulation is reproducible: the seed of each game only depends on the seed of the simulation and on the index of
+ * the game, whatever the number of workers. Each game draws its tiles from its own random generator, created from its
+ * seed, so that workers never contend for a shared generator.
+ *
+ * @author Jonathan Guéhenneux
+ * @since 1.1.0
+ */
+public class DuplicateSimulator {
+
+	private final Dictionary dictionary;
+	private final List<Tile> tiles;
+	private final DrawRule drawRule;
+	private final LongFunction<? extends RandomGenerator> randomFactory;
+
+	/**
+	 * Creates a duplicate simulator, drawing the tiles of each game with a {@link SplittableRandom}.
+	 *
+	 * @param dictionary dictionary of the playable words
+	 * @param tiles tiles to put in the bag at the start of each game
+	 * @param drawRule rule deciding whether a draw is rejected
+	 * @since 1.1.0
+	 */
+	public DuplicateSimulator(Dictionary dictionary, List<Tile> tiles, DrawRule drawRule) {
+		this(dictionary, tiles, drawRule, SplittableRandom::new);
+	}
+
+	/**
+	 * Creates a duplicate simulator.
+	 *
+	 * @param dictionary dictionary of the playable words
+	 * @param tiles tiles to put in the bag at the start of each game
+	 * @param drawRule rule deciding whether a draw is rejected
+	 * @param randomFactory factory of the random generator of a game, from the seed of the game
+	 * @since 1.1.0
+	 */
+	public DuplicateSimulator(
+			Dictionary dictionary,
+			List<Tile> tiles,
+			DrawRule drawRule,
+			LongFunction<? extends RandomGenerator> randomFactory) {
+
+		this.dictionary = dictionary;
+		this.tiles = List.copyOf(tiles);
+		this.drawRule = drawRule;
+		this.randomFactory = randomFactory;
+	}
+
+	/**
+	 * Plays a single game, for example to replay a game of a simulation.
+	 *
+	 * @param seed seed of the game, see {@link SimulatedGame#seed()}
+	 * @return scoring sheet of the played game
+	 * @since 1.1.0
+	 */
+	public DuplicateSheet play(long seed) {
+		return new DuplicateGame(dictionary, tiles, drawRule).play(randomFactory.apply(seed));
+	}
+
+	/**
+	 * Runs a simulation. Games are handed to the specified consumer as soon as they are over, hence not necessarily in
+	 * the order of their indices. The consumer is never called by several workers at the same time.
+	 *
+	 * @param gameCount number of games to play
+	 * @param seed seed of the simulation, from which the seed of each game is derived
+	 * @param threadCount number of worker threads
+	 * @param consumer consumer of the played games
+	 * @return aggregate statistics of the simulation
+	 * @throws RuntimeException if a game failed, in which case the remaining games are not played
+	 * @throws InterruptedException if the current thread is interrupted while waiting for the workers
+	 * @since 1.1.0
+	 */
+	public SimulationReport run(int gameCount, long seed, int threadCount, Consumer<SimulatedGame> consumer)
+			throws InterruptedException {
+
+		var seedGenerator = new SplittableRandom(seed);
+		var seeds = new long[gameCount];
+
+		for (var index = 0; index < gameCount; index++) {
+			seeds[index] = seedGenerator.nextLong();
+		}
+
+		var nextIndex = new AtomicInteger();
+		var statistics = new IntSummaryStatistics();
+
+		Callable<Void> worker = () -> {
+
+			var game = new DuplicateGame(dictionary, tiles, drawRule);
+
+			try {
+
+				for (var index = nextIndex.getAndIncrement(); index < gameCount; index = nextIndex.getAndIncrement()) {
+
+					var sheet = game.play(randomFactory.apply(seeds[index]));
+
+					synchronized (statistics) {
+
+						statistics.accept(sheet.total());
+						consumer.accept(new SimulatedGame(index, seeds[index], sheet));
+					}
+				}
+
+			} catch (RuntimeException exception) {
+
+				nextIndex.set(gameCount);
+				throw exception;
+			}
+
+			return null;
+		};
+
+		var workers = new ArrayList<Callable<Void>>();
+
+		for (var workerIndex = 0; workerIndex < threadCount; workerIndex++) {
+			workers.add(worker);
+		}
+
+		var start = nanoTime();
+
+		try (var executor = newFixedThreadPool(threadCount)) {
+
+			for (var result : executor.invokeAll(workers)) {
+				result.get();
+			}
+
+		} catch (ExecutionException exception) {
+
+			throw exception.getCause() instanceof RuntimeException cause ?
+					cause :
+					new IllegalStateException(exception.getCause());
+		}
+
+		var duration = (nanoTime() - start) / 1e9;
+		var count = (int) statistics.getCount();
+
+		if (count == 0) {
+			return new SimulationReport(0, 0, 0, 0, duration);
+		}
+
+		var average = statistics.getAverage();
+		return new SimulationReport(count, average, statistics.getMin(), statistics.getMax(), duration);
+	}
+}
@@ -0,0 +1,18 @@
+package com.github.achaaab.scrabble.model.duplicate;
+
+/**
+ * Duplicate game played by a {@link DuplicateSimulator}.
+ *
+ * @param index index of the game in the simulation, starting from 0
+ * @param seed seed of the random generator used to draw tiles, allowing to play the game again
+ * @param sheet scoring sheet of the game
+ * @author Jonathan Guéhenneux
+ * @since 1.1.0
+ */
+public record SimulatedGame(int index, long seed, DuplicateSheet sheet) {
+
+	@Override
+	public String toString() {
+		return "game " + index + " (seed " + seed + ")\n" + sheet;
+	}
+}
@@ -0,0 +1,35 @@
+package com.github.achaaab.scrabble.model.duplicate;
+
+/**
+ * Aggregate statistics of a simulation.
+ *
+ * @param gameCount number of played games
+ * @param mean mean total score
+ * @param min lowest total score
+ * @param max highest total score
+ * @param duration duration of the simulation in seconds
+ * @author Jonathan Guéhenneux
+ * @since 1.1.0
+ */
+public record SimulationReport(int gameCount, double mean, int min, int max, double duration) {
+
+	/**
+	 * @return number of games played per second
+	 * @since 1.1.0
+	 */
+	public double speed() {
+		return gameCount / duration;
+	}
+
+	@Override
+	public String toString() {
+
+		return String.format("""
+				games: %d
+				mean: %.2f
+				min: %d
+				max: %d
+				duration: %.2f s
+				speed: %.2f games/s""", gameCount, mean, min, max, duration, speed());
+	}
+}
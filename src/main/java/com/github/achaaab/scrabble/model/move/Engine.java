@@ -0,0 +1,47 @@
+package com.github.achaaab.scrabble.model.move;
+
+import com.github.achaaab.scrabble.model.core.Board;
+import com.github.achaaab.scrabble.model.core.Dictionary;
+
+import java.util.function.BiFunction;
+
+/**
+ * Move generation engine.
+ *
+ * @author Jonathan Guéhenneux
+ * @since 1.1.0
+ */
+public enum Engine {
+
+	/**
+	 * Generates moves following the dictionary word graph, see {@link Evaluator}.
+	 */
+	DAWG(Evaluator::new),
+
+	/**
+	 * Generates moves following the dictionary GADDAG, see {@link GaddagEvaluator}.
+	 */
+	GADDAG(GaddagEvaluator::new);
+
+	private final BiFunction<Board, Dictionary, Evaluator> factory;
+
+	/**
+	 * @param factory evaluator factory
+	 * @since 1.1.0
+	 */
+	Engine(BiFunction<Board, Dictionary, Evaluator> factory) {
+		this.factory = factory;
+	}
+
+	/**
+	 * Creates an evaluator using this engine.
+	 *
+	 * @param board board on which to evaluate moves
+	 * @param dictionary dictionary to use
+	 * @return created evaluator
+	 * @since 1.1.0
+	 */
+	public Evaluator createEvaluator(Board board, Dictionary dictionary) {
+		return factory.apply(board, dictionary);
+	}
+}
@@ -1,26 +1,77 @@
 package com.github.achaaab.scrabble.model.move;
 
 import com.github.achaaab.scrabble.model.core.Board;
+import com.github.achaaab.scrabble.model.core.CrossChecks;
 import com.github.achaaab.scrabble.model.core.Dictionary;
 import com.github.achaaab.scrabble.model.core.Direction;
+import com.github.achaaab.scrabble.model.core.Grid;
 import com.github.achaaab.scrabble.model.core.Rack;
+import com.github.achaaab.scrabble.model.core.Reference;
 import com.github.achaaab.scrabble.model.core.Square;
 import com.github.achaaab.scrabble.model.core.Tile;
 import com.github.achaaab.scrabble.model.core.TileCollection;
-import com.github.achaaab.scrabble.tools.Trie;
+import com.github.achaaab.scrabble.tools.Dawg;
 
 import java.util.ArrayList;
 import java.util.List;
-
+import java.util.Optional;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.function.BooleanSupplier;
+
+import static com.github.achaaab.scrabble.model.core.CrossChecks.ALL_LETTERS;
+import static com.github.achaaab.scrabble.model.core.CrossChecks.CROSS_WORD;
 import static com.github.achaaab.scrabble.model.core.Dictionary.LETTER_COUNT;
 import static com.github.achaaab.scrabble.model.core.Direction.HORIZONTAL;
+import static com.github.achaaab.scrabble.model.core.Board.SIZE;
+import static com.github.achaaab.scrabble.model.core.Board.SQUARE_COUNT;
 import static com.github.achaaab.scrabble.model.core.Direction.VERTICAL;
+import static com.github.achaaab.scrabble.model.core.Grid.OUTSIDE;
+import static com.github.achaaab.scrabble.model.core.Grid.getNext;
+import static com.github.achaaab.scrabble.model.core.Grid.getPrevious;
+import static com.github.achaaab.scrabble.model.core.Grid.getStep;
+import static com.github.achaaab.scrabble.model.core.Rack.CAPACITY;
 import static com.github.achaaab.scrabble.model.core.Tile.blank;
+import static com.github.achaaab.scrabble.tools.Dawg.NONE;
+import static com.github.achaaab.scrabble.tools.Dawg.ROOT;
 import static com.github.achaaab.scrabble.tools.MessageBundle.getMessage;
 import static java.lang.Character.toLowerCase;
+import static java.lang.Integer.numberOfTrailingZeros;
+import static java.lang.Math.max;
+import static java.util.Arrays.fill;
+import static java.util.Arrays.sort;
+import static java.util.Collections.unmodifiableList;
+import static java.util.Comparator.comparingInt;
 import static java.util.Comparator.reverseOrder;
 
 /**
+ * Move evaluator, listing moves with the algorithm described by Andrew W. Appel and Guy J. Jacobson: from each anchor
+ * square, words are grown to the left with a prefix, then to the right with a suffix, following the dictionary word
+ * graph.
+ * <p>
+ * The search runs over the {@link Grid} of the board, designating squares by their index.
+ * <p>
+ * The search state is held by the evaluator itself, so {@link #listMoves(Rack)} must not be called concurrently on the
+ * same evaluator. Its buffers are allocated with the evaluator and reset before each search: an evaluator is a
+ * reusable search context, to keep per thread or to pool along with its board. {@link #listMoves(Rack, ForkJoinPool)}
+ * splits the search by anchor square and direction across a fork/join pool, each worker thread searching with its own
+ * copy of the evaluator.
+ * <p>
+ * Moves can also be handed to a {@link MoveVisitor} as soon as they are found, see
+ * {@link #visitMoves(Rack, MoveVisitor)}.
+ * <p>
+ * Moves are ranked by score, unless a {@link LeaveTable} is set, in which case they are ranked by equity: their score
+ * plus the value of the tiles they leave on the rack. Before each search, the values of all the leaves of the rack are
+ * looked up in the table, indexed in mixed radix by the remaining count of each letter. This index is updated as
+ * tiles are taken from the rack and put back, so that the value of the leave of a move is read in constant time.
+ * <p>
+ * A letter is placed with a natural tile while one is left, with a blank tile otherwise, so that each word is only
+ * explored once for each position and blank tiles only replace missing letters. When a letter is placed with both
+ * natural and blank tiles, the natural tiles are moved to the squares where they score the most before the move is
+ * visited: only the highest-scoring blank assignment of a word is listed.
+ *
  * @author Jonathan Guéhenneux
  * @since 0.0.0
  */
@@ -29,18 +80,43 @@ public class Evaluator {
 	public static final int SCRABBLE_LENGTH = 7;
 	public static final int SCRABBLE_REWARD = 50;
 
-	private final Board board;
-	private final Dictionary dictionary;
-
-	private int[] letterCounts;
-	private Tile[] tileSamples;
-	private List<Tile> tiles;
-	private StringBuilder word;
-	private List<Move> moves;
-	private Direction direction;
-	private Square anchorSquare;
-	private Square startSquare;
-	private Tile currentTile;
+	protected static final int BLANK_MASK = 1 << LETTER_COUNT;
+	protected static final int CANCELLATION_PERIOD = 1 << 10;
+
+	protected final Board board;
+	protected final Grid grid;
+	protected final Dawg dawg;
+	protected final CrossChecks crossChecks;
+
+	protected final int[] letterCounts;
+	protected int rackMask;
+	protected final Tile[] tileSamples;
+	protected final List<Tile> tiles;
+	protected final StringBuilder word;
+	protected Direction direction;
+	protected int step;
+	protected int anchor;
+	protected int start;
+	protected MoveVisitor visitor;
+	protected BooleanSupplier cancelled;
+	protected boolean stopped;
+	protected long nodeCount;
+	protected LeaveTable leaveTable;
+	protected final int[] leaveRadices;
+	protected float[] leaveValues;
+	protected float maximumLeaveValue;
+	protected int leaveIndex;
+
+	private final Candidate candidate;
+	private long rank;
+
+	private final Tile[] searchedTiles = new Tile[CAPACITY];
+	private final int[] wordPositions = new int[CAPACITY];
+	private final int[] coefficients = new int[CAPACITY];
+	private final int[] leaveCounts = new int[LETTER_COUNT + 1];
+	private final int[] boundSquares = new int[SIZE];
+	private final int[] boundCoefficients = new int[SIZE];
+	private final List<Search> searches = new ArrayList<>();
 
 	/**
 	 * Creates an evaluator.
@@ -52,7 +128,70 @@ public class Evaluator {
 	public Evaluator(Board board, Dictionary dictionary) {
 
 		this.board = board;
-		this.dictionary = dictionary;
+
+		grid = board.grid();
+		dawg = dictionary.dawg();
+		crossChecks = board.getCrossChecks(dictionary);
+		candidate = new Candidate();
+
+		letterCounts = new int[LETTER_COUNT + 1];
+		tileSamples = new Tile[LETTER_COUNT + 1];
+		tiles = new ArrayList<>(SIZE);
+		word = new StringBuilder(SIZE);
+		leaveRadices = new int[LETTER_COUNT + 1];
+		leaveValues = new float[1];
+	}
+
+	/**
+	 * Creates an evaluator sharing the board and dictionary of another evaluator, with its own search state.
+	 *
+	 * @param evaluator evaluator to copy
+	 * @since 1.1.0
+	 */
+	protected Evaluator(Evaluator evaluator) {
+
+		board = evaluator.board;
+		grid = evaluator.grid;
+		dawg = evaluator.dawg;
+		crossChecks = evaluator.crossChecks;
+		leaveTable = evaluator.leaveTable;
+		candidate = new Candidate();
+
+		letterCounts = new int[LETTER_COUNT + 1];
+		tileSamples = new Tile[LETTER_COUNT + 1];
+		tiles = new ArrayList<>(SIZE);
+		word = new StringBuilder(SIZE);
+		leaveRadices = new int[LETTER_COUNT + 1];
+		leaveValues = new float[1];
+	}
+
+	/**
+	 * Sets the table of the rack leave values, switching the ranking of the moves from score to equity.
+	 *
+	 * @param leaveTable table of the rack leave values, {@code null} to rank the moves by score
+	 * @since 1.1.0
+	 */
+	public void setLeaveTable(LeaveTable leaveTable) {
+		this.leaveTable = leaveTable;
+	}
+
+	/**
+	 * @return table of the rack leave values, {@code null} if the moves are ranked by score
+	 * @since 1.1.0
+	 */
+	public LeaveTable getLeaveTable() {
+		return leaveTable;
+	}
+
+	/**
+	 * Creates a copy of this evaluator, to search moves concurrently with this evaluator.
+	 * Subclasses must override this method to return a copy of their own type.
+	 *
+	 * @return copy of this evaluator, with its own search state
+	 * @since 1.1.0
+	 */
+	protected Evaluator copy() {
+		return new Evaluator(this);
 	}
 
 	/**
@@ -68,23 +207,24 @@ public class Evaluator {
 	 */
 	public Move getMove(Square square, Direction direction, String word, TileCollection tileCollection) {
 
-		this.direction = direction;
+		setDirection(direction);
 
-		startSquare = square;
-		tiles = new ArrayList<>();
+		start = square.index();
+		tiles.clear();
 
 		var letters = word.toCharArray();
-		var reference = board.getReference(startSquare, direction);
+		var reference = board.getReference(start, direction);
+		var index = start;
 
 		for (var letter : letters) {
 
-			if (square == null) {
+			if (index == OUTSIDE) {
 				throw new IllegalArgumentException(getMessage("word_not_fitting", word, reference));
-			} else if (square.isEmpty()) {
+			} else if (grid.isEmpty(index)) {
 				tiles.add(tileCollection.pick(letter));
 			}
 
-			square = square.getNext(direction);
+			index = getNext(index, direction);
 		}
 
 		return new Move(
@@ -95,156 +235,592 @@ public class Evaluator {
 	}
 
 	/**
-	 * Computes and returns the score of the current move.
+	 * Computes and returns the score of the current move. The values of the across words are read from the
+	 * cross-checks, so that scoring does not allocate.
 	 *
 	 * @return computed score
 	 * @since 0.0.0
 	 */
-	private int computeScore() {
+	protected int computeScore() {
 
 		var score = 0;
-		var square = startSquare;
+		var index = start;
 		var wordScore = 0;
 		var wordMultiplier = 1;
+		var tileCount = tiles.size();
+
+		for (var tileIndex = 0; tileIndex < tileCount; tileIndex++) {
 
-		for (var tile : tiles) {
+			while (grid.hasTile(index)) {
 
-			while (square.hasTile()) {
+				wordScore += grid.getValue(index);
+				index += step;
+			}
+
+			var squareWordMultiplier = grid.getWordMultiplier(index);
+			var tileScore = grid.getLetterMultiplier(index) * tiles.get(tileIndex).value();
 
-				var squareTile = square.getTile();
+			wordScore += tileScore;
+			wordMultiplier *= squareWordMultiplier;
 
-				square = square.getNext(direction);
-				wordScore += squareTile.value();
+			if ((crossChecks.getMask(index, direction) & CROSS_WORD) != 0) {
+				score += squareWordMultiplier * (crossChecks.getScore(index, direction) + tileScore);
 			}
 
-			var award = square.award();
+			index += step;
+		}
+
+		var last = index - step;
 
-			var letterMultiplier = switch (award) {
+		for (var count = grid.getTileCountAfter(last, direction); count > 0; count--) {
 
-				case LETTER_DOUBLE -> 2;
-				case LETTER_TRIPLE -> 3;
-				default -> 1;
-			};
+			last += step;
+			wordScore += grid.getValue(last);
+		}
 
-			switch (award) {
+		score += wordScore * wordMultiplier;
 
-				case WORD_DOUBLE -> wordMultiplier *= 2;
-				case WORD_TRIPLE -> wordMultiplier *= 3;
-			}
+		if (tileCount == SCRABBLE_LENGTH) {
+			score += SCRABBLE_REWARD;
+		}
+
+		return score;
+	}
+
+	/**
+	 * Lists all possible moves, sorts it in reverse order (best moves first) then returns the sorted list.
+	 *
+	 * @param rack rack containing available letters
+	 * @return possible moves, sorted in reverse order
+	 * @since 0.0.0
+	 */
+	public List<Move> listMoves(Rack rack) {
+
+		var moves = new ArrayList<Move>();
+
+		prepare(rack);
+		visitor = collect(moves);
+		listMoves();
+
+		moves.sort(reverseOrder());
+		return moves;
+	}
+
+	/**
+	 * Hands each possible move to the specified visitor, as soon as it is found. Moves are visited in the same order
+	 * as they are listed by {@link #listMoves(Rack)} before sorting. No move is created unless the visitor asks for it.
+	 *
+	 * @param rack rack containing available letters
+	 * @param visitor move visitor, which can stop the search
+	 * @return whether all the possible moves were visited, {@code false} if the visitor stopped the search
+	 * @since 1.1.0
+	 */
+	public boolean visitMoves(Rack rack, MoveVisitor visitor) {
+		return visitMoves(rack, visitor, null);
+	}
+
+	/**
+	 * Hands each possible move to the specified visitor, as soon as it is found, until the visitor stops the search or
+	 * the search is cancelled. The cancellation condition is checked every {@value #CANCELLATION_PERIOD} explored
+	 * nodes, so that the search stops quickly even when no move is found for a long time.
+	 *
+	 * @param rack rack containing available letters
+	 * @param visitor move visitor, which can stop the search
+	 * @param cancelled cancellation condition, {@code null} if the search cannot be cancelled
+	 * @return whether all the possible moves were visited, {@code false} if the search was stopped or cancelled
+	 * @see #visitMoves(Rack, MoveVisitor)
+	 * @since 1.1.0
+	 */
+	public boolean visitMoves(Rack rack, MoveVisitor visitor, BooleanSupplier cancelled) {
+
+		prepare(rack);
+		this.visitor = visitor;
+		this.cancelled = cancelled;
+		listMoves();
+
+		return !stopped;
+	}
+
+	/**
+	 * Lists the best possible moves, without keeping the others. The returned moves are the first moves of the list
+	 * returned by {@link #listMoves(Rack)}, in the same order.
+	 *
+	 * @param rack rack containing available letters
+	 * @param count maximum number of moves to list, at least 1
+	 * @return best possible moves, sorted in reverse order
+	 * @throws IllegalArgumentException if the specified count is less than 1
+	 * @since 1.1.0
+	 */
+	public List<Move> listBestMoves(Rack rack, int count) {
+
+		var bestMoves = new MoveHeap(count);
+
+		prepare(rack);
+		visitor = keepBest(bestMoves);
+		listMoves();
+
+		return bestMoves.toList();
+	}
+
+	/**
+	 * Finds the best possible move, which is the first move of the list returned by {@link #listMoves(Rack)}.
+	 * <p>
+	 * An upper bound of the score is computed for each anchor square and direction. Anchor squares are then searched
+	 * by decreasing bound, and those whose bound cannot beat the best move found so far are not searched. When moves
+	 * are ranked by equity, the highest leave value of the rack is added to each bound.
+	 *
+	 * @param rack rack containing available letters
+	 * @return best possible move, empty if there is no possible move
+	 * @since 1.1.0
+	 */
+	public Optional<Move> getBestMove(Rack rack) {
+
+		var bestMoves = new MoveHeap(1);
+
+		prepare(rack);
+		visitor = keepBest(bestMoves);
+
+		var values = rack.getTiles().stream().
+				mapToInt(Tile::value).
+				map(value -> -value).
+				sorted().
+				map(value -> -value).
+				toArray();
+
+		var searchIndex = 0;
+		searches.clear();
+
+		for (var index = board.getNextAnchor(0); index != -1; index = board.getNextAnchor(index + 1)) {
+
+			for (var direction : Direction.values()) {
 
-			wordScore += letterMultiplier * tile.value();
+				var bound = getScoreBound(index, direction, values);
 
-			var prefixTiles = board.getPreviousTiles(square, direction.across());
-			var suffixTiles = board.getNextTiles(square, direction.across());
+				if (bound >= 0) {
+					searches.add(new Search(index, direction, searchIndex, bound));
+				}
+
+				searchIndex++;
+			}
+		}
 
-			if (!prefixTiles.isEmpty() || !suffixTiles.isEmpty()) {
+		searches.sort(comparingInt(Search::bound).reversed());
 
-				var acrossWordMultiplier = switch (award) {
+		for (var search : searches) {
 
-					case WORD_DOUBLE -> 2;
-					case WORD_TRIPLE -> 3;
-					default -> 1;
-				};
+			var firstRank = (long) search.index() << Integer.SIZE;
 
-				var crossWordScore = acrossWordMultiplier * (
-						prefixTiles.stream().mapToInt(Tile::value).sum() +
-								letterMultiplier * tile.value() +
-								suffixTiles.stream().mapToInt(Tile::value).sum());
+			if (bestMoves.accepts(search.bound() + maximumLeaveValue, firstRank)) {
 
-				score += crossWordScore;
+				rank = firstRank;
+				listMoves(search.anchor(), search.direction());
 			}
+		}
+
+		return bestMoves.toList().stream().findFirst();
+	}
+
+	/**
+	 * Lists all possible moves in parallel, splitting the search by anchor square and direction. The listed moves and
+	 * their order are the same as with {@link #listMoves(Rack)}. This method can be called concurrently, as long as
+	 * the board and the rack are not modified during the search.
+	 *
+	 * @param rack rack containing available letters
+	 * @param pool pool in which to search
+	 * @return possible moves, sorted in reverse order
+	 * @since 1.1.0
+	 */
+	public List<Move> listMoves(Rack rack, ForkJoinPool pool) {
+
+		var anchors = new int[SQUARE_COUNT];
+		var anchorCount = 0;
 
-			square = square.getNext(direction);
+		for (var index = board.getNextAnchor(0); index != -1; index = board.getNextAnchor(index + 1)) {
+			anchors[anchorCount++] = index;
 		}
 
-		while (square != null && square.hasTile()) {
+		var moves = pool.invoke(new SearchTask(this, rack, new ConcurrentLinkedQueue<>(), anchors, 0, 2 * anchorCount));
+		moves.sort(reverseOrder());
+		return moves;
+	}
+
+	/**
+	 * Lists the moves covering each anchor square, until the search is stopped.
+	 *
+	 * @since 1.1.0
+	 */
+	private void listMoves() {
 
-			wordScore += square.getTile().value();
-			square = square.getNext(direction);
+		for (var index = board.getNextAnchor(0); index != -1 && !stopped; index = board.getNextAnchor(index + 1)) {
+
+			listMoves(index, HORIZONTAL);
+			listMoves(index, VERTICAL);
 		}
+	}
+
+	/**
+	 * Creates a visitor collecting all the visited moves.
+	 *
+	 * @param moves list in which to collect the moves
+	 * @return created visitor
+	 * @since 1.1.0
+	 */
+	private static MoveVisitor collect(List<Move> moves) {
+		return found -> moves.add(found.toMove());
+	}
+
+	/**
+	 * Creates a visitor keeping the best visited moves.
+	 *
+	 * @param bestMoves heap in which to keep the best moves
+	 * @return created visitor
+	 * @since 1.1.0
+	 */
+	private MoveVisitor keepBest(MoveHeap bestMoves) {
 
-		wordScore *= wordMultiplier;
-		score += wordScore;
+		return found -> {
 
-		if (tiles.size() == SCRABBLE_LENGTH) {
-			score += SCRABBLE_REWARD;
+			if (bestMoves.accepts(found.equity(), rank)) {
+				bestMoves.add(found.toMove(), rank);
+			}
+
+			return true;
+		};
+	}
+
+	/**
+	 * Lists the moves covering the specified anchor square, and no anchor square before it, in the specified
+	 * direction. Listed moves are handed to the current visitor.
+	 *
+	 * @param anchor index of the anchor square
+	 * @param direction layout direction
+	 * @since 1.1.0
+	 */
+	protected void listMoves(int anchor, Direction direction) {
+
+		this.anchor = anchor;
+		setDirection(direction);
+
+		if (grid.hasPreviousTile(anchor, direction)) {
+			prefixFromBoard();
+		} else {
+			prefixFromRack(ROOT, anchor);
 		}
+	}
 
-		return score;
+	/**
+	 * Sets the layout direction of the current search.
+	 *
+	 * @param direction layout direction
+	 * @since 1.1.0
+	 */
+	protected void setDirection(Direction direction) {
+
+		this.direction = direction;
+		step = getStep(direction);
 	}
 
 	/**
-	 * Lists all possible moves, sorts it in reverse order (best moves first) then returns the sorted list.
+	 * Resets the search state before listing the moves playable with the specified rack. The buffers of the search are
+	 * allocated with the evaluator and reused by each search.
 	 *
 	 * @param rack rack containing available letters
-	 * @return possible moves, sorted in reverse order
-	 * @since 0.0.0
+	 * @since 1.1.0
 	 */
-	public List<Move> listMoves(Rack rack) {
+	protected void prepare(Rack rack) {
+
+		rack.getLetterCounts(letterCounts);
+		rack.getTileSamples(tileSamples);
+		tiles.clear();
+		word.setLength(0);
+		visitor = null;
+		cancelled = null;
+		stopped = false;
+		nodeCount = 0;
+		rackMask = 0;
+		rank = 0;
+
+		for (var index = 0; index <= LETTER_COUNT; index++) {
+
+			if (letterCounts[index] > 0) {
+				rackMask |= 1 << index;
+			}
+		}
+
+		prepareLeaves();
+	}
+
+	/**
+	 * Looks up the values of all the leaves of the rack. A leave is indexed by the remaining count of each letter, in
+	 * mixed radix: the radix of a letter is the product of the counts plus one of the previous letters. Without leave
+	 * table, all the radices are {@code 0} and the single leave value is {@code 0}.
+	 *
+	 * @since 1.1.0
+	 */
+	private void prepareLeaves() {
+
+		if (leaveTable == null) {
+
+			fill(leaveRadices, 0);
+			leaveValues[0] = 0;
+			maximumLeaveValue = 0;
+			leaveIndex = 0;
+
+		} else {
+
+			var leaveCount = 1;
+
+			for (var index = 0; index <= LETTER_COUNT; index++) {
+
+				leaveRadices[index] = leaveCount;
+				leaveCount *= letterCounts[index] + 1;
+			}
+
+			if (leaveValues.length < leaveCount) {
+				leaveValues = new float[leaveCount];
+			}
+
+			maximumLeaveValue = Float.NEGATIVE_INFINITY;
+
+			for (var leave = 0; leave < leaveCount; leave++) {
+
+				for (var index = 0; index <= LETTER_COUNT; index++) {
+					leaveCounts[index] = leave / leaveRadices[index] % (letterCounts[index] + 1);
+				}
+
+				leaveValues[leave] = leaveTable.getValue(leaveCounts);
+				maximumLeaveValue = max(maximumLeaveValue, leaveValues[leave]);
+			}
+
+			leaveIndex = leaveCount - 1;
+		}
+	}
+
+	/**
+	 * Computes an upper bound of the score of the moves covering the specified anchor square, and no anchor square
+	 * before it, in the specified direction.
+	 * <p>
+	 * Such a move is entirely determined by the line segment it covers, except for the tiles placed on the empty
+	 * squares of the segment. For each possible segment, the score is a linear function of the values of the placed
+	 * tiles, which is maximized by placing the most valuable tiles where their value is the most multiplied.
+	 *
+	 * @param anchor index of the anchor square
+	 * @param direction layout direction
+	 * @param values values of the tiles of the rack, in decreasing order
+	 * @return upper bound of the score, {@code -1} if no move is possible
+	 * @since 1.1.0
+	 */
+	private int getScoreBound(int anchor, Direction direction, int[] values) {
 
-		var trie = dictionary.trie();
-		letterCounts = rack.getLetterCounts();
-		tileSamples = rack.getTileSamples();
-		tiles = new ArrayList<>();
-		word = new StringBuilder();
-		moves = new ArrayList<>();
+		var bound = -1;
+		var tileCount = values.length;
+		var placeableLetters = getPlaceableLetters();
 
-		board.squares().forEach(square -> {
+		if (tileCount > 0 && (crossChecks.getMask(anchor, direction) & placeableLetters) != 0) {
 
-			if (square.isAnchor()) {
+			var prefixValue = 0;
+			var maximumPrefixLength = 0;
 
-				anchorSquare = square;
+			if (grid.hasPreviousTile(anchor, direction)) {
 
-				direction = HORIZONTAL;
+				for (var index = getPrevious(anchor, direction);
+					 index != OUTSIDE && grid.hasTile(index);
+					 index = getPrevious(index, direction)) {
 
-				if (square.hasPreviousTile(direction)) {
-					prefixFromBoard(trie);
-				} else {
-					prefixFromRack(trie, anchorSquare);
+					prefixValue += grid.getValue(index);
 				}
 
-				direction = VERTICAL;
+			} else {
+
+				for (var index = getPrevious(anchor, direction);
+					 maximumPrefixLength < tileCount - 1 && index != OUTSIDE && grid.isEmpty(index) &&
+							 !board.isAnchor(index);
+					 index = getPrevious(index, direction)) {
 
-				if (square.hasPreviousTile(direction)) {
-					prefixFromBoard(trie);
-				} else {
-					prefixFromRack(trie, anchorSquare);
+					maximumPrefixLength++;
 				}
 			}
-		});
 
-		moves.sort(reverseOrder());
-		return moves;
+			for (var prefixLength = 0; prefixLength <= maximumPrefixLength; prefixLength++) {
+
+				var emptyCount = 0;
+				var square = anchor;
+
+				for (var index = 0; index < prefixLength; index++) {
+
+					square = getPrevious(square, direction);
+					boundSquares[emptyCount++] = square;
+				}
+
+				boundSquares[emptyCount++] = anchor;
+
+				var boardValue = prefixValue;
+				var extending = true;
+				var index = getNext(anchor, direction);
+
+				while (extending) {
+
+					if (index == OUTSIDE || grid.isEmpty(index)) {
+
+						var segmentBound = getScoreBound(boundSquares, emptyCount, boardValue, direction, values,
+								boundCoefficients);
+
+						bound = max(bound, segmentBound);
+
+						extending = index != OUTSIDE &&
+								emptyCount < tileCount &&
+								(crossChecks.getMask(index, direction) & placeableLetters) != 0;
+
+						if (extending) {
+							boundSquares[emptyCount++] = index;
+						}
+
+					} else {
+
+						boardValue += grid.getValue(index);
+					}
+
+					if (extending) {
+						index = getNext(index, direction);
+					}
+				}
+			}
+		}
+
+		return bound;
 	}
 
 	/**
-	 * Iterates possible moves prefixing with tiles already placed on the board.
+	 * Computes an upper bound of the score of the moves covering a line segment.
 	 *
-	 * @param trie current trie
-	 * @since 0.0.0
+	 * @param emptySquares indices of the empty squares of the segment, on which tiles are placed
+	 * @param emptyCount number of empty squares in the segment
+	 * @param boardValue sum of the values of the tiles already on the segment
+	 * @param direction layout direction
+	 * @param values values of the tiles of the rack, in decreasing order
+	 * @param coefficients array in which to compute the multiplier of each placed tile value
+	 * @return upper bound of the score
+	 * @since 1.1.0
+	 */
+	private int getScoreBound(int[] emptySquares, int emptyCount, int boardValue, Direction direction,
+			int[] values, int[] coefficients) {
+
+		var wordMultiplier = 1;
+
+		for (var index = 0; index < emptyCount; index++) {
+			wordMultiplier *= grid.getWordMultiplier(emptySquares[index]);
+		}
+
+		var bound = boardValue * wordMultiplier;
+
+		for (var index = 0; index < emptyCount; index++) {
+
+			var square = emptySquares[index];
+			var letterMultiplier = grid.getLetterMultiplier(square);
+			var coefficient = letterMultiplier * wordMultiplier;
+
+			if ((crossChecks.getMask(square, direction) & CROSS_WORD) != 0) {
+
+				var squareWordMultiplier = grid.getWordMultiplier(square);
+				coefficient += letterMultiplier * squareWordMultiplier;
+				bound += crossChecks.getScore(square, direction) * squareWordMultiplier;
+			}
+
+			coefficients[index] = coefficient;
+		}
+
+		sort(coefficients, 0, emptyCount);
+
+		for (var index = 0; index < emptyCount; index++) {
+			bound += coefficients[emptyCount - 1 - index] * values[index];
+		}
+
+		if (emptyCount == SCRABBLE_LENGTH) {
+			bound += SCRABBLE_REWARD;
+		}
+
+		return bound;
+	}
+
+	/**
+	 * Gets the number of nodes explored by the current or last search of this evaluator, a node being a tile placed
+	 * from the rack. This method must be called by the searching thread, typically from a {@link MoveVisitor}.
+	 * Searches run by {@link #listMoves(Rack, ForkJoinPool)} are not counted.
+	 *
+	 * @return number of explored nodes
+	 * @since 1.1.0
+	 */
+	public long getNodeCount() {
+		return nodeCount;
+	}
+
+	/**
+	 * Returns the mask of the letters that can be placed from the rack, either with a natural tile or with a blank.
+	 *
+	 * @return mask of the placeable letters
+	 * @since 1.1.0
+	 */
+	protected int getPlaceableLetters() {
+		return (rackMask & BLANK_MASK) == 0 ? rackMask : ALL_LETTERS;
+	}
+
+	/**
+	 * Takes a tile from the rack. Every {@value #CANCELLATION_PERIOD} explored nodes, the cancellation condition of
+	 * the search, if any, is checked and the search is stopped if it is met.
+	 *
+	 * @param index letter index of the tile to take, {@link Dictionary#LETTER_COUNT} for a blank tile
+	 * @since 1.1.0
+	 */
+	protected void take(int index) {
+
+		if ((++nodeCount & CANCELLATION_PERIOD - 1) == 0 && cancelled != null && cancelled.getAsBoolean()) {
+			stopped = true;
+		}
+
+		leaveIndex -= leaveRadices[index];
+
+		if (--letterCounts[index] == 0) {
+			rackMask &= ~(1 << index);
+		}
+	}
+
+	/**
+	 * Puts back a tile on the rack.
+	 *
+	 * @param index letter index of the tile to put back, {@link Dictionary#LETTER_COUNT} for a blank tile
+	 * @since 1.1.0
 	 */
-	private void prefixFromBoard(Trie trie) {
+	protected void putBack(int index) {
 
-		var square = anchorSquare;
+		leaveIndex += leaveRadices[index];
 
-		while (square.hasPreviousTile(direction)) {
-			square = square.getPrevious(direction);
+		if (letterCounts[index]++ == 0) {
+			rackMask |= 1 << index;
 		}
+	}
+
+	/**
+	 * Iterates possible moves prefixing with tiles already placed on the board.
+	 *
+	 * @since 0.0.0
+	 */
+	private void prefixFromBoard() {
 
-		startSquare = square;
+		var node = ROOT;
 
-		while (square != anchorSquare) {
+		start = anchor - grid.getTileCountBefore(anchor, direction) * step;
 
-			var tile = square.getTile();
-			var letter = tile.letter();
+		for (var index = start; node != NONE && index != anchor; index += step) {
 
-			trie = trie.getChild(letter);
-			word.append(letter);
+			var letterIndex = grid.getLetterIndex(index);
 
-			square = square.getNext(direction);
+			node = dawg.getChild(node, letterIndex);
+			word.append((char) ('A' + letterIndex));
 		}
 
-		suffixFromRack(trie, square);
+		if (node != NONE) {
+			suffixFromRack(node, anchor);
+		}
 
 		word.delete(0, word.length());
 	}
@@ -252,34 +828,34 @@ public class Evaluator {
 	/**
 	 * Iterates possible moves prefixing with a tile from the rack.
 	 *
-	 * @param trie current trie
-	 * @param square current square
+	 * @param node current node
+	 * @param square index of the current square
 	 * @since 0.0.0
 	 */
-	private void prefixFromRack(Trie trie, Square square) {
+	private void prefixFromRack(int node, int square) {
 
-		startSquare = square;
-		suffixFromRack(trie, anchorSquare);
+		start = square;
+		suffixFromRack(node, anchor);
 
-		square = square.getPrevious(direction);
+		square = getPrevious(square, direction);
 
-		if (square != null && square.isEmpty() && !square.isAnchor()) {
+		if (square != OUTSIDE && grid.isEmpty(square) && !board.isAnchor(square)) {
 
-			var children = trie.getChildren();
+			var placeableLetters = getPlaceableLetters();
+			var end = dawg.getEdgeEnd(node);
 
-			for (var index = 0; index < LETTER_COUNT; index++) {
+			for (var edge = dawg.getEdgeStart(node); edge < end && !stopped; edge++) {
 
-				var child = children[index];
+				var index = dawg.getLetterIndex(edge);
 
-				if (child != null) {
+				if ((placeableLetters & 1 << index) != 0) {
 
+					var child = dawg.getTarget(edge);
 					var letter = (char) ('A' + index);
 
 					if (letterCounts[index] > 0) {
 						prefixFromRack(child, square, tileSamples[index]);
-					}
-
-					if (letterCounts[LETTER_COUNT] > 0) {
+					} else {
 						prefixFromRack(child, square, blank(letter));
 					}
 				}
@@ -290,14 +866,12 @@ public class Evaluator {
 	/**
 	 * Iterates possible moves prefixing with a tile from the rack.
 	 *
-	 * @param trie current trie
-	 * @param square current square
+	 * @param node current node
+	 * @param square index of the current square
 	 * @param tile tile to play
 	 * @since 0.0.0
 	 */
-	private void prefixFromRack(Trie trie, Square square, Tile tile) {
-
-		currentTile = tile;
+	private void prefixFromRack(int node, int square, Tile tile) {
 
 		var value = tile.value();
 
@@ -309,50 +883,47 @@ public class Evaluator {
 				LETTER_COUNT :
 				letter - 'A';
 
-		letterCounts[index]--;
+		take(index);
 		tiles.addLast(tile);
 		word.append(letter);
 
-		prefixFromRack(trie, square);
+		prefixFromRack(node, square);
 
 		word.deleteCharAt(word.length() - 1);
 		tiles.removeLast();
-		letterCounts[index]++;
+		putBack(index);
 	}
 
 	/**
 	 * Iterates possible moves suffixing with a tile from the board.
 	 *
-	 * @param trie current trie
-	 * @param square current square
+	 * @param node current node
+	 * @param square index of the current square
 	 * @since 0.0.0
 	 */
-	private void suffixFromBoard(Trie trie, Square square) {
+	private void suffixFromBoard(int node, int square) {
 
-		var tile = square.getTile();
-		var child = trie.getChild(tile);
+		var letterIndex = grid.getLetterIndex(square);
+		var child = dawg.getChild(node, letterIndex);
 
-		if (child != null) {
+		if (child != NONE) {
 
-			word.append(tile.letter());
+			word.append((char) ('A' + letterIndex));
 
-			if (square.hasNext(direction)) {
+			var next = getNext(square, direction);
 
-				square = square.getNext(direction);
+			if (next == OUTSIDE) {
 
-				if (square.isEmpty()) {
-
-					checkCurrentWord(child);
-					suffixFromRack(child, square);
+				checkCurrentWord(child);
 
-				} else {
+			} else if (grid.isEmpty(next)) {
 
-					suffixFromBoard(child, square);
-				}
+				checkCurrentWord(child);
+				suffixFromRack(child, next);
 
 			} else {
 
-				checkCurrentWord(child);
+				suffixFromBoard(child, next);
 			}
 
 			word.deleteCharAt(word.length() - 1);
@@ -362,28 +933,32 @@ public class Evaluator {
 	/**
 	 * Iterates possible moves suffixing with a tile from the rack.
 	 *
-	 * @param trie current trie
-	 * @param square current empty square on which to place a tile from the rack
+	 * @param node current node
+	 * @param square index of the current empty square on which to place a tile from the rack
 	 * @since 0.0.0
 	 */
-	private void suffixFromRack(Trie trie, Square square) {
+	private void suffixFromRack(int node, int square) {
 
-		var children = trie.getChildren();
+		var candidateLetters = crossChecks.getMask(square, direction) & getPlaceableLetters();
 
-		for (var index = 0; index < LETTER_COUNT; index++) {
+		if (candidateLetters != 0) {
 
-			var child = children[index];
+			var end = dawg.getEdgeEnd(node);
 
-			if (child != null) {
+			for (var edge = dawg.getEdgeStart(node); edge < end && !stopped; edge++) {
 
-				var letter = (char) ('A' + index);
+				var index = dawg.getLetterIndex(edge);
 
-				if (letterCounts[index] > 0) {
-					suffixFromRack(child, square, tileSamples[index]);
-				}
+				if ((candidateLetters & 1 << index) != 0) {
 
-				if (letterCounts[LETTER_COUNT] > 0) {
-					suffixFromRack(child, square, blank(letter));
+					var child = dawg.getTarget(edge);
+					var letter = (char) ('A' + index);
+
+					if (letterCounts[index] > 0) {
+						suffixFromRack(child, square, tileSamples[index]);
+					} else {
+						suffixFromRack(child, square, blank(letter));
+					}
 				}
 			}
 		}
@@ -392,14 +967,12 @@ public class Evaluator {
 	/**
 	 * Iterates possible moves suffixing with a tile from the rack.
 	 *
-	 * @param trie current trie
-	 * @param square current empty square on which to place a tile from the rack
+	 * @param node current node
+	 * @param square index of the current empty square on which to place a tile from the rack
 	 * @param tile tile to place
 	 * @since 0.0.0
 	 */
-	private void suffixFromRack(Trie trie, Square square, Tile tile) {
-
-		currentTile = tile;
+	private void suffixFromRack(int node, int square, Tile tile) {
 
 		var value = tile.value();
 
@@ -411,104 +984,360 @@ public class Evaluator {
 				LETTER_COUNT :
 				letter - 'A';
 
-		if (checkAcrossWord(square)) {
+		take(index);
+		tiles.addLast(tile);
+		word.append(letter);
+
+		var next = getNext(square, direction);
+
+		if (next == OUTSIDE) {
+
+			checkCurrentWord(node);
+
+		} else if (grid.isEmpty(next)) {
+
+			checkCurrentWord(node);
+			suffixFromRack(node, next);
+
+		} else {
+
+			suffixFromBoard(node, next);
+		}
+
+		putBack(index);
+		tiles.removeLast();
+		word.deleteCharAt(word.length() - 1);
+	}
 
-			letterCounts[index]--;
-			tiles.addLast(currentTile);
-			word.append(letter);
+	/**
+	 * Checks if the current node is terminal. If it is, adds the current move.
+	 *
+	 * @param node node to test
+	 * @since 0.0.0
+	 */
+	private void checkCurrentWord(int node) {
 
-			if (square.hasNext(direction)) {
+		if (dawg.isWord(node)) {
+			addCurrentMove();
+		}
+	}
 
-				square = square.getNext(direction);
+	/**
+	 * Adds the current move, formed by the current word and tiles from the current start square.
+	 *
+	 * @since 1.1.0
+	 */
+	protected void addCurrentMove() {
 
-				if (square.isEmpty()) {
+		if (!stopped) {
 
-					checkCurrentWord(trie);
-					suffixFromRack(trie, square);
+			var assigned = assignBlanks();
 
-				} else {
+			candidate.score = computeScore();
+			candidate.equity = candidate.score + leaveValues[leaveIndex];
+			stopped = !visitor.visit(candidate);
+			rank++;
 
-					suffixFromBoard(trie, square);
+			if (assigned) {
+				restoreTiles();
+			}
+		}
+	}
+
+	/**
+	 * Moves the natural tiles of the current move to the squares where their value is the most multiplied, for each
+	 * letter placed with both natural and blank tiles. Among squares of equal multiplier, the first ones get the
+	 * natural tiles, so that the assignment does not depend on the order in which the tiles were placed.
+	 *
+	 * @return whether tiles were moved, in which case they must be restored with {@link #restoreTiles()}
+	 * @since 1.1.0
+	 */
+	private boolean assignBlanks() {
+
+		var tileCount = tiles.size();
+		var mixedLetters = 0;
+
+		for (var tileIndex = 0; tileIndex < tileCount; tileIndex++) {
+
+			var tile = tiles.get(tileIndex);
+
+			if (tile.isBlank() && tileSamples[tile.letterIndex()] != null) {
+				mixedLetters |= 1 << tile.letterIndex();
+			}
+		}
+
+		if (mixedLetters != 0) {
+
+			var index = start;
+			var wordMultiplier = 1;
+
+			for (var tileIndex = 0; tileIndex < tileCount; tileIndex++) {
+
+				while (grid.hasTile(index)) {
+					index += step;
 				}
 
-			} else {
+				searchedTiles[tileIndex] = tiles.get(tileIndex);
+				wordPositions[tileIndex] = (index - start) / step;
+				wordMultiplier *= grid.getWordMultiplier(index);
+				index += step;
+			}
+
+			index = start;
+
+			for (var tileIndex = 0; tileIndex < tileCount; tileIndex++) {
+
+				while (grid.hasTile(index)) {
+					index += step;
+				}
+
+				var coefficient = wordMultiplier;
+
+				if ((crossChecks.getMask(index, direction) & CROSS_WORD) != 0) {
+					coefficient += grid.getWordMultiplier(index);
+				}
 
-				checkCurrentWord(trie);
+				coefficients[tileIndex] = grid.getLetterMultiplier(index) * coefficient;
+				index += step;
 			}
 
-			letterCounts[index]++;
-			tiles.removeLast();
-			word.deleteCharAt(word.length() - 1);
+			for (var letters = mixedLetters; letters != 0; letters &= letters - 1) {
+				assignBlanks(numberOfTrailingZeros(letters), tileCount);
+			}
 		}
+
+		return mixedLetters != 0;
 	}
 
 	/**
-	 * Adds the score of a formed across word.
+	 * Assigns the natural tiles of a letter to the squares of the current move where they score the most.
 	 *
-	 * @param square current square
-	 * @return {@code false} if there is an invalid across word, {@code true} otherwise
-	 * @since 0.0.0
+	 * @param letterIndex index of a letter placed with both natural and blank tiles
+	 * @param tileCount number of tiles of the current move
+	 * @since 1.1.0
 	 */
-	private boolean checkAcrossWord(Square square) {
+	private void assignBlanks(int letterIndex, int tileCount) {
 
-		var valid = true;
+		var naturalCount = 0;
+		var letterTiles = 0;
 
-		var acrossDirection = direction.across();
+		for (var tileIndex = 0; tileIndex < tileCount; tileIndex++) {
 
-		if (square.hasPreviousTile(acrossDirection) ||
-				square.hasNextTile(acrossDirection)) {
+			var tile = searchedTiles[tileIndex];
 
-			var previousTiles = board.getPreviousTiles(square, acrossDirection);
+			if (tile.letterIndex() == letterIndex) {
 
-			var acrossTrie = dictionary.trie();
+				letterTiles |= 1 << tileIndex;
 
-			acrossTrie = acrossTrie.getChild(previousTiles);
-			acrossTrie = acrossTrie.getChild(currentTile);
+				if (!tile.isBlank()) {
+					naturalCount++;
+				}
+			}
+		}
 
-			if (acrossTrie == null) {
+		var blankTiles = letterTiles;
 
-				valid = false;
+		for (var natural = 0; natural < naturalCount; natural++) {
 
-			} else {
+			var best = -1;
 
-				var nextTiles = board.getNextTiles(square, acrossDirection);
-				var nextTileIterator = nextTiles.iterator();
+			for (var remaining = blankTiles; remaining != 0; remaining &= remaining - 1) {
 
-				while (valid && nextTileIterator.hasNext()) {
+				var tileIndex = numberOfTrailingZeros(remaining);
 
-					var nextTile = nextTileIterator.next();
+				if (best == -1 || coefficients[tileIndex] > coefficients[best]) {
+					best = tileIndex;
+				}
+			}
 
-					acrossTrie = acrossTrie.getChild(nextTile);
+			blankTiles &= ~(1 << best);
+		}
 
-					if (acrossTrie == null) {
-						valid = false;
-					}
-				}
+		var blankTile = blank((char) ('A' + letterIndex));
+
+		for (var remaining = letterTiles; remaining != 0; remaining &= remaining - 1) {
+
+			var tileIndex = numberOfTrailingZeros(remaining);
+			var isBlank = (blankTiles & 1 << tileIndex) != 0;
+
+			tiles.set(tileIndex, isBlank ? blankTile : tileSamples[letterIndex]);
+			word.setCharAt(wordPositions[tileIndex], (char) ((isBlank ? 'a' : 'A') + letterIndex));
+		}
+	}
+
+	/**
+	 * Restores the tiles of the current move as they were placed by the search, after {@link #assignBlanks()}.
+	 *
+	 * @since 1.1.0
+	 */
+	private void restoreTiles() {
+
+		var tileCount = tiles.size();
+
+		for (var tileIndex = 0; tileIndex < tileCount; tileIndex++) {
 
-				valid = valid && acrossTrie.isWord();
+			var tile = searchedTiles[tileIndex];
+			tiles.set(tileIndex, tile);
+			word.setCharAt(wordPositions[tileIndex], tile.isBlank() ? toLowerCase(tile.letter()) : tile.letter());
+		}
+	}
+
+	/**
+	 * View of the current move, handed to the visitor.
+	 *
+	 * @author Jonathan Guéhenneux
+	 * @since 1.1.0
+	 */
+	private class Candidate implements MoveCandidate {
+
+		private int score;
+		private double equity;
+		private List<Tile> viewedTiles;
+		private List<Tile> tilesView;
+
+		@Override
+		public Reference reference() {
+			return board.getReference(start, direction);
+		}
+
+		@Override
+		public CharSequence word() {
+			return word;
+		}
+
+		@Override
+		public List<Tile> tiles() {
+
+			if (viewedTiles != tiles) {
+
+				viewedTiles = tiles;
+				tilesView = unmodifiableList(tiles);
 			}
+
+			return tilesView;
+		}
+
+		@Override
+		public int score() {
+			return score;
+		}
+
+		@Override
+		public double equity() {
+			return equity;
+		}
+
+		@Override
+		public boolean covers(Square square) {
+
+			var length = word.length();
+			var startColumn = start / SIZE;
+			var startRow = start % SIZE;
+
+			return direction == HORIZONTAL ?
+					square.row() == startRow &&
+							square.column() >= startColumn &&
+							square.column() < startColumn + length :
+					square.column() == startColumn &&
+							square.row() >= startRow &&
+							square.row() < startRow + length;
 		}
 
-		return valid;
+		@Override
+		public Move toMove() {
+			return new Move(reference(), word.toString(), new ArrayList<>(tiles), score, equity);
+		}
 	}
 
 	/**
-	 * Checks if the current trie is terminal. If it is, adds the current move.
+	 * Search of the moves covering an anchor square in a direction.
 	 *
-	 * @param trie trie to test
-	 * @since 0.0.0
+	 * @param anchor index of the anchor square
+	 * @param direction layout direction
+	 * @param index index of the search, in the order of {@link #listMoves(Rack)}
+	 * @param bound upper bound of the score of the moves
+	 * @author Jonathan Guéhenneux
+	 * @since 1.1.0
+	 */
+	private record Search(int anchor, Direction direction, int index, int bound) {
+
+	}
+
+	/**
+	 * Task listing the moves of a range of searches. Search {@code 2 * i} is in the horizontal direction from the
+	 * anchor square {@code i}, search {@code 2 * i + 1} is in the vertical direction from the same anchor square.
+	 * A task is split until it covers a single search, which is run with a search context taken from the contexts of
+	 * the call: a copy of the evaluator prepared once, whose state is restored at the end of each search, then given
+	 * back for the following searches. There are as many contexts as searches running at the same time.
+	 *
+	 * @author Jonathan Guéhenneux
+	 * @since 1.1.0
 	 */
-	private void checkCurrentWord(Trie trie) {
+	private static class SearchTask extends RecursiveTask<List<Move>> {
+
+		private final Evaluator evaluator;
+		private final Rack rack;
+		private final Queue<Evaluator> contexts;
+		private final int[] anchors;
+		private final int start;
+		private final int end;
+
+		/**
+		 * @param evaluator evaluator to copy when no search context is available
+		 * @param rack rack with which to prepare the search contexts
+		 * @param contexts available search contexts, shared by all the tasks of the call
+		 * @param anchors indices of the anchor squares of the board
+		 * @param start index of the first search, inclusive
+		 * @param end index of the last search, exclusive
+		 * @since 1.1.0
+		 */
+		SearchTask(Evaluator evaluator, Rack rack, Queue<Evaluator> contexts, int[] anchors, int start, int end) {
+
+			this.evaluator = evaluator;
+			this.rack = rack;
+			this.contexts = contexts;
+			this.anchors = anchors;
+			this.start = start;
+			this.end = end;
+		}
+
+		@Override
+		protected List<Move> compute() {
+
+			List<Move> moves;
+
+			if (end - start <= 1) {
 
-		if (trie.isWord()) {
+				moves = new ArrayList<>();
 
-			var move = new Move(
-					board.getReference(startSquare, direction),
-					word.toString(),
-					new ArrayList<>(tiles),
-					computeScore());
+				if (start < end) {
+
+					var context = contexts.poll();
+
+					if (context == null) {
+
+						context = evaluator.copy();
+						context.prepare(rack);
+					}
+
+					context.visitor = collect(moves);
+					context.listMoves(anchors[start / 2], start % 2 == 0 ? HORIZONTAL : VERTICAL);
+					contexts.offer(context);
+				}
+
+			} else {
+
+				var middle = start + end >>> 1;
+				var left = new SearchTask(evaluator, rack, contexts, anchors, start, middle);
+				var right = new SearchTask(evaluator, rack, contexts, anchors, middle, end);
+
+				left.fork();
+				var rightMoves = right.compute();
+				moves = left.join();
+				moves.addAll(rightMoves);
+			}
 
-			moves.add(move);
+			return moves;
 		}
 	}
 }
@@ -0,0 +1,294 @@
+package com.github.achaaab.scrabble.model.move;
+
+import com.github.achaaab.scrabble.model.core.Board;
+import com.github.achaaab.scrabble.model.core.Dictionary;
+import com.github.achaaab.scrabble.model.core.Direction;
+import com.github.achaaab.scrabble.model.core.Grid;
+import com.github.achaaab.scrabble.model.core.Tile;
+import com.github.achaaab.scrabble.tools.Dawg;
+
+import static com.github.achaaab.scrabble.model.core.Board.SIZE;
+import static com.github.achaaab.scrabble.model.core.Dictionary.LETTER_COUNT;
+import static com.github.achaaab.scrabble.model.core.Grid.OUTSIDE;
+import static com.github.achaaab.scrabble.model.core.Grid.getNext;
+import static com.github.achaaab.scrabble.model.core.Grid.getPosition;
+import static com.github.achaaab.scrabble.model.core.Grid.getPrevious;
+import static com.github.achaaab.scrabble.model.core.Tile.blank;
+import static com.github.achaaab.scrabble.tools.Dawg.NONE;
+import static com.github.achaaab.scrabble.tools.Dawg.ROOT;
+import static com.github.achaaab.scrabble.tools.Gaddag.SEPARATOR_INDEX;
+import static java.lang.Character.toLowerCase;
+
+/**
+ * Move evaluator, listing moves with the algorithm described by Steven A. Gordon: from each anchor square, words are
+ * grown to the left then to the right, following the GADDAG of the dictionary. Unlike {@link Evaluator}, no prefix is
+ * explored unless it can be completed into a word through the anchor square.
+ * <p>
+ * This evaluator lists the same moves as {@link Evaluator}. A move covering several anchor squares is only listed
+ * from its leftmost (or topmost) anchor square.
+ *
+ * @author Jonathan Guéhenneux
+ * @since 1.1.0
+ */
+public class GaddagEvaluator extends Evaluator {
+
+	private final Dawg gaddag;
+	private final Tile[] placedTiles;
+
+	/**
+	 * Creates a GADDAG evaluator. The GADDAG of the specified dictionary is built if it was not already.
+	 *
+	 * @param board board on which to evaluate moves
+	 * @param dictionary dictionary to use
+	 * @since 1.1.0
+	 */
+	public GaddagEvaluator(Board board, Dictionary dictionary) {
+
+		super(board, dictionary);
+
+		gaddag = dictionary.gaddag();
+		placedTiles = new Tile[SIZE];
+	}
+
+	/**
+	 * Creates a GADDAG evaluator sharing the board and dictionary of another GADDAG evaluator, with its own search
+	 * state.
+	 *
+	 * @param evaluator evaluator to copy
+	 * @since 1.1.0
+	 */
+	protected GaddagEvaluator(GaddagEvaluator evaluator) {
+
+		super(evaluator);
+
+		gaddag = evaluator.gaddag;
+		placedTiles = new Tile[SIZE];
+	}
+
+	@Override
+	protected GaddagEvaluator copy() {
+		return new GaddagEvaluator(this);
+	}
+
+	@Override
+	protected void listMoves(int anchor, Direction direction) {
+
+		this.anchor = anchor;
+		setDirection(direction);
+
+		left(ROOT, anchor);
+	}
+
+	/**
+	 * Grows the current word to the left, covering the specified square.
+	 *
+	 * @param node current GADDAG node
+	 * @param square index of the square to cover, either the anchor square or a square on its left
+	 * @since 1.1.0
+	 */
+	private void left(int node, int square) {
+
+		if (grid.hasTile(square)) {
+
+			var child = gaddag.getChild(node, grid.getLetterIndex(square));
+
+			if (child != NONE) {
+				leftCovered(child, square);
+			}
+
+		} else {
+
+			forEachCandidate(node, square, this::left);
+		}
+	}
+
+	/**
+	 * Places a tile from the rack on the specified square, then continues growing the current word.
+	 *
+	 * @param node GADDAG node reached with the letter of the tile to place
+	 * @param square index of the empty square on which to place the tile
+	 * @param tile tile to place
+	 * @since 1.1.0
+	 */
+	private void left(int node, int square, Tile tile) {
+
+		var index = tile.isBlank() ? LETTER_COUNT : tile.letterIndex();
+		var position = getPosition(square, direction);
+
+		take(index);
+		placedTiles[position] = tile;
+
+		leftCovered(node, square);
+
+		placedTiles[position] = null;
+		putBack(index);
+	}
+
+	/**
+	 * Continues growing the current word once the specified square is covered, either to the left or, after
+	 * the separator, to the right of the anchor square.
+	 *
+	 * @param node current GADDAG node
+	 * @param square index of the leftmost covered square
+	 * @since 1.1.0
+	 */
+	private void leftCovered(int node, int square) {
+
+		var previous = getPrevious(square, direction);
+
+		if (previous != OUTSIDE && grid.hasTile(previous)) {
+
+			left(node, previous);
+
+		} else {
+
+			var separatorNode = gaddag.getChild(node, SEPARATOR_INDEX);
+
+			if (separatorNode != NONE) {
+
+				start = square;
+				right(separatorNode, getNext(anchor, direction));
+			}
+
+			if (previous != OUTSIDE && !board.isAnchor(previous)) {
+				left(node, previous);
+			}
+		}
+	}
+
+	/**
+	 * Grows the current word to the right of the anchor square.
+	 *
+	 * @param node current GADDAG node, after the separator
+	 * @param square index of the square following the current word, {@link Grid#OUTSIDE} if the current word reaches
+	 * the board edge
+	 * @since 1.1.0
+	 */
+	private void right(int node, int square) {
+
+		if ((square == OUTSIDE || grid.isEmpty(square)) && gaddag.isWord(node)) {
+			addCurrentMove(square);
+		}
+
+		if (square != OUTSIDE) {
+
+			if (grid.hasTile(square)) {
+
+				var child = gaddag.getChild(node, grid.getLetterIndex(square));
+
+				if (child != NONE) {
+					right(child, getNext(square, direction));
+				}
+
+			} else {
+
+				forEachCandidate(node, square, this::right);
+			}
+		}
+	}
+
+	/**
+	 * Places a tile from the rack on the specified square, then continues growing the current word to the right.
+	 *
+	 * @param node GADDAG node reached with the letter of the tile to place
+	 * @param square index of the empty square on which to place the tile
+	 * @param tile tile to place
+	 * @since 1.1.0
+	 */
+	private void right(int node, int square, Tile tile) {
+
+		var index = tile.isBlank() ? LETTER_COUNT : tile.letterIndex();
+		var position = getPosition(square, direction);
+
+		take(index);
+		placedTiles[position] = tile;
+
+		right(node, getNext(square, direction));
+
+		placedTiles[position] = null;
+		putBack(index);
+	}
+
+	/**
+	 * Tries each letter of the rack that can be placed on the specified square, following the GADDAG from the
+	 * specified node, with a natural tile if one is left, with a blank tile otherwise. Candidate letters are filtered
+	 * with the cross-check of the square. The separator is never a candidate.
+	 *
+	 * @param node current GADDAG node
+	 * @param square index of the empty square on which to place a tile
+	 * @param placer placer to call with the reached node, the square and each candidate tile
+	 * @since 1.1.0
+	 */
+	private void forEachCandidate(int node, int square, TilePlacer placer) {
+
+		var candidateLetters = crossChecks.getMask(square, direction) & getPlaceableLetters();
+
+		if (candidateLetters != 0) {
+
+			var end = gaddag.getEdgeEnd(node);
+
+			for (var edge = gaddag.getEdgeStart(node); edge < end && !stopped; edge++) {
+
+				var index = gaddag.getLetterIndex(edge);
+
+				if ((candidateLetters & 1 << index) != 0) {
+
+					var child = gaddag.getTarget(edge);
+
+					if (letterCounts[index] > 0) {
+						placer.place(child, square, tileSamples[index]);
+					} else {
+						placer.place(child, square, blank((char) ('A' + index)));
+					}
+				}
+			}
+		}
+	}
+
+	/**
+	 * Adds the current move, from the start square to the specified end square.
+	 *
+	 * @param end index of the square following the last square of the move, {@link Grid#OUTSIDE} if the move
+	 * reaches the board edge
+	 * @since 1.1.0
+	 */
+	private void addCurrentMove(int end) {
+
+		tiles.clear();
+		word.setLength(0);
+
+		for (var square = start; square != end; square = getNext(square, direction)) {
+
+			if (grid.hasTile(square)) {
+
+				word.append(grid.getLetter(square));
+
+			} else {
+
+				var tile = placedTiles[getPosition(square, direction)];
+				tiles.add(tile);
+				word.append(tile.isBlank() ? toLowerCase(tile.letter()) : tile.letter());
+			}
+		}
+
+		addCurrentMove();
+	}
+
+	/**
+	 * Placer of a tile from the rack, continuing the search.
+	 *
+	 * @author Jonathan Guéhenneux
+	 * @since 1.1.0
+	 */
+	@FunctionalInterface
+	private interface TilePlacer {
+
+		/**
+		 * @param node GADDAG node reached with the letter of the tile to place
+		 * @param square index of the empty square on which to place the tile
+		 * @param tile tile to place
+		 * @since 1.1.0
+		 */
+		void place(int node, int square, Tile tile);
+	}
+}
@@ -0,0 +1,296 @@
+package com.github.achaaab.scrabble.model.move;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static com.github.achaaab.scrabble.model.core.Dictionary.LETTER_COUNT;
+import static java.lang.Math.abs;
+import static java.lang.Math.max;
+
+/**
+ * Values of the rack leaves, a leave being the tiles remaining on the rack after a move. The value of a leave estimates
+ * how much the leave will be worth in the next moves, so that the equity of a move, its score plus the value of its
+ * leave, ranks the moves better than their score alone.
+ * <p>
+ * A leave is a multiset of up to {@value #MAXIMUM_SIZE} tiles, counted by letter index, the blank tiles having the
+ * index {@link com.github.achaaab.scrabble.model.core.Dictionary#LETTER_COUNT}. Leaves are ranked in the
+ * combinatorial number system, so that the values of all the leaves are stored in a single primitive array, with no
+ * gap. The value of a leave larger than {@value #MAXIMUM_SIZE} tiles is {@code 0}.
+ * <p>
+ * A leave table is read-only once created, so it can be shared by several evaluators.
+ *
+ * @author Jonathan Guéhenneux
+ * @since 1.1.0
+ */
+public class LeaveTable {
+
+	public static final int MAXIMUM_SIZE = 6;
+
+	private static final int SLOT_COUNT = LETTER_COUNT + 1;
+	private static final int BLANK_INDEX = LETTER_COUNT;
+	private static final int FORMAT = 0x4C454156;
+
+	/**
+	 * Single tile values of the {@link #heuristic()} table, by letter index, blank last.
+	 */
+	private static final float[] TILE_VALUES = {
+			1.0f, -2.0f, 0.5f, 0.5f, 1.5f, -2.0f, -1.5f, 0.5f, -0.5f, -2.5f, -1.0f, -0.5f, 0.5f,
+			0.0f, -1.0f, -0.5f, -7.0f, 1.0f, 7.5f, 0.0f, -3.0f, -5.0f, -3.0f, 3.0f, -0.5f, 2.0f,
+			20.0f };
+
+	private static final float DUPLICATE_PENALTY = 3.0f;
+	private static final float IMBALANCE_PENALTY = 2.0f;
+	private static final String VOWELS = "AEIOU";
+
+	private static final int[][] BINOMIALS;
+	private static final int[] OFFSETS;
+
+	static {
+
+		var maximumSlot = SLOT_COUNT + MAXIMUM_SIZE;
+
+		BINOMIALS = new int[maximumSlot][MAXIMUM_SIZE + 1];
+
+		for (var n = 0; n < maximumSlot; n++) {
+
+			BINOMIALS[n][0] = 1;
+
+			for (var k = 1; k <= MAXIMUM_SIZE; k++) {
+				BINOMIALS[n][k] = n == 0 ? 0 : BINOMIALS[n - 1][k - 1] + BINOMIALS[n - 1][k];
+			}
+		}
+
+		OFFSETS = new int[MAXIMUM_SIZE + 2];
+
+		for (var size = 0; size <= MAXIMUM_SIZE; size++) {
+			OFFSETS[size + 1] = OFFSETS[size] + BINOMIALS[SLOT_COUNT + size - 1][size];
+		}
+	}
+
+	/**
+	 * Gets the index of a leave in a leave table.
+	 *
+	 * @param letterCounts number of tiles of each letter in the leave, blank last
+	 * @return index of the leave, {@code -1} if the leave has more than {@value #MAXIMUM_SIZE} tiles
+	 * @since 1.1.0
+	 */
+	public static int getIndex(int[] letterCounts) {
+
+		var size = 0;
+
+		for (var slot = 0; slot < SLOT_COUNT; slot++) {
+			size += letterCounts[slot];
+		}
+
+		var index = -1;
+
+		if (size <= MAXIMUM_SIZE) {
+
+			index = OFFSETS[size];
+			var position = 0;
+
+			for (var slot = 0; slot < SLOT_COUNT; slot++) {
+
+				for (var count = letterCounts[slot]; count > 0; count--) {
+
+					index += BINOMIALS[slot + position][position + 1];
+					position++;
+				}
+			}
+		}
+
+		return index;
+	}
+
+	/**
+	 * Creates a table from a simple heuristic: each tile has a fixed value, fitted to English, each duplicate letter is
+	 * penalized, as well as any imbalance between vowels and consonants. Tables fitted to a lexicon by self-play should
+	 * rather be loaded with {@link #read(InputStream)}.
+	 *
+	 * @return created table
+	 * @since 1.1.0
+	 */
+	public static LeaveTable heuristic() {
+
+		var values = new float[OFFSETS[MAXIMUM_SIZE + 1]];
+		var letterCounts = new int[SLOT_COUNT];
+		fill(values, letterCounts, 0, 0);
+		return new LeaveTable(values);
+	}
+
+	/**
+	 * Fills the values of the leaves, enumerating the leaves recursively.
+	 *
+	 * @param values values to fill
+	 * @param letterCounts letter counts of the current leave
+	 * @param slot first slot to which tiles can be added
+	 * @param size size of the current leave
+	 * @since 1.1.0
+	 */
+	private static void fill(float[] values, int[] letterCounts, int slot, int size) {
+
+		values[getIndex(letterCounts)] = evaluate(letterCounts);
+
+		if (size < MAXIMUM_SIZE) {
+
+			for (var nextSlot = slot; nextSlot < SLOT_COUNT; nextSlot++) {
+
+				letterCounts[nextSlot]++;
+				fill(values, letterCounts, nextSlot, size + 1);
+				letterCounts[nextSlot]--;
+			}
+		}
+	}
+
+	/**
+	 * Evaluates a leave with the heuristic of {@link #heuristic()}.
+	 *
+	 * @param letterCounts number of tiles of each letter in the leave, blank last
+	 * @return value of the leave
+	 * @since 1.1.0
+	 */
+	private static float evaluate(int[] letterCounts) {
+
+		var value = 0.0f;
+		var vowelCount = 0;
+		var consonantCount = 0;
+
+		for (var slot = 0; slot < SLOT_COUNT; slot++) {
+
+			var count = letterCounts[slot];
+
+			if (count > 0) {
+
+				value += count * TILE_VALUES[slot] - (count - 1) * DUPLICATE_PENALTY;
+
+				if (slot == BLANK_INDEX) {
+					continue;
+				}
+
+				if (VOWELS.indexOf('A' + slot) != -1) {
+					vowelCount += count;
+				} else {
+					consonantCount += count;
+				}
+			}
+		}
+
+		return value - max(0, abs(vowelCount - consonantCount) - 1) * IMBALANCE_PENALTY;
+	}
+
+	/**
+	 * Reads a table written by {@link #write(OutputStream)}.
+	 *
+	 * @param input input stream from which to read the table, not closed by this method
+	 * @return read table
+	 * @throws UncheckedIOException if the table cannot be read
+	 * @throws IllegalArgumentException if the input does not contain a leave table
+	 * @since 1.1.0
+	 */
+	public static LeaveTable read(InputStream input) {
+
+		try {
+
+			var dataInput = new DataInputStream(input);
+
+			if (dataInput.readInt() != FORMAT || dataInput.readInt() != OFFSETS[MAXIMUM_SIZE + 1]) {
+				throw new IllegalArgumentException("invalid leave table");
+			}
+
+			var values = new float[OFFSETS[MAXIMUM_SIZE + 1]];
+			var bytes = dataInput.readNBytes(values.length * Float.BYTES);
+
+			if (bytes.length != values.length * Float.BYTES) {
+				throw new IllegalArgumentException("truncated leave table");
+			}
+
+			ByteBuffer.wrap(bytes).asFloatBuffer().get(values);
+			return new LeaveTable(values);
+
+		} catch (IOException exception) {
+
+			throw new UncheckedIOException(exception);
+		}
+	}
+
+	/**
+	 * Loads a table from a file written by {@link #write(OutputStream)}.
+	 *
+	 * @param path path of the file
+	 * @return loaded table
+	 * @throws UncheckedIOException if the table cannot be read
+	 * @throws IllegalArgumentException if the file does not contain a leave table
+	 * @since 1.1.0
+	 */
+	public static LeaveTable load(Path path) {
+
+		try (var input = Files.newInputStream(path)) {
+			return read(input);
+		} catch (IOException exception) {
+			throw new UncheckedIOException(exception);
+		}
+	}
+
+	private final float[] values;
+
+	/**
+	 * Creates a table.
+	 *
+	 * @param values value of each leave, by index, see {@link #getIndex(int[])}
+	 * @since 1.1.0
+	 */
+	public LeaveTable(float[] values) {
+
+		if (values.length != OFFSETS[MAXIMUM_SIZE + 1]) {
+			throw new IllegalArgumentException("invalid leave count: " + values.length);
+		}
+
+		this.values = values;
+	}
+
+	/**
+	 * Gets the value of a leave.
+	 *
+	 * @param letterCounts number of tiles of each letter in the leave, blank last
+	 * @return value of the leave, {@code 0} if the leave has more than {@value #MAXIMUM_SIZE} tiles
+	 * @since 1.1.0
+	 */
+	public float getValue(int[] letterCounts) {
+
+		var index = getIndex(letterCounts);
+		return index == -1 ? 0 : values[index];
+	}
+
+	/**
+	 * Writes this table.
+	 *
+	 * @param output output stream in which to write this table, not closed by this method
+	 * @throws UncheckedIOException if this table cannot be written
+	 * @since 1.1.0
+	 */
+	public void write(OutputStream output) {
+
+		try {
+
+			var dataOutput = new DataOutputStream(output);
+			dataOutput.writeInt(FORMAT);
+			dataOutput.writeInt(values.length);
+
+			var bytes = ByteBuffer.allocate(values.length * Float.BYTES);
+			bytes.asFloatBuffer().put(values);
+			dataOutput.write(bytes.array());
+			dataOutput.flush();
+
+		} catch (IOException exception) {
+
+			throw new UncheckedIOException(exception);
+		}
+	}
+}
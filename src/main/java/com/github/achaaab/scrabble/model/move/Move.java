@@ -8,7 +8,6 @@ import java.util.List;
 import static com.github.achaaab.scrabble.model.core.Board.SIZE;
 import static com.github.achaaab.scrabble.tools.StringUtilities.pad;
 import static com.github.achaaab.scrabble.tools.Alignment.LEFT;
-import static java.lang.Integer.compare;
 
 /**
  * Scrabble move.
@@ -17,15 +16,37 @@ import static java.lang.Integer.compare;
  * @param word played word
  * @param tiles played tiles
  * @param score computed score
+ * @param equity score plus the value of the rack leave, see {@link LeaveTable}, equal to the score if the leave is
+ * not evaluated
  * @author Jonathan Guéhenneux
  * @since 0.0.0
  */
-public record Move(Reference reference, String word, List<Tile> tiles, int score)
+public record Move(Reference reference, String word, List<Tile> tiles, int score, double equity)
 		implements Comparable<Move> {
 
+	/**
+	 * Creates a move whose rack leave is not evaluated.
+	 *
+	 * @param reference square and direction reference
+	 * @param word played word
+	 * @param tiles played tiles
+	 * @param score computed score
+	 * @since 0.0.0
+	 */
+	public Move(Reference reference, String word, List<Tile> tiles, int score) {
+		this(reference, word, tiles, score, score);
+	}
+
+	/**
+	 * Compares the equities of 2 moves, which are their scores unless their rack leaves are evaluated.
+	 *
+	 * @param move move to compare to
+	 * @return comparison of the equities
+	 * @since 0.0.0
+	 */
 	@Override
 	public int compareTo(Move move) {
-		return compare(score, move.score);
+		return Double.compare(equity, move.equity);
 	}
 
 	@Override
@@ -0,0 +1,153 @@
+package com.github.achaaab.scrabble.model.move;
+
+import com.github.achaaab.scrabble.model.core.Board;
+import com.github.achaaab.scrabble.model.core.Rack;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Transposition cache of move lists, keyed by the hash of the board (see
+ * {@link com.github.achaaab.scrabble.model.core.Grid#getHash()}) and the hash of the rack (see
+ * {@link Rack#getHash()}). The least recently used lists are evicted once the cache holds more than a given number of
+ * moves, which bounds its memory footprint.
+ * <p>
+ * Cached lists are only valid for the dictionary and leave table they were generated with: a cache must be cleared
+ * when either changes. A cache can be used by several threads.
+ *
+ * @author Jonathan Guéhenneux
+ * @since 1.1.0
+ */
+public class MoveCache {
+
+	public static final int DEFAULT_CAPACITY = 100_000;
+
+	private final Map<Key, List<Move>> moves;
+
+	private int capacity;
+	private int moveCount;
+
+	/**
+	 * Creates a cache with the default capacity, {@value #DEFAULT_CAPACITY} moves.
+	 *
+	 * @since 1.1.0
+	 */
+	public MoveCache() {
+		this(DEFAULT_CAPACITY);
+	}
+
+	/**
+	 * Creates a cache.
+	 *
+	 * @param capacity maximum number of cached moves, all lists included, {@code 0} to disable caching
+	 * @throws IllegalArgumentException if the capacity is negative
+	 * @since 1.1.0
+	 */
+	public MoveCache(int capacity) {
+
+		moves = new LinkedHashMap<>(16, 0.75f, true);
+		setCapacity(capacity);
+	}
+
+	/**
+	 * Gets the cached moves of a position.
+	 *
+	 * @param board board of the position
+	 * @param rack rack of the position
+	 * @return cached moves, sorted by decreasing equity, {@code null} if the position is not cached
+	 * @since 1.1.0
+	 */
+	public synchronized List<Move> get(Board board, Rack rack) {
+		return moves.get(new Key(board.grid().getHash(), rack.getHash()));
+	}
+
+	/**
+	 * Caches the moves of a position, evicting the least recently used lists if needed. A list larger than the
+	 * capacity of this cache is not cached.
+	 *
+	 * @param board board of the position
+	 * @param rack rack of the position
+	 * @param positionMoves all the moves of the position, sorted by decreasing equity
+	 * @since 1.1.0
+	 */
+	public synchronized void put(Board board, Rack rack, List<Move> positionMoves) {
+
+		if (positionMoves.size() <= capacity) {
+
+			var key = new Key(board.grid().getHash(), rack.getHash());
+			var replaced = moves.put(key, List.copyOf(positionMoves));
+
+			if (replaced != null) {
+				moveCount -= replaced.size();
+			}
+
+			moveCount += positionMoves.size();
+			evict();
+		}
+	}
+
+	/**
+	 * Sets the capacity of this cache, evicting the least recently used lists if needed.
+	 *
+	 * @param capacity maximum number of cached moves, all lists included, {@code 0} to disable caching
+	 * @throws IllegalArgumentException if the capacity is negative
+	 * @since 1.1.0
+	 */
+	public synchronized void setCapacity(int capacity) {
+
+		if (capacity < 0) {
+			throw new IllegalArgumentException("negative capacity: " + capacity);
+		}
+
+		this.capacity = capacity;
+		evict();
+	}
+
+	/**
+	 * Removes all the cached moves.
+	 *
+	 * @since 1.1.0
+	 */
+	public synchronized void clear() {
+
+		moves.clear();
+		moveCount = 0;
+	}
+
+	/**
+	 * @return number of cached moves, all lists included
+	 * @since 1.1.0
+	 */
+	public synchronized int getMoveCount() {
+		return moveCount;
+	}
+
+	/**
+	 * Evicts the least recently used lists until the number of cached moves fits the capacity.
+	 *
+	 * @since 1.1.0
+	 */
+	private void evict() {
+
+		var iterator = moves.values().iterator();
+
+		while (moveCount > capacity) {
+
+			moveCount -= iterator.next().size();
+			iterator.remove();
+		}
+	}
+
+	/**
+	 * Key of a position.
+	 *
+	 * @param boardHash hash of the board
+	 * @param rackHash hash of the rack
+	 * @author Jonathan Guéhenneux
+	 * @since 1.1.0
+	 */
+	private record Key(long boardHash, long rackHash) {
+
+	}
+}
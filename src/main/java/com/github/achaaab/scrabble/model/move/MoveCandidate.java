@@ -0,0 +1,65 @@
+package com.github.achaaab.scrabble.model.move;
+
+import com.github.achaaab.scrabble.model.core.Reference;
+import com.github.achaaab.scrabble.model.core.Square;
+import com.github.achaaab.scrabble.model.core.Tile;
+
+import java.util.List;
+
+/**
+ * Move found during a search, handed to a {@link MoveVisitor}. A candidate is a view over the search state: it is only
+ * valid during the visit, and no {@link Move} is created unless {@link #toMove()} is called.
+ *
+ * @author Jonathan Guéhenneux
+ * @since 1.1.0
+ */
+public interface MoveCandidate {
+
+	/**
+	 * @return square and direction reference of this move
+	 * @since 1.1.0
+	 */
+	Reference reference();
+
+	/**
+	 * @return played word, blank letters in lower case, only valid during the visit
+	 * @since 1.1.0
+	 */
+	CharSequence word();
+
+	/**
+	 * @return unmodifiable view of the tiles placed from the rack, only valid during the visit
+	 * @since 1.1.0
+	 */
+	List<Tile> tiles();
+
+	/**
+	 * @return score of this move
+	 * @since 1.1.0
+	 */
+	int score();
+
+	/**
+	 * @return score of this move plus the value of its rack leave, equal to the score if the leave is not evaluated
+	 * @see Evaluator#setLeaveTable(LeaveTable)
+	 * @since 1.1.0
+	 */
+	double equity();
+
+	/**
+	 * Determines if this move covers a square, either with a placed tile or with a tile already on the board.
+	 *
+	 * @param square square to test
+	 * @return whether this move covers the specified square
+	 * @since 1.1.0
+	 */
+	boolean covers(Square square);
+
+	/**
+	 * Creates a move from this candidate, copying the word and the tiles.
+	 *
+	 * @return created move
+	 * @since 1.1.0
+	 */
+	Move toMove();
+}
@@ -0,0 +1,153 @@
+package com.github.achaaab.scrabble.model.move;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Bounded min-heap keeping the best moves found during a search. Moves are ranked by equity, which is their score
+ * unless the rack leaves are evaluated. Moves with the same equity are ranked by order of discovery: the first found
+ * is considered the best, as in the stable sort of all the moves.
+ *
+ * @author Jonathan Guéhenneux
+ * @since 1.1.0
+ */
+class MoveHeap {
+
+	/**
+	 * @param equity0 equity of a first move
+	 * @param rank0 rank of discovery of the first move
+	 * @param equity1 equity of a second move
+	 * @param rank1 rank of discovery of the second move
+	 * @return whether the first move is better than the second move
+	 * @since 1.1.0
+	 */
+	private static boolean isBetter(double equity0, long rank0, double equity1, long rank1) {
+		return equity0 > equity1 || equity0 == equity1 && rank0 < rank1;
+	}
+
+	private final Move[] moves;
+	private final long[] ranks;
+
+	private int size;
+
+	/**
+	 * Creates an empty heap.
+	 *
+	 * @param capacity maximum number of moves to keep, at least 1
+	 * @throws IllegalArgumentException if the specified capacity is less than 1
+	 * @since 1.1.0
+	 */
+	MoveHeap(int capacity) {
+
+		if (capacity < 1) {
+			throw new IllegalArgumentException("invalid move count: " + capacity);
+		}
+
+		moves = new Move[capacity];
+		ranks = new long[capacity];
+		size = 0;
+	}
+
+	/**
+	 * Determines if a move would be kept by this heap. When it returns {@code false}, the move does not need to be
+	 * created.
+	 *
+	 * @param equity equity of the move, or an upper bound of it
+	 * @param rank rank of discovery of the move
+	 * @return whether a move with the specified equity and rank would be kept
+	 * @since 1.1.0
+	 */
+	boolean accepts(double equity, long rank) {
+		return size < moves.length || isBetter(equity, rank, 0);
+	}
+
+	/**
+	 * Adds a move to this heap, evicting the worst move if this heap is full.
+	 * The move must be accepted by {@link #accepts(double, long)}.
+	 *
+	 * @param move move to add
+	 * @param rank rank of discovery of the move
+	 * @since 1.1.0
+	 */
+	void add(Move move, long rank) {
+
+		if (size < moves.length) {
+
+			var index = size++;
+
+			while (index > 0) {
+
+				var parent = index - 1 >>> 1;
+
+				if (isBetter(move.equity(), rank, parent)) {
+					break;
+				}
+
+				moves[index] = moves[parent];
+				ranks[index] = ranks[parent];
+				index = parent;
+			}
+
+			moves[index] = move;
+			ranks[index] = rank;
+
+		} else {
+
+			var index = 0;
+
+			while (true) {
+
+				var child = 2 * index + 1;
+
+				if (child >= size) {
+					break;
+				}
+
+				if (child + 1 < size && isBetter(moves[child].equity(), ranks[child], child + 1)) {
+					child++;
+				}
+
+				if (isBetter(moves[child].equity(), ranks[child], move.equity(), rank)) {
+					break;
+				}
+
+				moves[index] = moves[child];
+				ranks[index] = ranks[child];
+				index = child;
+			}
+
+			moves[index] = move;
+			ranks[index] = rank;
+		}
+	}
+
+	/**
+	 * @return kept moves, best first
+	 * @since 1.1.0
+	 */
+	List<Move> toList() {
+
+		var indices = new ArrayList<Integer>(size);
+
+		for (var index = 0; index < size; index++) {
+			indices.add(index);
+		}
+
+		indices.sort((index0, index1) ->
+				isBetter(moves[index0].equity(), ranks[index0], index1) ? -1 :
+						isBetter(moves[index1].equity(), ranks[index1], index0) ? 1 : 0);
+
+		return new ArrayList<>(indices.stream().map(index -> moves[index]).toList());
+	}
+
+	/**
+	 * @param equity equity of a move
+	 * @param rank rank of discovery of a move
+	 * @param index index of a kept move
+	 * @return whether the move with the specified equity and rank is better than the kept move at the specified index
+	 * @since 1.1.0
+	 */
+	private boolean isBetter(double equity, long rank, int index) {
+		return isBetter(equity, rank, moves[index].equity(), ranks[index]);
+	}
+}
@@ -0,0 +1,20 @@
+package com.github.achaaab.scrabble.model.move;
+
+/**
+ * Visitor of the moves found during a search, see {@link Evaluator#visitMoves}.
+ *
+ * @author Jonathan Guéhenneux
+ * @since 1.1.0
+ */
+@FunctionalInterface
+public interface MoveVisitor {
+
+	/**
+	 * Visits a move, as soon as it is found.
+	 *
+	 * @param candidate found move, only valid during this call
+	 * @return whether to continue the search, {@code false} to stop it
+	 * @since 1.1.0
+	 */
+	boolean visit(MoveCandidate candidate);
+}
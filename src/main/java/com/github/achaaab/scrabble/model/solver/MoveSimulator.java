@@ -0,0 +1,365 @@
+package com.github.achaaab.scrabble.model.solver;
+
+import com.github.achaaab.scrabble.model.core.Bag;
+import com.github.achaaab.scrabble.model.core.Board;
+import com.github.achaaab.scrabble.model.core.Dictionary;
+import com.github.achaaab.scrabble.model.core.Placement;
+import com.github.achaaab.scrabble.model.core.Rack;
+import com.github.achaaab.scrabble.model.core.Tile;
+import com.github.achaaab.scrabble.model.move.Engine;
+import com.github.achaaab.scrabble.model.move.Evaluator;
+import com.github.achaaab.scrabble.model.move.LeaveTable;
+import com.github.achaaab.scrabble.model.move.Move;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Queue;
+import java.util.SplittableRandom;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.LongFunction;
+import java.util.random.RandomGenerator;
+
+import static java.lang.System.nanoTime;
+import static java.util.Comparator.comparingDouble;
+
+/**
+ * Monte Carlo ranker of candidate moves. Each iteration draws random racks from the unseen tiles and plays out every
+ * candidate move: the candidate is played, then the best move is played on each following draw, for a given number
+ * of plies. The outcome of a playout is the total score of its moves, the last move counting for its equity. The
+ * candidates are ranked by mean outcome.
+ * <p>
+ * In an iteration, all the candidates are played out with random generators created from the same seed, so that
+ * they are compared on similar draws. Iterations are run in parallel by workers, each with its own board and
+ * evaluator, so that workers only share the dictionary and the leave table, which are read-only. Moves are played on
+ * the board of a worker and undone after each playout. The boards and evaluators of the workers are pooled by the
+ * simulator and reused by the following simulations, which only copy the tiles of the simulated board.
+ *
+ * @author Jonathan Guéhenneux
+ * @since 1.1.0
+ */
+public class MoveSimulator {
+
+	private final Dictionary dictionary;
+	private final Engine engine;
+	private final int plyCount;
+	private final ExecutorService executor;
+	private final int workerCount;
+	private final LongFunction<? extends RandomGenerator> randomFactory;
+	private final Queue<Playout> playouts;
+
+	private LeaveTable leaveTable;
+
+	/**
+	 * Creates a move simulator, drawing the tiles of each playout with a {@link SplittableRandom}.
+	 *
+	 * @param dictionary dictionary of the playable words
+	 * @param engine move generation engine of the workers
+	 * @param plyCount number of moves played after a candidate move in a playout
+	 * @param executor executor running the workers
+	 * @param workerCount number of workers
+	 * @since 1.1.0
+	 */
+	public MoveSimulator(
+			Dictionary dictionary,
+			Engine engine,
+			int plyCount,
+			ExecutorService executor,
+			int workerCount) {
+
+		this(dictionary, engine, plyCount, executor, workerCount, SplittableRandom::new);
+	}
+
+	/**
+	 * Creates a move simulator.
+	 *
+	 * @param dictionary dictionary of the playable words
+	 * @param engine move generation engine of the workers
+	 * @param plyCount number of moves played after a candidate move in a playout
+	 * @param executor executor running the workers
+	 * @param workerCount number of workers
+	 * @param randomFactory factory of the random generator of a playout, from the seed of its iteration
+	 * @throws IllegalArgumentException if the number of plies is negative or if the number of workers is not positive
+	 * @since 1.1.0
+	 */
+	public MoveSimulator(
+			Dictionary dictionary,
+			Engine engine,
+			int plyCount,
+			ExecutorService executor,
+			int workerCount,
+			LongFunction<? extends RandomGenerator> randomFactory) {
+
+		if (plyCount < 0) {
+			throw new IllegalArgumentException("negative ply count: " + plyCount);
+		}
+
+		if (workerCount < 1) {
+			throw new IllegalArgumentException("worker count must be positive: " + workerCount);
+		}
+
+		this.dictionary = dictionary;
+		this.engine = engine;
+		this.plyCount = plyCount;
+		this.executor = executor;
+		this.workerCount = workerCount;
+		this.randomFactory = randomFactory;
+
+		playouts = new ConcurrentLinkedQueue<>();
+	}
+
+	/**
+	 * @param leaveTable table of the rack leave values used by the workers, {@code null} to play by score
+	 * @since 1.1.0
+	 */
+	public void setLeaveTable(LeaveTable leaveTable) {
+		this.leaveTable = leaveTable;
+	}
+
+	/**
+	 * Ranks candidate moves by simulation. Iterations are run until the specified number of iterations or the time
+	 * budget is reached. With enough budget, the result only depends on the seed, whatever the number of workers.
+	 * <p>
+	 * The specified board and rack are only read, they must not be modified until this method returns.
+	 *
+	 * @param board board on which the candidate moves can be played
+	 * @param rack rack from which the candidate moves are played
+	 * @param unseenTiles tiles from which the following racks are drawn
+	 * @param candidates candidate moves to rank
+	 * @param iterationCount maximum number of iterations
+	 * @param budget time budget, checked before each iteration
+	 * @param seed seed of the simulation, from which the seed of each iteration is derived
+	 * @return candidate moves sorted by decreasing mean outcome, candidates of equal outcome being kept in order
+	 * @throws RuntimeException if a playout failed, in which case the remaining iterations are not run
+	 * @throws InterruptedException if the current thread is interrupted while waiting for the workers
+	 * @since 1.1.0
+	 */
+	public List<SimulatedMove> simulate(
+			Board board,
+			Rack rack,
+			Collection<Tile> unseenTiles,
+			List<Move> candidates,
+			int iterationCount,
+			Duration budget,
+			long seed) throws InterruptedException {
+
+		var candidateCount = candidates.size();
+		var deadline = nanoTime() + budget.toNanos();
+		var seedGenerator = new SplittableRandom(seed);
+		var seeds = new long[iterationCount];
+
+		for (var index = 0; index < iterationCount; index++) {
+			seeds[index] = seedGenerator.nextLong();
+		}
+
+		var leaves = new ArrayList<List<Tile>>();
+
+		for (var candidate : candidates) {
+
+			var leave = new Rack();
+			leave.addAll(rack.getTiles());
+			leave.removeAll(candidate.tiles());
+			leaves.add(List.copyOf(leave.getTiles()));
+		}
+
+		var unseen = List.copyOf(unseenTiles);
+		var nextIndex = new AtomicInteger();
+		var outcomes = new double[candidateCount];
+		var playoutCounts = new int[candidateCount];
+
+		Callable<Void> worker = () -> {
+
+			var playout = acquire(board);
+			var workerOutcomes = new double[candidateCount];
+			var workerPlayoutCount = 0;
+
+			try {
+
+				for (var index = nextIndex.getAndIncrement();
+					 index < iterationCount && nanoTime() - deadline < 0;
+					 index = nextIndex.getAndIncrement()) {
+
+					for (var candidateIndex = 0; candidateIndex < candidateCount; candidateIndex++) {
+
+						var candidate = candidates.get(candidateIndex);
+						var leave = leaves.get(candidateIndex);
+						var random = randomFactory.apply(seeds[index]);
+						workerOutcomes[candidateIndex] += playout.play(candidate, leave, unseen, random);
+					}
+
+					workerPlayoutCount++;
+				}
+
+			} catch (RuntimeException exception) {
+
+				nextIndex.set(iterationCount);
+				throw exception;
+
+			} finally {
+
+				playouts.offer(playout);
+			}
+
+			synchronized (outcomes) {
+
+				for (var candidateIndex = 0; candidateIndex < candidateCount; candidateIndex++) {
+
+					outcomes[candidateIndex] += workerOutcomes[candidateIndex];
+					playoutCounts[candidateIndex] += workerPlayoutCount;
+				}
+			}
+
+			return null;
+		};
+
+		var workers = new ArrayList<Callable<Void>>();
+
+		for (var workerIndex = 0; workerIndex < workerCount; workerIndex++) {
+			workers.add(worker);
+		}
+
+		try {
+
+			for (var result : executor.invokeAll(workers)) {
+				result.get();
+			}
+
+		} catch (ExecutionException exception) {
+
+			throw exception.getCause() instanceof RuntimeException cause ?
+					cause :
+					new IllegalStateException(exception.getCause());
+		}
+
+		var simulatedMoves = new ArrayList<SimulatedMove>();
+
+		for (var candidateIndex = 0; candidateIndex < candidateCount; candidateIndex++) {
+
+			var candidate = candidates.get(candidateIndex);
+			var playoutCount = playoutCounts[candidateIndex];
+
+			var outcome = playoutCount == 0 ?
+					candidate.equity() :
+					outcomes[candidateIndex] / playoutCount;
+
+			simulatedMoves.add(new SimulatedMove(candidate, playoutCount, outcome));
+		}
+
+		simulatedMoves.sort(comparingDouble(SimulatedMove::outcome).reversed());
+		return simulatedMoves;
+	}
+
+	/**
+	 * Takes a playout context from the pool, creating it if the pool is empty, and resets it on the specified board.
+	 *
+	 * @param board board to copy
+	 * @return playout context, to put back in the pool once the worker is done
+	 * @since 1.1.0
+	 */
+	private Playout acquire(Board board) {
+
+		var playout = playouts.poll();
+
+		if (playout == null) {
+			playout = new Playout();
+		}
+
+		playout.reset(board);
+		return playout;
+	}
+
+	/**
+	 * Board, rack and evaluator of a worker.
+	 *
+	 * @author Jonathan Guéhenneux
+	 * @since 1.1.0
+	 */
+	private class Playout {
+
+		private final Board board;
+		private final Rack rack;
+		private final List<Placement> placements;
+		private final Evaluator evaluator;
+
+		/**
+		 * Creates the playout context of a worker, with an empty board.
+		 *
+		 * @since 1.1.0
+		 */
+		Playout() {
+
+			board = new Board();
+			rack = new Rack();
+			placements = new ArrayList<>();
+			evaluator = engine.createEvaluator(board, dictionary);
+		}
+
+		/**
+		 * Resets this context for a new simulation.
+		 *
+		 * @param board board to copy
+		 * @since 1.1.0
+		 */
+		void reset(Board board) {
+
+			this.board.copy(board);
+			evaluator.setLeaveTable(leaveTable);
+		}
+
+		/**
+		 * Plays out a candidate move, then undoes all the played moves.
+		 *
+		 * @param candidate candidate move, referenced on the original board
+		 * @param leave tiles remaining on the rack after the candidate move
+		 * @param unseenTiles tiles from which the following racks are drawn
+		 * @param random random generator of the draws
+		 * @return outcome of the playout
+		 * @since 1.1.0
+		 */
+		double play(Move candidate, List<Tile> leave, List<Tile> unseenTiles, RandomGenerator random) {
+
+			var reference = candidate.reference();
+			var square = board.getSquare(reference.square().index());
+			placements.add(board.play(candidate.tiles(), board.getReference(square, reference.direction())));
+
+			var bag = new Bag(random);
+			bag.addAll(unseenTiles);
+			rack.clear();
+			rack.addAll(leave);
+
+			var outcome = plyCount == 0 ? candidate.equity() : candidate.score();
+
+			try {
+
+				for (var ply = 1; ply <= plyCount && (!rack.isEmpty() || !bag.isEmpty()); ply++) {
+
+					rack.fill(bag);
+
+					var optionalBestMove = evaluator.getBestMove(rack);
+
+					if (optionalBestMove.isEmpty()) {
+						break;
+					}
+
+					var bestMove = optionalBestMove.get();
+					outcome += ply == plyCount ? bestMove.equity() : bestMove.score();
+					rack.removeAll(bestMove.tiles());
+					placements.add(board.play(bestMove.tiles(), bestMove.reference()));
+				}
+
+			} finally {
+
+				while (!placements.isEmpty()) {
+					board.unplay(placements.removeLast());
+				}
+			}
+
+			return outcome;
+		}
+	}
+}
@@ -0,0 +1,20 @@
+package com.github.achaaab.scrabble.model.solver;
+
+import com.github.achaaab.scrabble.model.move.Move;
+
+/**
+ * Candidate move ranked by simulation.
+ *
+ * @param move candidate move
+ * @param playoutCount number of playouts of the candidate move
+ * @param outcome mean outcome of the playouts, equity of the move if it was not played out
+ * @author Jonathan Guéhenneux
+ * @since 1.1.0
+ */
+public record SimulatedMove(Move move, int playoutCount, double outcome) {
+
+	@Override
+	public String toString() {
+		return String.format("%s (%.2f over %d playouts)", move, outcome, playoutCount);
+	}
+}
@@ -3,12 +3,27 @@ package com.github.achaaab.scrabble.model.solver;
 import com.github.achaaab.scrabble.model.core.Bag;
 import com.github.achaaab.scrabble.model.core.Board;
 import com.github.achaaab.scrabble.model.core.Dictionary;
+import com.github.achaaab.scrabble.model.core.Placement;
 import com.github.achaaab.scrabble.model.core.Rack;
 import com.github.achaaab.scrabble.model.core.Tile;
+import com.github.achaaab.scrabble.model.move.Engine;
 import com.github.achaaab.scrabble.model.move.Evaluator;
+import com.github.achaaab.scrabble.model.move.LeaveTable;
 import com.github.achaaab.scrabble.model.move.Move;
+import com.github.achaaab.scrabble.model.move.MoveCache;
 
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
+import java.util.Objects;
+import java.util.function.BooleanSupplier;
+import java.util.function.Consumer;
+
+import static com.github.achaaab.scrabble.model.core.Tile.BLANK;
+import static com.github.achaaab.scrabble.model.core.Tile.blank;
+import static com.github.achaaab.scrabble.model.move.Engine.DAWG;
+import static java.util.Comparator.reverseOrder;
 
 /**
  * Simple scrabble solver, brute forcing without more insight.
@@ -26,7 +41,7 @@ public class Solver {
 	 * @since 0.0.0
 	 */
 	private static SolverSheetEntry createEntry(Move move) {
-		return new SolverSheetEntry(move.word(), move.reference().toString(), move.score());
+		return new SolverSheetEntry(move.word(), move.reference().toString(), move.score(), move.equity());
 	}
 
 	private final List<Tile> tiles;
@@ -36,6 +51,11 @@ public class Solver {
 	private final Rack rack;
 	private final SolverSheet sheet;
 	private final Evaluator evaluator;
+	private final MoveCache cache;
+
+	private final List<Step> history;
+
+	private Placement preview;
 
 	/**
 	 * Creates a solver with the specified tiles and dictionary.
@@ -45,6 +65,18 @@ public class Solver {
 	 * @since 0.0.0
 	 */
 	public Solver(List<Tile> tiles, Dictionary dictionary) {
+		this(tiles, dictionary, DAWG);
+	}
+
+	/**
+	 * Creates a solver with the specified tiles, dictionary and move generation engine.
+	 *
+	 * @param tiles set of tiles
+	 * @param dictionary dictionary
+	 * @param engine move generation engine
+	 * @since 1.1.0
+	 */
+	public Solver(List<Tile> tiles, Dictionary dictionary, Engine engine) {
 
 		this.tiles = tiles;
 
@@ -52,24 +84,76 @@ public class Solver {
 		bag = new Bag();
 		rack = new Rack();
 		sheet = new SolverSheet(true, true);
-		evaluator = new Evaluator(board, dictionary);
+		evaluator = engine.createEvaluator(board, dictionary);
+		cache = new MoveCache();
+		history = new ArrayList<>();
 
 		bag.addAll(tiles);
 	}
 
 	/**
-	 * Resets the board, rack and bag then replays the sheet.
+	 * Brings the board, rack and bag in line with the sheet. The rack is emptied in the bag.
+	 * <p>
+	 * Entries are replayed from the first entry changed since the last replay only: the entries played after it are
+	 * undone, the entries before it are kept as they are. After a failed replay, the next replay starts from an
+	 * empty board.
 	 *
 	 * @since 0.0.0
 	 */
 	public void replay() {
 
-		board.clear();
-		rack.clear();
-		bag.clear();
-		bag.addAll(tiles);
+		var entries = sheet.entries();
+		var start = 0;
+
+		while (start < history.size() && start < entries.size() && history.get(start).matches(entries.get(start))) {
+			start++;
+		}
+
+		if (start == 0) {
+
+			board.clear();
+			rack.clear();
+			bag.clear();
+			bag.addAll(tiles);
+			preview = null;
+			history.clear();
+
+		} else {
+
+			cancelPreview();
+			bag.addAll(rack.pickAll());
+			rewind(start);
+		}
+
+		try {
+
+			entries.subList(start, entries.size()).forEach(this::play);
+
+		} catch (RuntimeException exception) {
+
+			history.clear();
+			throw exception;
+		}
+	}
 
-		sheet.entries().forEach(this::play);
+	/**
+	 * Undoes the played entries from the specified index, putting back their tiles in the bag.
+	 *
+	 * @param start index of the first entry to undo
+	 * @since 1.1.0
+	 */
+	private void rewind(int start) {
+
+		while (history.size() > start) {
+
+			var placement = history.removeLast().placement();
+
+			if (placement != null) {
+
+				board.unplay(placement);
+				putBack(placement, bag::add);
+			}
+		}
 	}
 
 	/**
@@ -81,6 +165,8 @@ public class Solver {
 	 */
 	private void play(SolverSheetEntry entry) {
 
+		Placement placement = null;
+
 		if (entry.isComplete()) {
 
 			var word = entry.getWord();
@@ -93,19 +179,24 @@ public class Solver {
 			var score = move.score();
 			var tiles = move.tiles();
 
-			board.play(tiles, reference);
+			placement = board.play(tiles, reference);
 			entry.setScore(score);
 		}
+
+		history.add(new Step(entry, entry.getWord(), entry.getKey(), placement));
 	}
 
 	/**
-	 * Previews the given entry, playing it on the board.
+	 * Previews the given entry, playing it on the board with tiles from the rack. The previous preview, if any, is
+	 * cancelled first.
 	 *
 	 * @param entry entry to preview
 	 * @since 0.0.6
 	 */
 	public void preview(SolverSheetEntry entry) {
 
+		cancelPreview();
+
 		var word = entry.getWord();
 		var key = entry.getKey();
 		var reference = board.getReference(key);
@@ -116,7 +207,36 @@ public class Solver {
 		var move = evaluator.getMove(square, direction, word, rack);
 		var tiles = move.tiles();
 
-		board.play(tiles, reference);
+		preview = board.play(tiles, reference);
+	}
+
+	/**
+	 * Cancels the current preview, if any, removing its tiles from the board and putting them back on the rack.
+	 *
+	 * @since 1.1.0
+	 */
+	public void cancelPreview() {
+
+		if (preview != null) {
+
+			board.unplay(preview);
+			putBack(preview, rack::add);
+			preview = null;
+		}
+	}
+
+	/**
+	 * Puts back the tiles of a placement, turning blank tiles back into unassigned blank tiles.
+	 *
+	 * @param placement placement whose tiles to put back
+	 * @param collection consumer of the tiles to put back
+	 * @since 1.1.0
+	 */
+	private void putBack(Placement placement, Consumer<Tile> collection) {
+
+		placement.tiles().stream().
+				map(tile -> tile.isBlank() ? blank(BLANK) : tile).
+				forEach(collection);
 	}
 
 	/**
@@ -132,7 +252,8 @@ public class Solver {
 	}
 
 	/**
-	 * Finds the best moves with the current board and rack.
+	 * Finds the best moves with the current board and rack. Moves of an already solved position are taken from the
+	 * cache.
 	 *
 	 * @return best moves sheet
 	 * @since 0.0.0
@@ -140,14 +261,130 @@ public class Solver {
 	public SolverSheet solve() {
 
 		var bestMoveSheet = new SolverSheet(false, false);
+		var moves = cache.get(board, rack);
+
+		if (moves == null) {
+
+			moves = evaluator.listMoves(rack);
+			cache.put(board, rack, moves);
+		}
 
-		evaluator.listMoves(rack).stream().
+		moves.stream().
 				map(Solver::createEntry).
 				forEach(bestMoveSheet::add);
 
 		return bestMoveSheet;
 	}
 
+	/**
+	 * Finds the moves with the current board and rack, handing them to the specified consumer as soon as they are
+	 * found. Moves are found in no particular order: sorting them by decreasing equity, keeping moves of equal equity
+	 * in the order they were found, gives the order of {@link #solve()}.
+	 * <p>
+	 * This method can be called from a background thread, provided that the board and rack are not modified until it
+	 * returns. Moves of an already solved position are taken from the cache, in the order of {@link #solve()}. Moves
+	 * of a completed search are cached.
+	 *
+	 * @param consumer consumer of the found moves
+	 * @param cancelled condition checked after each found move and periodically during the search, stopping the search
+	 * when met
+	 * @return whether the search completed, {@code false} if it was cancelled
+	 * @since 1.1.0
+	 */
+	public boolean solve(Consumer<SolverSheetEntry> consumer, BooleanSupplier cancelled) {
+
+		var cachedMoves = cache.get(board, rack);
+		var completed = true;
+
+		if (cachedMoves == null) {
+
+			var moves = new ArrayList<Move>();
+
+			completed = evaluator.visitMoves(rack, found -> {
+
+				var move = found.toMove();
+				moves.add(move);
+				consumer.accept(createEntry(move));
+				return !cancelled.getAsBoolean();
+
+			}, cancelled);
+
+			if (completed) {
+
+				moves.sort(reverseOrder());
+				cache.put(board, rack, moves);
+			}
+
+		} else {
+
+			for (var iterator = cachedMoves.iterator(); completed && iterator.hasNext(); ) {
+
+				consumer.accept(createEntry(iterator.next()));
+				completed = !cancelled.getAsBoolean();
+			}
+		}
+
+		return completed;
+	}
+
+	/**
+	 * Ranks the best moves with the current board and rack by Monte Carlo simulation, the following racks being drawn
+	 * from the tiles in the bag. The candidates are the best moves by equity, see {@link #setLeaveTable(LeaveTable)}.
+	 *
+	 * @param simulator simulator playing out the candidates
+	 * @param candidateCount maximum number of candidate moves
+	 * @param iterationCount maximum number of iterations
+	 * @param budget time budget
+	 * @param seed seed of the simulation
+	 * @return candidate moves sorted by decreasing mean outcome
+	 * @throws InterruptedException if the current thread is interrupted while waiting for the simulation
+	 * @see MoveSimulator#simulate(Board, Rack, Collection, List, int, Duration, long)
+	 * @since 1.1.0
+	 */
+	public List<SimulatedMove> simulate(
+			MoveSimulator simulator,
+			int candidateCount,
+			int iterationCount,
+			Duration budget,
+			long seed) throws InterruptedException {
+
+		var candidates = evaluator.listBestMoves(rack, candidateCount);
+		return simulator.simulate(board, rack, bag.getTiles(), candidates, iterationCount, budget, seed);
+	}
+
+	/**
+	 * Gets the number of nodes explored by the current or last search. This method must be called by the searching
+	 * thread, typically from the consumer given to {@link #solve(Consumer, BooleanSupplier)}.
+	 *
+	 * @return number of explored nodes
+	 * @see Evaluator#getNodeCount()
+	 * @since 1.1.0
+	 */
+	public long getNodeCount() {
+		return evaluator.getNodeCount();
+	}
+
+	/**
+	 * Sets the table of the rack leave values, used to rank the found moves by equity rather than by score.
+	 *
+	 * @param leaveTable table of the rack leave values, {@code null} to rank the moves by score
+	 * @see Evaluator#setLeaveTable(LeaveTable)
+	 * @since 1.1.0
+	 */
+	public void setLeaveTable(LeaveTable leaveTable) {
+
+		evaluator.setLeaveTable(leaveTable);
+		cache.clear();
+	}
+
+	/**
+	 * @return cache of the moves of the solved positions
+	 * @since 1.1.0
+	 */
+	public MoveCache cache() {
+		return cache;
+	}
+
 	/**
 	 * @return scrabble board on which to place the words
 	 * @since 0.0.0
@@ -179,4 +416,29 @@ public class Solver {
 	public SolverSheet sheet() {
 		return sheet;
 	}
+
+	/**
+	 * Sheet entry as it was played.
+	 *
+	 * @param entry played entry
+	 * @param word word of the entry when it was played
+	 * @param key key of the entry when it was played
+	 * @param placement tiles placed on the board, {@code null} if the entry was incomplete
+	 * @author Jonathan Guéhenneux
+	 * @since 1.1.0
+	 */
+	private record Step(SolverSheetEntry entry, String word, String key, Placement placement) {
+
+		/**
+		 * @param entry sheet entry
+		 * @return whether the specified entry is the played entry, unchanged
+		 * @since 1.1.0
+		 */
+		boolean matches(SolverSheetEntry entry) {
+
+			return entry == this.entry &&
+					Objects.equals(entry.getWord(), word) &&
+					Objects.equals(entry.getKey(), key);
+		}
+	}
 }
@@ -7,6 +7,7 @@ import java.util.ArrayList;
 import java.util.List;
 
 import static com.github.achaaab.scrabble.tools.MessageBundle.getMessage;
+import static java.util.Comparator.comparingDouble;
 
 /**
  * Scrabble sheet for solver mode.
@@ -83,6 +84,20 @@ public class SolverSheet extends AbstractTableModel {
 		entries.add(entry);
 	}
 
+	/**
+	 * Adds entries to this sheet, keeping the entries sorted by decreasing equity, which is the score unless rack
+	 * leaves are evaluated. Entries of equal equity are kept in the order they were added.
+	 *
+	 * @param addedEntries entries to add
+	 * @since 1.1.0
+	 */
+	public void merge(List<SolverSheetEntry> addedEntries) {
+
+		entries.addAll(addedEntries);
+		entries.sort(comparingDouble(SolverSheetEntry::getEquity).reversed());
+		fireTableDataChanged();
+	}
+
 	/**
 	 * Sets the specified entry as the last entry in this sheet then adds en empty entry to allow user input.
 	 *
@@ -11,6 +11,7 @@ public class SolverSheetEntry {
 	private String word;
 	private String key;
 	private int score;
+	private double equity;
 
 	/**
 	 * Creates an empty entry.
@@ -30,10 +31,24 @@ public class SolverSheetEntry {
 	 * @since 0.0.2
 	 */
 	public SolverSheetEntry(String word, String key, int score) {
+		this(word, key, score, score);
+	}
+
+	/**
+	 * Creates an entry from a move ranked by equity.
+	 *
+	 * @param word played word
+	 * @param key square and direction key
+	 * @param score score
+	 * @param equity score plus the value of the rack leave
+	 * @since 1.1.0
+	 */
+	public SolverSheetEntry(String word, String key, int score, double equity) {
 
 		this.word = word;
 		this.key = key;
 		this.score = score;
+		this.equity = equity;
 	}
 
 	/**
@@ -77,11 +92,23 @@ public class SolverSheetEntry {
 	}
 
 	/**
+	 * Sets the score of this entry. The equity is reset to the score.
+	 *
 	 * @param score score
 	 * @since 0.0.2
 	 */
 	public void setScore(int score) {
+
 		this.score = score;
+		equity = score;
+	}
+
+	/**
+	 * @return score plus the value of the rack leave, equal to the score if the leave was not evaluated
+	 * @since 1.1.0
+	 */
+	public double getEquity() {
+		return equity;
 	}
 
 	/**
@@ -104,6 +131,7 @@ public class SolverSheetEntry {
 		word = null;
 		key = null;
 		score = 0;
+		equity = 0;
 	}
 
 	/**
@@ -117,5 +145,6 @@ public class SolverSheetEntry {
 		word = entry.word;
 		key = entry.key;
 		score = entry.score;
+		equity = entry.equity;
 	}
 }
@@ -0,0 +1,488 @@
+package com.github.achaaab.scrabble.server;
+
+import com.github.achaaab.scrabble.model.core.Bag;
+import com.github.achaaab.scrabble.model.core.Board;
+import com.github.achaaab.scrabble.model.core.Dictionary;
+import com.github.achaaab.scrabble.model.core.Lexicon;
+import com.github.achaaab.scrabble.model.core.Rack;
+import com.github.achaaab.scrabble.model.move.Engine;
+import com.github.achaaab.scrabble.model.move.Evaluator;
+import com.github.achaaab.scrabble.model.move.LeaveTable;
+import com.github.achaaab.scrabble.model.move.Move;
+import com.github.achaaab.scrabble.tools.Json;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.lang.System.Logger;
+import java.net.InetSocketAddress;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+
+import static com.github.achaaab.scrabble.model.core.Board.SIZE;
+import static com.github.achaaab.scrabble.model.core.Direction.HORIZONTAL;
+import static com.github.achaaab.scrabble.model.core.Tile.BLANK;
+import static com.github.achaaab.scrabble.model.move.Engine.DAWG;
+import static java.lang.Character.toLowerCase;
+import static java.lang.System.Logger.Level.ERROR;
+import static java.lang.System.getLogger;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.concurrent.Executors.newVirtualThreadPerTaskExecutor;
+
+/**
+ * Embeddable HTTP server solving scrabble positions, each request being handled in its own virtual thread. Requests
+ * are posted to {@value #SOLVE_PATH} as JSON objects:
+ * <ul>
+ *   <li>{@code lexicon}: name of the {@link Lexicon} to play with, {@code ENGLISH_CSW21} by default,</li>
+ *   <li>{@code rack}: letters of the rack, {@code ?} or a space standing for a blank tile,</li>
+ *   <li>{@code words}: words placed on the board, in order, each one an object with a {@code reference} (for example
+ *   {@code H4} or {@code 4H}) and a {@code word} of latin letters, a lower case letter standing for a blank tile,</li>
+ *   <li>{@code grid}: alternatively to {@code words}, the {@value Board#SIZE} rows of the board, a dot or a space
+ *   standing for an empty square, a latin letter for a tile and a lower case letter for a blank tile,</li>
+ *   <li>{@code count}: maximum number of moves to return, {@value #DEFAULT_MOVE_COUNT} by default and at most
+ *   {@value #MAXIMUM_MOVE_COUNT},</li>
+ *   <li>{@code engine}: name of the move generation {@link Engine}, {@code DAWG} by default.</li>
+ * </ul>
+ * The response is a JSON object whose {@code moves} are the best moves, by decreasing equity, each one with its
+ * {@code reference}, {@code word}, played {@code tiles}, {@code score} and {@code equity}. An invalid request is
+ * answered with status 400 and an {@code error} message, a request body larger than {@value #MAXIMUM_BODY_SIZE} bytes
+ * with status 413. Any other failure, such as a dictionary that cannot be loaded, is logged and answered with status
+ * 500 and a generic {@code error} message.
+ * <p>
+ * Each dictionary is loaded on first request and kept by the server, to be shared read-only by all the requests.
+ * Every request solves on its own board, so that requests are handled concurrently. Boards and evaluators are pooled
+ * by lexicon and engine, so that their buffers are reused by the following requests rather than allocated again.
+ *
+ * @author Jonathan Guéhenneux
+ * @since 1.1.0
+ */
+public class SolverServer {
+
+	public static final String SOLVE_PATH = "/solve";
+	public static final int DEFAULT_MOVE_COUNT = 10;
+	public static final int MAXIMUM_MOVE_COUNT = 1000;
+	public static final int MAXIMUM_BODY_SIZE = 256 * 1024;
+
+	private static final String JSON_CONTENT_TYPE = "application/json; charset=utf-8";
+	private static final int POOL_CAPACITY = 64;
+	private static final Logger LOGGER = getLogger(SolverServer.class.getName());
+
+	/**
+	 * @param move move to describe
+	 * @return JSON object describing the specified move
+	 * @since 1.1.0
+	 */
+	private static Map<String, Object> describe(Move move) {
+
+		var tiles = new StringBuilder();
+
+		for (var tile : move.tiles()) {
+			tiles.append(tile.isBlank() ? toLowerCase(tile.letter()) : tile.letter());
+		}
+
+		var description = new LinkedHashMap<String, Object>();
+		description.put("reference", move.reference().toString());
+		description.put("word", move.word());
+		description.put("tiles", tiles.toString());
+		description.put("score", move.score());
+		description.put("equity", move.equity());
+		return description;
+	}
+
+	/**
+	 * @param request request object
+	 * @param name member name
+	 * @param defaultValue value of a missing member
+	 * @return value of the member, as a string
+	 * @throws IllegalArgumentException if the member is not a string
+	 * @since 1.1.0
+	 */
+	private static String getString(Map<?, ?> request, String name, String defaultValue) {
+
+		var value = request.get(name);
+
+		if (value != null && !(value instanceof String)) {
+			throw new IllegalArgumentException(name + " must be a string");
+		}
+
+		return value == null ? defaultValue : (String) value;
+	}
+
+	/**
+	 * @param letter character
+	 * @return whether the specified character is a letter of the latin alphabet, in upper or lower case
+	 * @since 1.1.0
+	 */
+	private static boolean isLatinLetter(char letter) {
+		return letter >= 'A' && letter <= 'Z' || letter >= 'a' && letter <= 'z';
+	}
+
+	private final HttpServer server;
+	private final ExecutorService executor;
+	private final Map<Lexicon, CompletableFuture<Dictionary>> dictionaries;
+	private final Map<ContextKey, BlockingQueue<SolveContext>> contexts;
+
+	private volatile LeaveTable leaveTable;
+
+	/**
+	 * Creates a server bound to the specified address. The server is started with {@link #start()}.
+	 *
+	 * @param address socket address to bind, with port 0 to bind an ephemeral port
+	 * @throws IOException if the address cannot be bound
+	 * @since 1.1.0
+	 */
+	public SolverServer(InetSocketAddress address) throws IOException {
+
+		server = HttpServer.create(address, 0);
+		executor = newVirtualThreadPerTaskExecutor();
+		dictionaries = new EnumMap<>(Lexicon.class);
+		contexts = new ConcurrentHashMap<>();
+
+		server.setExecutor(executor);
+		server.createContext(SOLVE_PATH, this::handle);
+	}
+
+	/**
+	 * Starts this server.
+	 *
+	 * @since 1.1.0
+	 */
+	public void start() {
+		server.start();
+	}
+
+	/**
+	 * Stops this server, waiting for the requests being handled to complete.
+	 *
+	 * @param delay maximum time to wait for the requests being handled
+	 * @since 1.1.0
+	 */
+	public void stop(Duration delay) {
+
+		server.stop((int) Math.max(delay.toSeconds(), 0));
+		executor.close();
+	}
+
+	/**
+	 * @return address this server is bound to
+	 * @since 1.1.0
+	 */
+	public InetSocketAddress getAddress() {
+		return server.getAddress();
+	}
+
+	/**
+	 * Sets the table of the rack leave values, used to rank the moves by equity rather than by score.
+	 *
+	 * @param leaveTable table of the rack leave values, {@code null} to rank the moves by score
+	 * @since 1.1.0
+	 */
+	public void setLeaveTable(LeaveTable leaveTable) {
+		this.leaveTable = leaveTable;
+	}
+
+	/**
+	 * Gets the dictionary of a lexicon, loading it on first call. The dictionary is kept by this server, even if the
+	 * lexicon releases it. Requests for a dictionary being loaded wait for it without holding any lock.
+	 *
+	 * @param lexicon lexicon
+	 * @return dictionary of the lexicon
+	 * @throws RuntimeException if the dictionary cannot be loaded, in which case the next call tries again
+	 * @since 1.1.0
+	 */
+	public Dictionary getDictionary(Lexicon lexicon) {
+
+		CompletableFuture<Dictionary> future;
+
+		synchronized (dictionaries) {
+			future = dictionaries.computeIfAbsent(lexicon, Lexicon::preload);
+		}
+
+		try {
+
+			return future.join();
+
+		} catch (CompletionException exception) {
+
+			synchronized (dictionaries) {
+				dictionaries.remove(lexicon, future);
+			}
+
+			throw exception.getCause() instanceof RuntimeException cause ? cause : exception;
+		}
+	}
+
+	/**
+	 * Handles an exchange, answering with the solved moves or with an error.
+	 *
+	 * @param exchange exchange to handle
+	 * @throws IOException if an I/O error occurs while reading the request or writing the response
+	 * @since 1.1.0
+	 */
+	private void handle(HttpExchange exchange) throws IOException {
+
+		try (exchange) {
+
+			int status;
+			Object response;
+
+			if (!exchange.getRequestMethod().equals("POST")) {
+
+				exchange.getResponseHeaders().set("Allow", "POST");
+				status = 405;
+				response = Map.of("error", "method not allowed: " + exchange.getRequestMethod());
+
+			} else {
+
+				try {
+
+					var body = exchange.getRequestBody().readNBytes(MAXIMUM_BODY_SIZE + 1);
+
+					if (body.length > MAXIMUM_BODY_SIZE) {
+
+						status = 413;
+						response = Map.of("error", "request body larger than " + MAXIMUM_BODY_SIZE + " bytes");
+
+					} else {
+
+						status = 200;
+						response = solve(Json.parse(new String(body, UTF_8)));
+					}
+
+				} catch (IllegalArgumentException | NoSuchElementException exception) {
+
+					status = 400;
+					response = Map.of("error", String.valueOf(exception.getMessage()));
+
+				} catch (RuntimeException exception) {
+
+					LOGGER.log(ERROR, "cannot solve request", exception);
+					status = 500;
+					response = Map.of("error", "internal error");
+				}
+			}
+
+			var bytes = Json.write(response).getBytes(UTF_8);
+			exchange.getResponseHeaders().set("Content-Type", JSON_CONTENT_TYPE);
+			exchange.sendResponseHeaders(status, bytes.length);
+			exchange.getResponseBody().write(bytes);
+		}
+	}
+
+	/**
+	 * Solves a request.
+	 *
+	 * @param request parsed request
+	 * @return response to write
+	 * @throws IllegalArgumentException if the request is invalid
+	 * @throws NoSuchElementException if the tiles of the request are not available in the tile set
+	 * @throws IllegalStateException if the dictionary of the lexicon cannot be loaded
+	 * @since 1.1.0
+	 */
+	private Map<String, Object> solve(Object request) {
+
+		if (!(request instanceof Map<?, ?> members)) {
+			throw new IllegalArgumentException("request must be an object");
+		}
+
+		var lexicon = Lexicon.valueOf(getString(members, "lexicon", Lexicon.ENGLISH_CSW21.name()));
+		var engine = Engine.valueOf(getString(members, "engine", DAWG.name()));
+		var count = members.containsKey("count") ? members.get("count") : (long) DEFAULT_MOVE_COUNT;
+
+		if (!(count instanceof Long moveCount) || moveCount < 1 || moveCount > MAXIMUM_MOVE_COUNT) {
+			throw new IllegalArgumentException("count must be an integer between 1 and " + MAXIMUM_MOVE_COUNT);
+		}
+
+		var letters = getString(members, "rack", "").replace('?', BLANK);
+
+		if (letters.length() > Rack.CAPACITY) {
+			throw new IllegalArgumentException("too many tiles on the rack: " + letters);
+		}
+
+		var context = acquire(lexicon, engine);
+		var moves = new ArrayList<Map<String, Object>>();
+
+		try {
+
+			var board = context.board();
+			var bag = context.bag();
+			var rack = context.rack();
+			var evaluator = context.evaluator();
+
+			if (members.containsKey("grid")) {
+				placeGrid(board, bag, members.get("grid"));
+			} else if (members.containsKey("words")) {
+				placeWords(board, bag, evaluator, members.get("words"));
+			}
+
+			rack.addAll(bag.pickAll(letters));
+
+			for (var move : evaluator.listBestMoves(rack, (int) (long) moveCount)) {
+				moves.add(describe(move));
+			}
+
+		} finally {
+
+			contexts.get(context.key()).offer(context);
+		}
+
+		var response = new LinkedHashMap<String, Object>();
+		response.put("lexicon", lexicon);
+		response.put("moves", moves);
+		return response;
+	}
+
+	/**
+	 * Takes a solve context from the pool of a lexicon and an engine, creating it if the pool is empty, and resets it
+	 * to an empty board and a full bag.
+	 *
+	 * @param lexicon lexicon to play with
+	 * @param engine move generation engine
+	 * @return solve context, to put back in its pool once the request is solved
+	 * @throws IllegalStateException if the dictionary of the lexicon cannot be loaded
+	 * @since 1.1.0
+	 */
+	private SolveContext acquire(Lexicon lexicon, Engine engine) {
+
+		var key = new ContextKey(lexicon, engine);
+		var context = contexts.computeIfAbsent(key, absentKey -> new ArrayBlockingQueue<>(POOL_CAPACITY)).poll();
+
+		if (context == null) {
+
+			Dictionary dictionary;
+
+			try {
+				dictionary = getDictionary(lexicon);
+			} catch (RuntimeException exception) {
+				throw new IllegalStateException("cannot load the dictionary of " + lexicon, exception);
+			}
+
+			var board = new Board();
+			var evaluator = engine.createEvaluator(board, dictionary);
+			context = new SolveContext(key, board, new Bag(), new Rack(), evaluator);
+		}
+
+		context.board().clear();
+		context.bag().clear();
+		context.bag().addAll(lexicon.getTiles());
+		context.rack().clear();
+		context.evaluator().setLeaveTable(leaveTable);
+
+		return context;
+	}
+
+	/**
+	 * Places words on the board, in order.
+	 *
+	 * @param board board on which to place the words
+	 * @param bag bag from which to pick the placed tiles
+	 * @param evaluator evaluator of the board
+	 * @param words array of words, each one with its reference and word
+	 * @throws IllegalArgumentException if the words are invalid or do not fit
+	 * @since 1.1.0
+	 */
+	private void placeWords(Board board, Bag bag, Evaluator evaluator, Object words) {
+
+		if (!(words instanceof List<?> list)) {
+			throw new IllegalArgumentException("words must be an array");
+		}
+
+		for (var element : list) {
+
+			if (!(element instanceof Map<?, ?> placedWord)) {
+				throw new IllegalArgumentException("each word must be an object");
+			}
+
+			var key = getString(placedWord, "reference", "");
+			var word = getString(placedWord, "word", "");
+			var reference = board.getReference(key);
+
+			if (reference == null) {
+				throw new IllegalArgumentException("invalid reference: " + key);
+			}
+
+			if (!word.chars().allMatch(letter -> isLatinLetter((char) letter))) {
+				throw new IllegalArgumentException("invalid word: " + word);
+			}
+
+			var move = evaluator.getMove(reference.square(), reference.direction(), word, bag);
+			board.play(move.tiles(), reference);
+		}
+	}
+
+	/**
+	 * Places the tiles of a grid on the board.
+	 *
+	 * @param board board on which to place the tiles
+	 * @param bag bag from which to pick the placed tiles
+	 * @param grid array of the rows of the grid
+	 * @throws IllegalArgumentException if the grid is invalid
+	 * @since 1.1.0
+	 */
+	private void placeGrid(Board board, Bag bag, Object grid) {
+
+		if (!(grid instanceof List<?> rows) || rows.size() != SIZE) {
+			throw new IllegalArgumentException("grid must be an array of " + SIZE + " rows");
+		}
+
+		for (var row = 0; row < SIZE; row++) {
+
+			if (!(rows.get(row) instanceof String line) || line.length() != SIZE) {
+				throw new IllegalArgumentException("each row must be a string of " + SIZE + " characters");
+			}
+
+			for (var column = 0; column < SIZE; column++) {
+
+				var letter = line.charAt(column);
+
+				if (letter != '.' && letter != ' ') {
+
+					if (!isLatinLetter(letter)) {
+						throw new IllegalArgumentException("invalid letter in grid: " + letter);
+					}
+
+					var tile = bag.pick(letter);
+					board.play(List.of(tile), board.getReference(board.getSquare(column, row), HORIZONTAL));
+				}
+			}
+		}
+	}
+
+	/**
+	 * Key of a pool of solve contexts.
+	 *
+	 * @param lexicon lexicon of the pooled contexts
+	 * @param engine move generation engine of the pooled contexts
+	 * @author Jonathan Guéhenneux
+	 * @since 1.1.0
+	 */
+	private record ContextKey(Lexicon lexicon, Engine engine) {
+
+	}
+
+	/**
+	 * Board, bag, rack and evaluator solving a request.
+	 *
+	 * @param key key of the pool of this context
+	 * @param board board on which to place the words of the request
+	 * @param bag bag from which to pick the tiles of the request
+	 * @param rack rack of the request
+	 * @param evaluator evaluator of the board
+	 * @author Jonathan Guéhenneux
+	 * @since 1.1.0
+	 */
+	private record SolveContext(ContextKey key, Board board, Bag bag, Rack rack, Evaluator evaluator) {
+
+	}
+}
@@ -0,0 +1,516 @@
+package com.github.achaaab.scrabble.tools;
+
+import java.nio.ByteBuffer;
+import java.nio.IntBuffer;
+import java.util.function.Consumer;
+
+import static java.lang.Integer.BYTES;
+import static java.nio.ByteOrder.LITTLE_ENDIAN;
+
+/**
+ * Directed acyclic word graph, stored in flat arrays.
+ * <p>
+ * Nodes are identified by their index, the root node being {@link #ROOT}. The outgoing edges of a node are stored
+ * contiguously and sorted by letter index. Each node is encoded as a single {@code int}: the index of its first edge
+ * shifted left by 1, combined with a terminal bit indicating whether the node ends a word. An additional sentinel node
+ * is stored at the end, so that the edges of node {@code n} are in {@code [getEdgeStart(n), getEdgeStart(n + 1))}.
+ * Each edge is encoded as a single {@code int}: the index of its target node shifted left by {@link #LETTER_BITS},
+ * combined with the index of its letter.
+ * <p>
+ * Letter indices are such as {@code 'A' + index = letter}. Indices up to {@link #MAX_LETTER_INDEX} are supported, which
+ * leaves room for non-alphabetic symbols following {@code 'Z'}.
+ * <p>
+ * Nodes and edges are read through {@link IntBuffer}s, so that a graph can either live on the heap or be navigated
+ * directly in a memory-mapped file. The binary form of a graph, written by {@link #write(ByteBuffer)} and read by
+ * {@link #read(ByteBuffer)}, is made of the number of encoded nodes (including the sentinel node), the number of
+ * edges, then the encoded nodes and the encoded edges, all as little-endian {@code int}s.
+ *
+ * @author Jonathan Guéhenneux
+ * @since 1.1.0
+ */
+public class Dawg {
+
+	public static final int ROOT = 0;
+	public static final int NONE = -1;
+
+	public static final int LETTER_BITS = 5;
+	public static final int LETTER_MASK = (1 << LETTER_BITS) - 1;
+	public static final int MAX_LETTER_INDEX = LETTER_MASK;
+
+	public static final char ANY_LETTER = '?';
+	public static final char ANY_LETTERS = '*';
+
+	/**
+	 * Reads a word graph from its binary form, without copying it. The position of the specified buffer is moved after
+	 * the read graph. The edge starts of the nodes and the targets of the edges are checked once, so that a truncated
+	 * or corrupted graph is rejected here rather than failing while it is navigated.
+	 *
+	 * @param buffer buffer positioned at the start of a graph, in little-endian byte order
+	 * @return read graph, backed by the specified buffer
+	 * @throws IllegalArgumentException if the specified buffer does not contain a valid graph
+	 * @since 1.1.0
+	 */
+	public static Dawg read(ByteBuffer buffer) {
+
+		if (buffer.order() != LITTLE_ENDIAN) {
+			throw new IllegalArgumentException("graph buffer must be little-endian");
+		}
+
+		if (buffer.remaining() < 2 * BYTES) {
+			throw new IllegalArgumentException("truncated graph header");
+		}
+
+		var nodeLength = buffer.getInt();
+		var edgeLength = buffer.getInt();
+
+		if (nodeLength < 2 || edgeLength < 0 || buffer.remaining() < ((long) nodeLength + edgeLength) * BYTES) {
+			throw new IllegalArgumentException(
+					"invalid graph size: " + nodeLength + " nodes, " + edgeLength + " edges");
+		}
+
+		var nodes = buffer.slice(buffer.position(), nodeLength * BYTES).order(LITTLE_ENDIAN).asIntBuffer();
+		buffer.position(buffer.position() + nodeLength * BYTES);
+
+		var edges = buffer.slice(buffer.position(), edgeLength * BYTES).order(LITTLE_ENDIAN).asIntBuffer();
+		buffer.position(buffer.position() + edgeLength * BYTES);
+
+		validate(nodes, edges);
+		return new Dawg(nodes, edges);
+	}
+
+	/**
+	 * Checks that the edges of each node are in the edge range, the edges of the sentinel node ending it, and that
+	 * each edge targets a node other than the sentinel node.
+	 *
+	 * @param nodes encoded nodes, including the final sentinel node
+	 * @param edges encoded edges
+	 * @throws IllegalArgumentException if a node or an edge is out of range
+	 * @since 1.1.0
+	 */
+	private static void validate(IntBuffer nodes, IntBuffer edges) {
+
+		var nodeLength = nodes.limit();
+		var edgeLength = edges.limit();
+		var previousStart = 0;
+
+		for (var node = 0; node < nodeLength; node++) {
+
+			var start = nodes.get(node) >>> 1;
+
+			if (start < previousStart || start > edgeLength) {
+				throw new IllegalArgumentException("invalid edge start of node " + node + ": " + start);
+			}
+
+			previousStart = start;
+		}
+
+		if (previousStart != edgeLength) {
+			throw new IllegalArgumentException("sentinel node does not end the edges: " + previousStart);
+		}
+
+		for (var edge = 0; edge < edgeLength; edge++) {
+
+			var target = edges.get(edge) >>> LETTER_BITS;
+
+			if (target >= nodeLength - 1) {
+				throw new IllegalArgumentException("invalid target of edge " + edge + ": " + target);
+			}
+		}
+	}
+
+	private final IntBuffer nodes;
+	private final IntBuffer edges;
+
+	/**
+	 * Creates a word graph from its flat representation.
+	 *
+	 * @param nodes encoded nodes, including the final sentinel node
+	 * @param edges encoded edges
+	 * @since 1.1.0
+	 */
+	public Dawg(int[] nodes, int[] edges) {
+		this(IntBuffer.wrap(nodes), IntBuffer.wrap(edges));
+	}
+
+	/**
+	 * Creates a word graph from its flat representation, backed by the specified buffers.
+	 *
+	 * @param nodes encoded nodes, including the final sentinel node, from index 0 to the buffer limit
+	 * @param edges encoded edges, from index 0 to the buffer limit
+	 * @since 1.1.0
+	 */
+	public Dawg(IntBuffer nodes, IntBuffer edges) {
+
+		this.nodes = nodes;
+		this.edges = edges;
+	}
+
+	/**
+	 * Determines if the specified node ends a word.
+	 *
+	 * @param node node index
+	 * @return whether the specified node is terminal
+	 * @since 1.1.0
+	 */
+	public boolean isWord(int node) {
+		return (nodes.get(node) & 1) != 0;
+	}
+
+	/**
+	 * @param node node index
+	 * @return index of the first edge of the specified node
+	 * @since 1.1.0
+	 */
+	public int getEdgeStart(int node) {
+		return nodes.get(node) >>> 1;
+	}
+
+	/**
+	 * @param node node index
+	 * @return index following the last edge of the specified node
+	 * @since 1.1.0
+	 */
+	public int getEdgeEnd(int node) {
+		return nodes.get(node + 1) >>> 1;
+	}
+
+	/**
+	 * @param edge edge index
+	 * @return letter index of the specified edge
+	 * @since 1.1.0
+	 */
+	public int getLetterIndex(int edge) {
+		return edges.get(edge) & LETTER_MASK;
+	}
+
+	/**
+	 * @param edge edge index
+	 * @return target node of the specified edge
+	 * @since 1.1.0
+	 */
+	public int getTarget(int edge) {
+		return edges.get(edge) >>> LETTER_BITS;
+	}
+
+	/**
+	 * Follows the edge labelled with the specified letter index.
+	 *
+	 * @param node node index
+	 * @param letterIndex letter index
+	 * @return child node, {@link #NONE} if the specified node has no edge with the specified letter index
+	 * @since 1.1.0
+	 */
+	public int getChild(int node, int letterIndex) {
+
+		var child = NONE;
+		var end = getEdgeEnd(node);
+
+		for (var edge = getEdgeStart(node); edge < end; edge++) {
+
+			var edgeLetterIndex = getLetterIndex(edge);
+
+			if (edgeLetterIndex >= letterIndex) {
+
+				if (edgeLetterIndex == letterIndex) {
+					child = getTarget(edge);
+				}
+
+				break;
+			}
+		}
+
+		return child;
+	}
+
+	/**
+	 * Follows the edge labelled with the specified letter, ignoring case.
+	 *
+	 * @param node node index
+	 * @param letter letter
+	 * @return child node, {@link #NONE} if the specified node has no edge with the specified letter
+	 * @since 1.1.0
+	 */
+	public int getChild(int node, char letter) {
+
+		var letterIndex = Character.toUpperCase(letter) - 'A';
+
+		return letterIndex < 0 || letterIndex > MAX_LETTER_INDEX ?
+				NONE :
+				getChild(node, letterIndex);
+	}
+
+	/**
+	 * Follows the edges labelled with the letters of the specified string, ignoring case.
+	 *
+	 * @param node node index
+	 * @param letters letters to follow
+	 * @return reached node, {@link #NONE} if the path does not exist
+	 * @since 1.1.0
+	 */
+	public int getChild(int node, CharSequence letters) {
+
+		var length = letters.length();
+
+		for (var index = 0; index < length && node != NONE; index++) {
+			node = getChild(node, letters.charAt(index));
+		}
+
+		return node;
+	}
+
+	/**
+	 * Determines if this graph contains the specified word, ignoring case.
+	 *
+	 * @param word word to look for
+	 * @return whether this graph contains the specified word
+	 * @since 1.1.0
+	 */
+	public boolean contains(CharSequence word) {
+
+		var node = getChild(ROOT, word);
+		return node != NONE && isWord(node);
+	}
+
+	/**
+	 * Consumes all the words of this graph, in lexicographic order.
+	 *
+	 * @param consumer word consumer
+	 * @since 1.1.0
+	 */
+	public void forEachWord(Consumer<String> consumer) {
+		forEachWord(ROOT, new StringBuilder(), consumer);
+	}
+
+	/**
+	 * Consumes all the words reachable from the specified node, in lexicographic order.
+	 *
+	 * @param node current node
+	 * @param prefix letters leading to the current node
+	 * @param consumer word consumer
+	 * @since 1.1.0
+	 */
+	private void forEachWord(int node, StringBuilder prefix, Consumer<String> consumer) {
+
+		if (isWord(node)) {
+			consumer.accept(prefix.toString());
+		}
+
+		var end = getEdgeEnd(node);
+
+		for (var edge = getEdgeStart(node); edge < end; edge++) {
+
+			prefix.append((char) ('A' + getLetterIndex(edge)));
+			forEachWord(getTarget(edge), prefix, consumer);
+			prefix.deleteCharAt(prefix.length() - 1);
+		}
+	}
+
+	/**
+	 * Consumes the words that can be formed with the specified tiles, in lexicographic order. Each word is consumed
+	 * once, however many ways the blank tiles can be assigned.
+	 *
+	 * @param letterCounts number of tiles of each letter index, modified during the traversal then restored
+	 * @param blankCount number of blank tiles, each one standing for any letter
+	 * @param complete whether the words must use all the tiles, any of them otherwise
+	 * @param consumer word consumer
+	 * @since 1.1.0
+	 */
+	public void forEachAnagram(int[] letterCounts, int blankCount, boolean complete, Consumer<String> consumer) {
+
+		var tileCount = blankCount;
+
+		for (var letterCount : letterCounts) {
+			tileCount += letterCount;
+		}
+
+		forEachAnagram(ROOT, letterCounts, blankCount, tileCount, complete, new StringBuilder(), consumer);
+	}
+
+	/**
+	 * Consumes the words reachable from the specified node with the remaining tiles, in lexicographic order. A letter
+	 * is taken from a natural tile while one is left, from a blank tile otherwise, so that each path is followed once.
+	 *
+	 * @param node current node
+	 * @param letterCounts number of remaining tiles of each letter index
+	 * @param blankCount number of remaining blank tiles
+	 * @param tileCount total number of remaining tiles
+	 * @param complete whether the words must use all the tiles
+	 * @param prefix letters leading to the current node
+	 * @param consumer word consumer
+	 * @since 1.1.0
+	 */
+	private void forEachAnagram(int node, int[] letterCounts, int blankCount, int tileCount, boolean complete,
+			StringBuilder prefix, Consumer<String> consumer) {
+
+		if (isWord(node) && !prefix.isEmpty() && (!complete || tileCount == 0)) {
+			consumer.accept(prefix.toString());
+		}
+
+		var end = getEdgeEnd(node);
+
+		for (var edge = getEdgeStart(node); edge < end && tileCount > 0; edge++) {
+
+			var letterIndex = getLetterIndex(edge);
+			var natural = letterIndex < letterCounts.length && letterCounts[letterIndex] > 0;
+
+			if (natural || blankCount > 0) {
+
+				if (natural) {
+					letterCounts[letterIndex]--;
+				}
+
+				prefix.append((char) ('A' + letterIndex));
+
+				forEachAnagram(getTarget(edge), letterCounts, natural ? blankCount : blankCount - 1, tileCount - 1,
+						complete, prefix, consumer);
+
+				prefix.deleteCharAt(prefix.length() - 1);
+
+				if (natural) {
+					letterCounts[letterIndex]++;
+				}
+			}
+		}
+	}
+
+	/**
+	 * Consumes the words matching the specified pattern, in lexicographic order. In the pattern, {@value #ANY_LETTER}
+	 * stands for any letter and {@value #ANY_LETTERS} for any sequence of letters, possibly empty. Other characters
+	 * stand for themselves, ignoring case.
+	 * <p>
+	 * The pattern is run as a non-deterministic automaton along the graph: the set of the pattern positions reached by
+	 * a path is kept as a bit set, so that each node is followed at most once per path, whatever the number of
+	 * {@value #ANY_LETTERS} in the pattern.
+	 *
+	 * @param pattern pattern to match
+	 * @param consumer word consumer
+	 * @throws IllegalArgumentException if the pattern is longer than {@value Long#SIZE} - 1 characters
+	 * @since 1.1.0
+	 */
+	public void forEachMatch(CharSequence pattern, Consumer<String> consumer) {
+
+		if (pattern.length() >= Long.SIZE) {
+			throw new IllegalArgumentException("pattern too long: " + pattern);
+		}
+
+		forEachMatch(ROOT, pattern, close(pattern, 1L), new StringBuilder(), consumer);
+	}
+
+	/**
+	 * Consumes the words reachable from the specified node and matching the rest of the pattern.
+	 *
+	 * @param node current node
+	 * @param pattern pattern to match
+	 * @param positions bit set of the pattern positions reached by the letters leading to the current node
+	 * @param prefix letters leading to the current node
+	 * @param consumer word consumer
+	 * @since 1.1.0
+	 */
+	private void forEachMatch(int node, CharSequence pattern, long positions, StringBuilder prefix,
+			Consumer<String> consumer) {
+
+		var length = pattern.length();
+
+		if (isWord(node) && (positions & 1L << length) != 0) {
+			consumer.accept(prefix.toString());
+		}
+
+		var end = getEdgeEnd(node);
+
+		for (var edge = getEdgeStart(node); edge < end; edge++) {
+
+			var letterIndex = getLetterIndex(edge);
+			var letter = (char) ('A' + letterIndex);
+			var nextPositions = 0L;
+
+			for (var remaining = positions & ~(1L << length); remaining != 0; remaining &= remaining - 1) {
+
+				var position = Long.numberOfTrailingZeros(remaining);
+				var symbol = Character.toUpperCase(pattern.charAt(position));
+
+				if (symbol == ANY_LETTERS) {
+					nextPositions |= 1L << position;
+				} else if (symbol == ANY_LETTER || symbol == letter) {
+					nextPositions |= 1L << position + 1;
+				}
+			}
+
+			if (nextPositions != 0) {
+
+				prefix.append(letter);
+				forEachMatch(getTarget(edge), pattern, close(pattern, nextPositions), prefix, consumer);
+				prefix.deleteCharAt(prefix.length() - 1);
+			}
+		}
+	}
+
+	/**
+	 * Adds to a set of pattern positions the positions reached without consuming a letter, by skipping
+	 * {@value #ANY_LETTERS} symbols.
+	 *
+	 * @param pattern pattern
+	 * @param positions bit set of pattern positions
+	 * @return closed bit set of pattern positions
+	 * @since 1.1.0
+	 */
+	private static long close(CharSequence pattern, long positions) {
+
+		var length = pattern.length();
+
+		for (var position = 0; position < length; position++) {
+
+			if ((positions & 1L << position) != 0 && pattern.charAt(position) == ANY_LETTERS) {
+				positions |= 1L << position + 1;
+			}
+		}
+
+		return positions;
+	}
+
+	/**
+	 * @return number of nodes in this graph
+	 * @since 1.1.0
+	 */
+	public int getNodeCount() {
+		return nodes.limit() - 1;
+	}
+
+	/**
+	 * @return number of edges in this graph
+	 * @since 1.1.0
+	 */
+	public int getEdgeCount() {
+		return edges.limit();
+	}
+
+	/**
+	 * @return number of bytes of the binary form of this graph
+	 * @since 1.1.0
+	 */
+	public int getByteCount() {
+		return (2 + nodes.limit() + edges.limit()) * BYTES;
+	}
+
+	/**
+	 * Writes the binary form of this graph, see {@link #read(ByteBuffer)}.
+	 *
+	 * @param buffer little-endian buffer to write to, with at least {@link #getByteCount()} remaining bytes
+	 * @throws IllegalArgumentException if the specified buffer is not little-endian
+	 * @since 1.1.0
+	 */
+	public void write(ByteBuffer buffer) {
+
+		if (buffer.order() != LITTLE_ENDIAN) {
+			throw new IllegalArgumentException("graph buffer must be little-endian");
+		}
+
+		var intBuffer = buffer.asIntBuffer();
+
+		intBuffer.put(nodes.limit());
+		intBuffer.put(edges.limit());
+		intBuffer.put(nodes.duplicate().clear());
+		intBuffer.put(edges.duplicate().clear());
+
+		buffer.position(buffer.position() + getByteCount());
+	}
+}
@@ -0,0 +1,257 @@
+package com.github.achaaab.scrabble.tools;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static com.github.achaaab.scrabble.tools.Dawg.LETTER_BITS;
+import static com.github.achaaab.scrabble.tools.Dawg.MAX_LETTER_INDEX;
+import static com.github.achaaab.scrabble.tools.Dawg.ROOT;
+
+/**
+ * Builds a minimal {@link Dawg} from words added in lexicographic order, using the incremental algorithm described
+ * by Daciuk, Mihov, Watson and Watson. Only the states along the last added word are kept mutable, every other state
+ * is registered once and shared by all the words ending the same way.
+ *
+ * @author Jonathan Guéhenneux
+ * @since 1.1.0
+ */
+public class DawgBuilder {
+
+	private final Map<State, State> register;
+	private final List<State> path;
+	private final StringBuilder previousWord;
+
+	/**
+	 * Creates a builder of an empty word graph.
+	 *
+	 * @since 1.1.0
+	 */
+	public DawgBuilder() {
+
+		register = new HashMap<>();
+		path = new ArrayList<>();
+		previousWord = new StringBuilder();
+
+		path.add(new State());
+	}
+
+	/**
+	 * Adds a word to the graph. Words must be added in lexicographic order and must only contain characters between
+	 * {@code 'A'} and {@code 'A' + }{@link Dawg#MAX_LETTER_INDEX}. Adding the same word twice in a row has no effect.
+	 *
+	 * @param word word to add
+	 * @throws IllegalArgumentException if the specified word precedes the previously added word or contains an
+	 * unsupported character
+	 * @since 1.1.0
+	 */
+	public void add(CharSequence word) {
+
+		var comparison = CharSequence.compare(word, previousWord);
+
+		if (comparison < 0) {
+			throw new IllegalArgumentException("words are not sorted: " + word + " < " + previousWord);
+		}
+
+		if (comparison > 0) {
+
+			var length = word.length();
+			var previousLength = previousWord.length();
+			var prefixLength = 0;
+
+			while (prefixLength < length && prefixLength < previousLength &&
+					word.charAt(prefixLength) == previousWord.charAt(prefixLength)) {
+
+				prefixLength++;
+			}
+
+			minimize(prefixLength);
+
+			var state = path.getLast();
+
+			for (var index = prefixLength; index < length; index++) {
+
+				var letterIndex = word.charAt(index) - 'A';
+
+				if (letterIndex < 0 || letterIndex > MAX_LETTER_INDEX) {
+					throw new IllegalArgumentException("unsupported character in word: " + word);
+				}
+
+				var child = new State();
+				state.add(letterIndex, child);
+				path.add(child);
+				state = child;
+			}
+
+			state.terminal = true;
+
+			previousWord.setLength(0);
+			previousWord.append(word);
+		}
+	}
+
+	/**
+	 * Registers the states of the previous word beyond the specified depth, replacing them with equivalent registered
+	 * states when there are some.
+	 *
+	 * @param depth number of letters to keep mutable
+	 * @since 1.1.0
+	 */
+	private void minimize(int depth) {
+
+		for (var index = path.size() - 1; index > depth; index--) {
+
+			var child = path.removeLast();
+			var parent = path.getLast();
+			var registeredChild = register.putIfAbsent(child, child);
+
+			if (registeredChild != null) {
+				parent.targets[parent.size - 1] = registeredChild;
+			}
+		}
+	}
+
+	/**
+	 * Minimizes the remaining states then flattens the graph. This builder must not be used afterward.
+	 *
+	 * @return built word graph
+	 * @since 1.1.0
+	 */
+	public Dawg build() {
+
+		minimize(0);
+
+		var root = path.getFirst();
+		var states = new ArrayList<State>();
+		var queue = new ArrayDeque<State>();
+		var edgeCount = 0;
+
+		root.id = ROOT;
+		states.add(root);
+		queue.add(root);
+
+		while (!queue.isEmpty()) {
+
+			var state = queue.poll();
+			edgeCount += state.size;
+
+			for (var index = 0; index < state.size; index++) {
+
+				var target = state.targets[index];
+
+				if (target.id == -1) {
+
+					target.id = states.size();
+					states.add(target);
+					queue.add(target);
+				}
+			}
+		}
+
+		var nodeCount = states.size();
+		var nodes = new int[nodeCount + 1];
+		var edges = new int[edgeCount];
+		var edge = 0;
+
+		for (var node = 0; node < nodeCount; node++) {
+
+			var state = states.get(node);
+			nodes[node] = edge << 1 | (state.terminal ? 1 : 0);
+
+			for (var index = 0; index < state.size; index++) {
+				edges[edge++] = state.targets[index].id << LETTER_BITS | state.letterIndices[index];
+			}
+		}
+
+		nodes[nodeCount] = edge << 1;
+
+		return new Dawg(nodes, edges);
+	}
+
+	/**
+	 * Word graph state under construction. Once registered, a state is immutable and its hash code is stable.
+	 *
+	 * @author Jonathan Guéhenneux
+	 * @since 1.1.0
+	 */
+	private static class State {
+
+		private int[] letterIndices;
+		private State[] targets;
+		private int size;
+		private boolean terminal;
+		private int id;
+
+		/**
+		 * Creates a state without edge.
+		 *
+		 * @since 1.1.0
+		 */
+		private State() {
+
+			letterIndices = new int[2];
+			targets = new State[2];
+			size = 0;
+			terminal = false;
+			id = -1;
+		}
+
+		/**
+		 * Adds an edge to this state. Letter indices are added in increasing order.
+		 *
+		 * @param letterIndex letter index of the edge
+		 * @param target target state of the edge
+		 * @since 1.1.0
+		 */
+		private void add(int letterIndex, State target) {
+
+			if (size == targets.length) {
+
+				letterIndices = Arrays.copyOf(letterIndices, size * 2);
+				targets = Arrays.copyOf(targets, size * 2);
+			}
+
+			letterIndices[size] = letterIndex;
+			targets[size] = target;
+			size++;
+		}
+
+		@Override
+		public boolean equals(Object object) {
+
+			if (object == this) {
+				return true;
+			}
+
+			if (!(object instanceof State state) || terminal != state.terminal || size != state.size) {
+				return false;
+			}
+
+			for (var index = 0; index < size; index++) {
+
+				if (letterIndices[index] != state.letterIndices[index] || targets[index] != state.targets[index]) {
+					return false;
+				}
+			}
+
+			return true;
+		}
+
+		@Override
+		public int hashCode() {
+
+			var hashCode = terminal ? 1 : 0;
+
+			for (var index = 0; index < size; index++) {
+
+				hashCode = 31 * hashCode + letterIndices[index];
+				hashCode = 31 * hashCode + System.identityHashCode(targets[index]);
+			}
+
+			return hashCode;
+		}
+	}
+}
@@ -0,0 +1,78 @@
+package com.github.achaaab.scrabble.tools;
+
+import java.util.ArrayList;
+
+import static com.github.achaaab.scrabble.model.core.Dictionary.LETTER_COUNT;
+import static java.util.Comparator.naturalOrder;
+
+/**
+ * Builds GADDAG word graphs, as described by Steven A. Gordon. For each word {@code xy} where {@code x} is not empty,
+ * a GADDAG contains the path {@code reverse(x) SEPARATOR y}. Starting from any letter of a word, the word can then be
+ * completed by growing it to the left, then to the right after following the separator.
+ *
+ * @author Jonathan Guéhenneux
+ * @since 1.1.0
+ */
+public class Gaddag {
+
+	public static final int SEPARATOR_INDEX = LETTER_COUNT;
+	public static final char SEPARATOR = 'A' + SEPARATOR_INDEX;
+
+	/**
+	 * Builds the GADDAG of the words contained in the specified word graph.
+	 * <p>
+	 * The GADDAG paths are generated and added to the builder 1 starting letter at a time,
+	 * so that only a fraction of them are held in memory at once.
+	 *
+	 * @param dawg word graph
+	 * @return built GADDAG
+	 * @since 1.1.0
+	 */
+	public static Dawg build(Dawg dawg) {
+
+		var words = new ArrayList<String>();
+		dawg.forEachWord(words::add);
+
+		var builder = new DawgBuilder();
+		var paths = new ArrayList<String>();
+		var path = new StringBuilder();
+
+		for (var letterIndex = 0; letterIndex < LETTER_COUNT; letterIndex++) {
+
+			var letter = (char) ('A' + letterIndex);
+
+			for (var word : words) {
+
+				var length = word.length();
+
+				for (var prefixLength = 1; prefixLength <= length; prefixLength++) {
+
+					if (word.charAt(prefixLength - 1) == letter) {
+
+						path.setLength(0);
+						path.append(word, 0, prefixLength).reverse();
+						path.append(SEPARATOR);
+						path.append(word, prefixLength, length);
+
+						paths.add(path.toString());
+					}
+				}
+			}
+
+			paths.sort(naturalOrder());
+			paths.forEach(builder::add);
+			paths.clear();
+		}
+
+		return builder.build();
+	}
+
+	/**
+	 * private constructor to prevent instantiation of this utility class
+	 *
+	 * @since 1.1.0
+	 */
+	private Gaddag() {
+
+	}
+}
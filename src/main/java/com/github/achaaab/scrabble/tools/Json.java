@@ -0,0 +1,459 @@
+package com.github.achaaab.scrabble.tools;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Minimal JSON reader and writer, enough for the requests and responses of the solver server.
+ * <p>
+ * JSON values are read as {@link Map} (keeping the order of the members), {@link List}, {@link String},
+ * {@link Long} for integers, {@link Double} for other numbers, {@link Boolean} or {@code null}. Any {@link Map},
+ * {@link Collection}, {@link CharSequence}, {@link Number}, {@link Boolean} and {@link Enum} can be written.
+ *
+ * @author Jonathan Guéhenneux
+ * @since 1.1.0
+ */
+public class Json {
+
+	/**
+	 * Parses a JSON text.
+	 *
+	 * @param text JSON text
+	 * @return parsed value
+	 * @throws IllegalArgumentException if the specified text is not valid JSON
+	 * @since 1.1.0
+	 */
+	public static Object parse(CharSequence text) {
+
+		var reader = new Reader(text);
+		var value = reader.readValue();
+		reader.skipWhitespace();
+
+		if (reader.position < text.length()) {
+			throw reader.error("unexpected character");
+		}
+
+		return value;
+	}
+
+	/**
+	 * Writes a value as JSON text.
+	 *
+	 * @param value value to write
+	 * @return JSON text
+	 * @throws IllegalArgumentException if the specified value, or one of its elements, cannot be written
+	 * @since 1.1.0
+	 */
+	public static String write(Object value) {
+
+		var builder = new StringBuilder();
+		write(value, builder);
+		return builder.toString();
+	}
+
+	/**
+	 * Writes a value as JSON text in a builder.
+	 *
+	 * @param value value to write
+	 * @param builder builder in which to write
+	 * @throws IllegalArgumentException if the specified value, or one of its elements, cannot be written
+	 * @since 1.1.0
+	 */
+	private static void write(Object value, StringBuilder builder) {
+
+		switch (value) {
+
+			case null -> builder.append("null");
+			case Boolean booleanValue -> builder.append(booleanValue);
+			case Double doubleValue when doubleValue.isNaN() || doubleValue.isInfinite() ->
+					throw new IllegalArgumentException("unsupported number: " + doubleValue);
+			case Float floatValue when floatValue.isNaN() || floatValue.isInfinite() ->
+					throw new IllegalArgumentException("unsupported number: " + floatValue);
+			case Number number -> builder.append(number);
+			case CharSequence string -> writeString(string, builder);
+			case Enum<?> constant -> writeString(constant.name(), builder);
+
+			case Map<?, ?> map -> {
+
+				builder.append('{');
+				var first = true;
+
+				for (var entry : map.entrySet()) {
+
+					if (!first) {
+						builder.append(',');
+					}
+
+					writeString(entry.getKey().toString(), builder);
+					builder.append(':');
+					write(entry.getValue(), builder);
+					first = false;
+				}
+
+				builder.append('}');
+			}
+
+			case Collection<?> collection -> {
+
+				builder.append('[');
+				var first = true;
+
+				for (var element : collection) {
+
+					if (!first) {
+						builder.append(',');
+					}
+
+					write(element, builder);
+					first = false;
+				}
+
+				builder.append(']');
+			}
+
+			default -> throw new IllegalArgumentException("unsupported type: " + value.getClass());
+		}
+	}
+
+	/**
+	 * Writes a string as JSON text in a builder, escaping quotes, backslashes and control characters.
+	 *
+	 * @param string string to write
+	 * @param builder builder in which to write
+	 * @since 1.1.0
+	 */
+	private static void writeString(CharSequence string, StringBuilder builder) {
+
+		builder.append('"');
+
+		var length = string.length();
+
+		for (var index = 0; index < length; index++) {
+
+			var character = string.charAt(index);
+
+			switch (character) {
+
+				case '"' -> builder.append("\\\"");
+				case '\\' -> builder.append("\\\\");
+				case '\n' -> builder.append("\\n");
+				case '\r' -> builder.append("\\r");
+				case '\t' -> builder.append("\\t");
+
+				default -> {
+
+					if (character < ' ') {
+						builder.append(String.format("\\u%04x", (int) character));
+					} else {
+						builder.append(character);
+					}
+				}
+			}
+		}
+
+		builder.append('"');
+	}
+
+	/**
+	 * Recursive descent reader of a JSON text.
+	 *
+	 * @author Jonathan Guéhenneux
+	 * @since 1.1.0
+	 */
+	private static class Reader {
+
+		private final CharSequence text;
+
+		private int position;
+
+		/**
+		 * @param text JSON text to read
+		 * @since 1.1.0
+		 */
+		Reader(CharSequence text) {
+
+			this.text = text;
+
+			position = 0;
+		}
+
+		/**
+		 * Reads a value, skipping the whitespace before it.
+		 *
+		 * @return read value
+		 * @since 1.1.0
+		 */
+		Object readValue() {
+
+			skipWhitespace();
+
+			if (position == text.length()) {
+				throw error("unexpected end");
+			}
+
+			return switch (text.charAt(position)) {
+
+				case '{' -> readObject();
+				case '[' -> readArray();
+				case '"' -> readString();
+				case 't' -> readLiteral("true", true);
+				case 'f' -> readLiteral("false", false);
+				case 'n' -> readLiteral("null", null);
+				default -> readNumber();
+			};
+		}
+
+		/**
+		 * @return read object, keeping the order of its members
+		 * @since 1.1.0
+		 */
+		Map<String, Object> readObject() {
+
+			var object = new LinkedHashMap<String, Object>();
+			position++;
+			skipWhitespace();
+
+			if (!consume('}')) {
+
+				do {
+
+					skipWhitespace();
+
+					if (position == text.length() || text.charAt(position) != '"') {
+						throw error("member name expected");
+					}
+
+					var name = readString();
+					skipWhitespace();
+					expect(':');
+					object.put(name, readValue());
+					skipWhitespace();
+
+				} while (consume(','));
+
+				expect('}');
+			}
+
+			return object;
+		}
+
+		/**
+		 * @return read array
+		 * @since 1.1.0
+		 */
+		List<Object> readArray() {
+
+			var array = new ArrayList<>();
+			position++;
+			skipWhitespace();
+
+			if (!consume(']')) {
+
+				do {
+
+					array.add(readValue());
+					skipWhitespace();
+
+				} while (consume(','));
+
+				expect(']');
+			}
+
+			return array;
+		}
+
+		/**
+		 * @return read string, unescaped
+		 * @since 1.1.0
+		 */
+		String readString() {
+
+			var builder = new StringBuilder();
+			position++;
+
+			while (true) {
+
+				if (position == text.length()) {
+					throw error("unterminated string");
+				}
+
+				var character = text.charAt(position++);
+
+				if (character == '"') {
+					break;
+				} else if (character == '\\') {
+					builder.append(readEscape());
+				} else if (character < ' ') {
+					throw error("control character in string");
+				} else {
+					builder.append(character);
+				}
+			}
+
+			return builder.toString();
+		}
+
+		/**
+		 * @return character of the escape sequence following a backslash
+		 * @since 1.1.0
+		 */
+		char readEscape() {
+
+			if (position == text.length()) {
+				throw error("unterminated string");
+			}
+
+			return switch (text.charAt(position++)) {
+
+				case '"' -> '"';
+				case '\\' -> '\\';
+				case '/' -> '/';
+				case 'b' -> '\b';
+				case 'f' -> '\f';
+				case 'n' -> '\n';
+				case 'r' -> '\r';
+				case 't' -> '\t';
+
+				case 'u' -> {
+
+					if (position + 4 > text.length()) {
+						throw error("invalid unicode escape");
+					}
+
+					try {
+
+						var code = Integer.parseInt(text, position, position + 4, 16);
+						position += 4;
+						yield (char) code;
+
+					} catch (NumberFormatException exception) {
+
+						throw error("invalid unicode escape");
+					}
+				}
+
+				default -> throw error("invalid escape");
+			};
+		}
+
+		/**
+		 * @param literal expected literal
+		 * @param value value of the literal
+		 * @return value of the literal
+		 * @since 1.1.0
+		 */
+		Object readLiteral(String literal, Object value) {
+
+			var end = position + literal.length();
+
+			if (end > text.length() || !literal.contentEquals(text.subSequence(position, end))) {
+				throw error("invalid literal");
+			}
+
+			position = end;
+			return value;
+		}
+
+		/**
+		 * @return read number, a {@link Long} if it is an integer in the range of {@code long}, a {@link Double}
+		 * otherwise
+		 * @since 1.1.0
+		 */
+		Number readNumber() {
+
+			var start = position;
+			var integer = true;
+
+			while (position < text.length()) {
+
+				var character = text.charAt(position);
+
+				if (character == '.' || character == 'e' || character == 'E') {
+					integer = false;
+				} else if (!Character.isDigit(character) && character != '-' && character != '+') {
+					break;
+				}
+
+				position++;
+			}
+
+			var number = text.subSequence(start, position).toString();
+
+			try {
+
+				return integer ? (Number) Long.parseLong(number) : (Number) Double.parseDouble(number);
+
+			} catch (NumberFormatException exception) {
+
+				try {
+
+					return Double.parseDouble(number);
+
+				} catch (NumberFormatException doubleException) {
+
+					position = start;
+					throw error("invalid value");
+				}
+			}
+		}
+
+		/**
+		 * Skips whitespace characters.
+		 *
+		 * @since 1.1.0
+		 */
+		void skipWhitespace() {
+
+			while (position < text.length() && switch (text.charAt(position)) {
+				case ' ', '\t', '\n', '\r' -> true;
+				default -> false;
+			}) {
+				position++;
+			}
+		}
+
+		/**
+		 * Consumes the specified character if it is the next one.
+		 *
+		 * @param character character to consume
+		 * @return whether the character was consumed
+		 * @since 1.1.0
+		 */
+		boolean consume(char character) {
+
+			var consumed = position < text.length() && text.charAt(position) == character;
+
+			if (consumed) {
+				position++;
+			}
+
+			return consumed;
+		}
+
+		/**
+		 * Consumes the specified character, which must be the next one.
+		 *
+		 * @param character character to consume
+		 * @throws IllegalArgumentException if the next character is not the specified one
+		 * @since 1.1.0
+		 */
+		void expect(char character) {
+
+			if (!consume(character)) {
+				throw error("'" + character + "' expected");
+			}
+		}
+
+		/**
+		 * @param message error message
+		 * @return exception reporting an error at the current position
+		 * @since 1.1.0
+		 */
+		IllegalArgumentException error(String message) {
+			return new IllegalArgumentException(message + " at position " + position);
+		}
+	}
+}
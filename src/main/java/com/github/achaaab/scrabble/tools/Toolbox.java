@@ -54,6 +54,22 @@ public class Toolbox {
 		new Thread(runnable).start();
 	}
 
+	/**
+	 * Scrambles the bits of a value, so that close values have unrelated results. This is the finalizer of the
+	 * SplitMix64 generator, a bijection on {@code long}.
+	 *
+	 * @param value value to mix
+	 * @return mixed value
+	 * @since 1.1.0
+	 */
+	public static long mix(long value) {
+
+		var mixed = value * 0x9E3779B97F4A7C15L;
+		mixed = (mixed ^ mixed >>> 30) * 0xBF58476D1CE4E5B9L;
+		mixed = (mixed ^ mixed >>> 27) * 0x94D049BB133111EBL;
+		return mixed ^ mixed >>> 31;
+	}
+
 	/**
 	 * @param exception
 	 * @return
@@ -4,67 +4,66 @@ import com.github.achaaab.scrabble.model.core.Tile;
 
 import java.util.List;
 
-import static com.github.achaaab.scrabble.model.core.Dictionary.LETTER_COUNT;
-import static java.lang.Character.toUpperCase;
+import static com.github.achaaab.scrabble.tools.Dawg.NONE;
 
 /**
+ * Navigation cursor on a node of a {@link Dawg}. A trie is immutable, getting a child creates a new cursor.
+ * Performance critical code should navigate the {@link Dawg} directly with node indices.
+ *
  * @author Jonathan Guéhenneux
  * @since 0.0.0
  */
 public class Trie {
 
-	private final Trie[] children;
-	private boolean exists;
+	private final Dawg dawg;
+	private final int node;
 
 	/**
-	 * @since 0.0.0
+	 * Creates a cursor on a word graph node.
+	 *
+	 * @param dawg word graph
+	 * @param node node index
+	 * @since 1.1.0
 	 */
-	public Trie() {
+	public Trie(Dawg dawg, int node) {
 
-		children = new Trie[LETTER_COUNT];
-		exists = false;
+		this.dawg = dawg;
+		this.node = node;
 	}
 
 	/**
-	 * @param word
-	 * @since 0.0.0
+	 * Creates a cursor on the specified node, or returns {@code null} if the node is {@link Dawg#NONE}.
+	 *
+	 * @param node node index
+	 * @return cursor on the specified node, {@code null} if there is no node
+	 * @since 1.1.0
 	 */
-	public void add(String word) {
-
-		if (word.isEmpty()) {
-
-			exists = true;
-
-		} else {
-
-			var firstLetter = toUpperCase(word.charAt(0));
-
-			var child = children[firstLetter - 'A'];
-
-			if (child == null) {
-
-				child = new Trie();
-				children[firstLetter - 'A'] = child;
-			}
-
-			child.add(word.substring(1));
-		}
+	private Trie getTrie(int node) {
+		return node == NONE ? null : new Trie(dawg, node);
 	}
 
 	/**
-	 * @param tiles
-	 * @return
+	 * @param tiles tiles to follow
+	 * @return child reached following the letters of the specified tiles, {@code null} if there is no such child
 	 * @since 0.0.0
 	 */
 	public Trie getChild(List<Tile> tiles) {
 
-		return tiles.isEmpty() ? this :
-				getChild(tiles.getFirst()).getChild(tiles.subList(1, tiles.size()));
+		var child = node;
+
+		for (var tile : tiles) {
+
+			if (child != NONE) {
+				child = dawg.getChild(child, tile.letter());
+			}
+		}
+
+		return getTrie(child);
 	}
 
 	/**
-	 * @param tile
-	 * @return
+	 * @param tile tile to follow
+	 * @return child reached following the letter of the specified tile, {@code null} if there is no such child
 	 * @since 0.0.0
 	 */
 	public Trie getChild(Tile tile) {
@@ -72,42 +71,44 @@ public class Trie {
 	}
 
 	/**
-	 * @param prefix
-	 * @return
+	 * @param prefix letters to follow
+	 * @return child reached following the specified letters, {@code null} if there is no such child
 	 * @since 0.0.0
 	 */
 	public Trie getChild(String prefix) {
-
-		if (prefix.isEmpty()) {
-			return this;
-		}
-
-		var firstLetter = prefix.charAt(0);
-		return getChild(firstLetter).getChild(prefix.substring(1));
+		return getTrie(dawg.getChild(node, prefix));
 	}
 
 	/**
-	 * @param letter
-	 * @return
+	 * @param letter letter to follow, ignoring case
+	 * @return child reached following the specified letter, {@code null} if there is no such child
 	 * @since 0.0.0
 	 */
 	public Trie getChild(char letter) {
-		return children[toUpperCase(letter) - 'A'];
+		return getTrie(dawg.getChild(node, letter));
 	}
 
 	/**
-	 * @return
+	 * @return whether the path leading to this trie is a word
 	 * @since 0.0.0
 	 */
-	public Trie[] getChildren() {
-		return children;
+	public boolean isWord() {
+		return dawg.isWord(node);
 	}
 
 	/**
-	 * @return
-	 * @since 0.0.0
+	 * @return word graph navigated by this cursor
+	 * @since 1.1.0
 	 */
-	public boolean isWord() {
-		return exists;
+	public Dawg dawg() {
+		return dawg;
+	}
+
+	/**
+	 * @return index of the node pointed by this cursor
+	 * @since 1.1.0
+	 */
+	public int node() {
+		return node;
 	}
 }
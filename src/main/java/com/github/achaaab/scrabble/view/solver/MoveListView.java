@@ -4,9 +4,13 @@ import com.github.achaaab.scrabble.model.solver.SolverSheet;
 import com.github.achaaab.scrabble.model.solver.SolverSheetEntry;
 
 import javax.swing.AbstractAction;
+import javax.swing.JButton;
 import javax.swing.JDialog;
+import javax.swing.JLabel;
+import javax.swing.JPanel;
 import javax.swing.JTable;
 import javax.swing.table.TableRowSorter;
+import java.awt.BorderLayout;
 import java.awt.Component;
 import java.awt.event.ActionEvent;
 import java.awt.event.MouseAdapter;
@@ -21,6 +25,9 @@ import static com.github.achaaab.scrabble.model.solver.SolverSheet.KEY_COLUMN;
 import static com.github.achaaab.scrabble.model.solver.SolverSheet.SCORE_COLUMN;
 import static com.github.achaaab.scrabble.model.solver.SolverSheet.WORD_COLUMN;
 import static com.github.achaaab.scrabble.tools.MessageBundle.getMessage;
+import static java.awt.BorderLayout.CENTER;
+import static java.awt.BorderLayout.EAST;
+import static java.awt.BorderLayout.SOUTH;
 import static java.awt.Dialog.ModalityType.APPLICATION_MODAL;
 import static java.awt.event.KeyEvent.VK_ENTER;
 import static java.awt.event.KeyEvent.VK_ESCAPE;
@@ -44,6 +51,10 @@ public class MoveListView extends JDialog {
 
 	private final SolverSheet moves;
 	private final JTable table;
+	private final JLabel status;
+	private final JButton cancel;
+
+	private boolean searching;
 
 	/**
 	 * Creates a move list dialog view.
@@ -53,6 +64,7 @@ public class MoveListView extends JDialog {
 	 * @param selectedMoveConsumer selected move consumer
 	 * @param playedMoveConsumer played move consumer
 	 * @param onClosed action to run when this dialog is closed
+	 * @param onCancelled action to run when the search of the moves is cancelled
 	 * @since 0.0.6
 	 */
 	public MoveListView(
@@ -60,7 +72,8 @@ public class MoveListView extends JDialog {
 			SolverSheet moves,
 			Consumer<SolverSheetEntry> selectedMoveConsumer,
 			Consumer<SolverSheetEntry> playedMoveConsumer,
-			Runnable onClosed) {
+			Runnable onClosed,
+			Runnable onCancelled) {
 
 		super(
 				getWindowAncestor(parent),
@@ -81,11 +94,26 @@ public class MoveListView extends JDialog {
 		sorter.setComparator(KEY_COLUMN, naturalOrder());
 		sorter.setComparator(SCORE_COLUMN, naturalOrder());
 
-		selectionModel.addListSelectionListener(listSelectionEvent ->
-				getSelectedEntry().ifPresent(selectedMoveConsumer));
+		selectionModel.addListSelectionListener(listSelectionEvent -> {
+
+			if (!searching) {
+				getSelectedEntry().ifPresent(selectedMoveConsumer);
+			}
+		});
+
+		status = new JLabel(" ");
+		cancel = new JButton(getMessage("cancel"));
+		cancel.setEnabled(false);
+		cancel.addActionListener(actionEvent -> onCancelled.run());
+
+		var statusPanel = new JPanel();
+		statusPanel.setLayout(new BorderLayout());
+		statusPanel.add(status, CENTER);
+		statusPanel.add(cancel, EAST);
 
 		setDefaultCloseOperation(DISPOSE_ON_CLOSE);
-		add(movesView);
+		add(movesView, CENTER);
+		add(statusPanel, SOUTH);
 		pack();
 		setLocationRelativeTo(parent);
 
@@ -99,7 +127,10 @@ public class MoveListView extends JDialog {
 
 			@Override
 			public void actionPerformed(ActionEvent actionEvent) {
-				getSelectedEntry().ifPresent(playedMoveConsumer);
+
+				if (!searching) {
+					getSelectedEntry().ifPresent(playedMoveConsumer);
+				}
 			}
 		});
 
@@ -116,7 +147,7 @@ public class MoveListView extends JDialog {
 			@Override
 			public void mouseClicked(MouseEvent event) {
 
-				if (event.getButton() == BUTTON1 && event.getClickCount() == 2) {
+				if (!searching && event.getButton() == BUTTON1 && event.getClickCount() == 2) {
 
 					var rowIndex = table.rowAtPoint(event.getPoint());
 					getEntry(rowIndex).ifPresent(playedMoveConsumer);
@@ -131,8 +162,8 @@ public class MoveListView extends JDialog {
 
 				invokeLater(() -> {
 
-					if (moves.getRowCount() > 0) {
-						selectionModel.setSelectionInterval(0, 0);
+					if (!searching) {
+						selectFirstMove();
 					}
 				});
 			}
@@ -144,6 +175,45 @@ public class MoveListView extends JDialog {
 		});
 	}
 
+	/**
+	 * Sets whether the moves are being searched. While searching, moves are added to the list but they cannot be
+	 * previewed nor played. The first move is selected when the search is over, unless this dialog was closed.
+	 *
+	 * @param searching whether the moves are being searched
+	 * @since 1.1.0
+	 */
+	public void setSearching(boolean searching) {
+
+		this.searching = searching;
+		cancel.setEnabled(searching);
+
+		if (!searching && isDisplayable()) {
+			selectFirstMove();
+		}
+	}
+
+	/**
+	 * Displays the status of the search.
+	 *
+	 * @param text status text
+	 * @since 1.1.0
+	 */
+	public void setStatus(String text) {
+		status.setText(text);
+	}
+
+	/**
+	 * Selects the first move of the list, if any.
+	 *
+	 * @since 1.1.0
+	 */
+	private void selectFirstMove() {
+
+		if (moves.getRowCount() > 0) {
+			table.getSelectionModel().setSelectionInterval(0, 0);
+		}
+	}
+
 	/**
 	 * Identifies and returns the selected entry.
 	 *
@@ -0,0 +1,187 @@
+package com.github.achaaab.scrabble.view.solver;
+
+import com.github.achaaab.scrabble.model.solver.Solver;
+import com.github.achaaab.scrabble.model.solver.SolverSheet;
+import com.github.achaaab.scrabble.model.solver.SolverSheetEntry;
+
+import javax.swing.SwingWorker;
+import javax.swing.Timer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static com.github.achaaab.scrabble.tools.MessageBundle.getMessage;
+import static java.lang.System.nanoTime;
+import static javax.swing.SwingUtilities.invokeLater;
+
+/**
+ * Background search of the moves of a solver. Found moves are merged into a move sheet as the search goes, and the
+ * progress of the search is displayed by a move list view.
+ * <p>
+ * The board and rack of the solver must not be modified until the search is over, see {@link #stop(Runnable)}.
+ *
+ * @author Jonathan Guéhenneux
+ * @since 1.1.0
+ */
+public class SolveWorker extends SwingWorker<Boolean, Void> {
+
+	private static final int PUBLICATION_SIZE = 256;
+	private static final int STATUS_DELAY = 100;
+
+	private final Solver solver;
+	private final SolverSheet moves;
+	private final MoveListView view;
+	private final Timer timer;
+	private final AtomicBoolean claimed;
+
+	private long start;
+	private boolean finished;
+	private Runnable onStopped;
+	private List<SolverSheetEntry> found;
+	private volatile long nodeCount;
+	private volatile long end;
+
+	/**
+	 * Creates a background search.
+	 *
+	 * @param solver solver whose moves to find
+	 * @param moves sheet in which to merge the found moves
+	 * @param view view displaying the progress of the search
+	 * @since 1.1.0
+	 */
+	public SolveWorker(Solver solver, SolverSheet moves, MoveListView view) {
+
+		this.solver = solver;
+		this.moves = moves;
+		this.view = view;
+
+		timer = new Timer(STATUS_DELAY, event -> updateStatus());
+		claimed = new AtomicBoolean(false);
+
+		finished = false;
+		onStopped = null;
+	}
+
+	/**
+	 * Starts the search. This method must be called from the event dispatch thread.
+	 *
+	 * @since 1.1.0
+	 */
+	public void start() {
+
+		start = nanoTime();
+		view.setSearching(true);
+		timer.start();
+		execute();
+	}
+
+	/**
+	 * Cancels the search without waiting for it. The search stops within a few thousand nodes and the found moves are
+	 * still merged into the move sheet. This method must be called from the event dispatch thread.
+	 *
+	 * @param onStopped action to run on the event dispatch thread once the solver is no longer used by the search,
+	 * immediately if the search is already over
+	 * @since 1.1.0
+	 */
+	public void stop(Runnable onStopped) {
+
+		cancel(false);
+
+		if (finished) {
+			onStopped.run();
+		} else {
+			this.onStopped = onStopped;
+		}
+	}
+
+	@Override
+	protected Boolean doInBackground() {
+
+		if (!claimed.compareAndSet(false, true)) {
+			return false;
+		}
+
+		found = new ArrayList<>();
+
+		try {
+
+			return solver.solve(entry -> {
+
+				found.add(entry);
+
+				if (found.size() == PUBLICATION_SIZE) {
+					publishFound();
+				}
+
+			}, this::isCancelled);
+
+		} finally {
+
+			publishFound();
+			end = nanoTime();
+			invokeLater(this::finish);
+		}
+	}
+
+	/**
+	 * Finishes a search cancelled before it started. Otherwise, the search finishes itself once the solver is no longer
+	 * used, which may be after this method is called.
+	 *
+	 * @since 1.1.0
+	 */
+	@Override
+	protected void done() {
+
+		if (claimed.compareAndSet(false, true)) {
+
+			end = nanoTime();
+			finish();
+		}
+	}
+
+	/**
+	 * Merges the moves found since the last publication into the move sheet, on the event dispatch thread.
+	 *
+	 * @since 1.1.0
+	 */
+	private void publishFound() {
+
+		var entries = found;
+		found = new ArrayList<>();
+		nodeCount = solver.getNodeCount();
+
+		invokeLater(() -> moves.merge(entries));
+	}
+
+	/**
+	 * Displays the final status of the search, allows to preview and play the found moves and runs the action waiting
+	 * for the search to stop, if any.
+	 *
+	 * @since 1.1.0
+	 */
+	private void finish() {
+
+		timer.stop();
+		updateStatus();
+		view.setSearching(false);
+		finished = true;
+
+		if (onStopped != null) {
+			onStopped.run();
+		}
+	}
+
+	/**
+	 * Displays the number of found moves, the elapsed time and the search speed.
+	 *
+	 * @since 1.1.0
+	 */
+	private void updateStatus() {
+
+		var now = end == 0 ? nanoTime() : end;
+		var elapsed = (now - start) / 1e9;
+		var speed = elapsed == 0 ? 0 : nodeCount / elapsed;
+
+		view.setStatus(getMessage("search_status", moves.getRowCount(), elapsed, speed));
+	}
+}
@@ -1,6 +1,7 @@
 package com.github.achaaab.scrabble.view.solver;
 
 import com.github.achaaab.scrabble.model.solver.Solver;
+import com.github.achaaab.scrabble.model.solver.SolverSheet;
 import com.github.achaaab.scrabble.model.solver.SolverSheetEntry;
 import com.github.achaaab.scrabble.view.ViewUtilities;
 import com.github.achaaab.scrabble.view.core.BoardView;
@@ -54,8 +55,10 @@ public class SolverView extends Box {
 	private final RackView rack;
 	private final SolverSheetView sheet;
 	private final DrawView draw;
+	private final JButton solve;
 
 	private MoveListView moveList;
+	private SolveWorker solveWorker;
 
 	/**
 	 * Creates a view for a solver.
@@ -74,7 +77,7 @@ public class SolverView extends Box {
 		sheet = new SolverSheetView(model.sheet());
 		draw = new DrawView(this::updateDraw);
 
-		var solve = new JButton(getMessage("solve"));
+		solve = new JButton(getMessage("solve"));
 
 		var rackPanel = new Box(Y_AXIS);
 		rackPanel.setAlignmentX(CENTER_ALIGNMENT);
@@ -120,18 +123,30 @@ public class SolverView extends Box {
 	}
 
 	/**
-	 * Finds all the moves with the drawn letters and displays the list in a modal dialog.
+	 * Finds all the moves with the drawn letters in the background and displays the list, as it grows, in a modal
+	 * dialog.
 	 *
 	 * @param event action event
 	 * @since 0.0.5
 	 */
 	private void solve(ActionEvent event) {
 
-		var moves = model.solve();
-		moveList = new MoveListView(sheet, moves, this::preview, this::play, this::refresh);
+		var moves = new SolverSheet(false, false);
+		moveList = new MoveListView(sheet, moves, this::preview, this::play, this::refresh, this::cancelSearch);
+		solveWorker = new SolveWorker(model, moves, moveList);
+		solveWorker.start();
 		moveList.setVisible(true);
 	}
 
+	/**
+	 * Cancels the search of the moves, keeping the moves found so far.
+	 *
+	 * @since 1.1.0
+	 */
+	private void cancelSearch() {
+		solveWorker.cancel(false);
+	}
+
 	/**
 	 * Previews the specified move.
 	 *
@@ -140,11 +155,10 @@ public class SolverView extends Box {
 	 */
 	private void preview(SolverSheetEntry move) {
 
-		model.replay();
-		updateDraw();
 		model.preview(move);
 
 		board.repaint();
+		rack.repaint();
 	}
 
 	/**
@@ -160,16 +174,38 @@ public class SolverView extends Box {
 	}
 
 	/**
-	 * Refreshes the board and rack.
+	 * Stops the search of the moves then refreshes the board and rack. Until the search is stopped, the board, rack,
+	 * move sheet and draw cannot be used.
 	 *
 	 * @since 0.0.6
 	 */
 	private void refresh() {
 
-		model.replay();
-		board.repaint();
+		setInteractive(false);
+
+		solveWorker.stop(() -> {
+
+			model.cancelPreview();
+			setInteractive(true);
+
+			board.repaint();
+			rack.repaint();
+		});
+	}
+
+	/**
+	 * Enables or disables the interaction with the board, rack, move sheet and draw.
+	 *
+	 * @param interactive whether to enable the interaction
+	 * @since 1.1.0
+	 */
+	private void setInteractive(boolean interactive) {
 
-		updateDraw();
+		board.setEnabled(interactive);
+		rack.setEnabled(interactive);
+		sheet.table().setEnabled(interactive);
+		draw.setEnabled(interactive);
+		solve.setEnabled(interactive);
 	}
 
 	/**
@@ -1,6 +1,7 @@
 module auto.scrabbler {
 
 	requires java.desktop;
+	requires jdk.httpserver;
 
 	opens bundles;
 	opens dictionaries;
@@ -4,7 +4,10 @@ import org.junit.jupiter.api.Test;
 
 import java.util.NoSuchElementException;
 import java.util.Set;
+import java.util.SplittableRandom;
+import java.util.random.RandomGeneratorFactory;
 
+import static com.github.achaaab.scrabble.model.core.Tile.getEnglishTiles;
 import static com.github.achaaab.scrabble.model.core.Tile.getFrenchTiles;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
@@ -104,4 +107,22 @@ class BagTest {
 		assertTrue(tiles.containsAll(randomTiles));
 		assertEquals(1, bag.size());
 	}
+
+	@Test
+	void seed() {
+
+		var bag0 = new Bag(new SplittableRandom(42));
+		var bag1 = new Bag(new SplittableRandom(42));
+		var bag2 = new Bag(RandomGeneratorFactory.of("L64X128MixRandom").create(42));
+		var bag3 = new Bag(RandomGeneratorFactory.of("L64X128MixRandom").create(42));
+
+		bag0.addAll(getEnglishTiles());
+		bag1.addAll(getEnglishTiles());
+		bag2.addAll(getEnglishTiles());
+		bag3.addAll(getEnglishTiles());
+
+		assertEquals(bag0.pickRandom(100), bag1.pickRandom(100));
+		assertEquals(bag2.pickRandom(100), bag3.pickRandom(100));
+		assertTrue(bag0.isEmpty());
+	}
 }
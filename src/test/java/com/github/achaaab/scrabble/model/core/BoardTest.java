@@ -11,12 +11,15 @@ import static com.github.achaaab.scrabble.model.core.Award.LETTER_TRIPLE;
 import static com.github.achaaab.scrabble.model.core.Award.NONE;
 import static com.github.achaaab.scrabble.model.core.Award.WORD_DOUBLE;
 import static com.github.achaaab.scrabble.model.core.Award.WORD_TRIPLE;
+import static com.github.achaaab.scrabble.model.core.Board.HALF_SIZE;
 import static com.github.achaaab.scrabble.model.core.Board.SIZE;
 import static com.github.achaaab.scrabble.model.core.Direction.HORIZONTAL;
 import static com.github.achaaab.scrabble.model.core.Direction.VERTICAL;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertIterableEquals;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
@@ -470,4 +473,86 @@ class BoardTest {
 		emptySquareCount = board.squares().filter(Square::isEmpty).count();
 		assertEquals(SIZE * SIZE, emptySquareCount);
 	}
+
+	@Test
+	void getNextAnchor() {
+
+		var board = new Board();
+		var central = board.getSquare(HALF_SIZE, HALF_SIZE);
+
+		assertEquals(central.index(), board.getNextAnchor(0));
+		assertEquals(-1, board.getNextAnchor(central.index() + 1));
+
+		board.play(List.of(new Tile('A', 1), new Tile('X', 8)), board.getReference("H8"));
+		assertFalse(central.isAnchor());
+
+		var anchors = board.squares().filter(Square::isAnchor).toList();
+		assertEquals(6, anchors.size());
+
+		var index = board.getNextAnchor(0);
+
+		for (var anchor : anchors) {
+
+			assertEquals(anchor.index(), index);
+			assertSame(anchor, board.getSquare(index));
+			index = board.getNextAnchor(index + 1);
+		}
+
+		assertEquals(-1, index);
+
+		board.getSquare(HALF_SIZE + 1, HALF_SIZE).clear();
+		assertTrue(board.getSquare(HALF_SIZE + 1, HALF_SIZE).isAnchor());
+		assertFalse(board.getSquare(HALF_SIZE + 2, HALF_SIZE).isAnchor());
+
+		board.clear();
+		assertEquals(central.index(), board.getNextAnchor(0));
+		assertEquals(-1, board.getNextAnchor(central.index() + 1));
+	}
+
+	@Test
+	void unplay() {
+
+		var board = new Board();
+
+		var first = board.play(List.of(new Tile('F', 4), new Tile('O', 1), new Tile('O', 1)), board.getReference("H8"));
+		var anchors = board.squares().filter(Square::isAnchor).toList();
+
+		var second = board.play(List.of(new Tile('T', 1), new Tile('O', 1)), board.getReference("8G"));
+		assertIterableEquals(List.of(board.getSquare(7, 6), board.getSquare(7, 8)), second.squares());
+
+		assertThrows(IllegalArgumentException.class, () -> new Board().unplay(second));
+
+		board.unplay(second);
+		assertNull(board.getSquare(7, 6).getTile());
+		assertNull(board.getSquare(7, 8).getTile());
+		assertEquals('F', board.getSquare(7, 7).getTile().letter());
+		assertIterableEquals(anchors, board.squares().filter(Square::isAnchor).toList());
+
+		assertThrows(IllegalArgumentException.class, () -> board.unplay(second));
+
+		board.unplay(first);
+		assertEquals(SIZE * SIZE, board.squares().filter(Square::isEmpty).count());
+		assertEquals(board.getSquare(HALF_SIZE, HALF_SIZE).index(), board.getNextAnchor(0));
+		assertEquals(-1, board.getNextAnchor(board.getSquare(HALF_SIZE, HALF_SIZE).index() + 1));
+	}
+
+	@Test
+	void copy() {
+
+		var board = new Board();
+		board.play(List.of(new Tile('F', 4), new Tile('O', 1), new Tile('O', 1)), board.getReference("H8"));
+
+		var copy = new Board();
+		copy.play(List.of(new Tile('Z', 10)), copy.getReference("A1"));
+		copy.copy(board);
+
+		for (var index = 0; index < SIZE * SIZE; index++) {
+
+			assertSame(board.getSquare(index).getTile(), copy.getSquare(index).getTile());
+			assertEquals(board.isAnchor(index), copy.isAnchor(index));
+		}
+
+		copy.clear();
+		assertEquals('F', board.getSquare(7, 7).getTile().letter());
+	}
 }
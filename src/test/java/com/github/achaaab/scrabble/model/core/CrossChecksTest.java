@@ -0,0 +1,112 @@
+package com.github.achaaab.scrabble.model.core;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static com.github.achaaab.scrabble.model.core.CrossChecks.ALL_LETTERS;
+import static com.github.achaaab.scrabble.model.core.CrossChecks.CROSS_WORD;
+import static com.github.achaaab.scrabble.model.core.Direction.HORIZONTAL;
+import static com.github.achaaab.scrabble.model.core.Direction.VERTICAL;
+import static com.github.achaaab.scrabble.model.core.Lexicon.ENGLISH_CSW21;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+/**
+ * Unit tests of {@link CrossChecks}.
+ *
+ * @author Jonathan Guéhenneux
+ * @since 1.1.0
+ */
+class CrossChecksTest {
+
+	private static final Dictionary DICTIONARY = ENGLISH_CSW21.get();
+
+	/**
+	 * Computes the expected cross-check of a square between a prefix and a suffix.
+	 *
+	 * @param prefix tiles before the square
+	 * @param suffix tiles after the square
+	 * @return mask of the letters forming a word, combined with {@link CrossChecks#CROSS_WORD}
+	 * @since 1.1.0
+	 */
+	private static int mask(String prefix, String suffix) {
+
+		var mask = CROSS_WORD;
+
+		for (var letter = 'A'; letter <= 'Z'; letter++) {
+
+			if (DICTIONARY.dawg().contains(prefix + letter + suffix)) {
+				mask |= 1 << letter - 'A';
+			}
+		}
+
+		return mask;
+	}
+
+	@Test
+	void getCrossChecks() {
+
+		var board = new Board();
+		assertSame(board.getCrossChecks(DICTIONARY), board.getCrossChecks(DICTIONARY));
+	}
+
+	@Test
+	void empty() {
+
+		var board = new Board();
+		var crossChecks = board.getCrossChecks(DICTIONARY);
+
+		var square = board.getSquare(7, 7);
+		assertEquals(ALL_LETTERS, crossChecks.getMask(square, HORIZONTAL));
+		assertEquals(ALL_LETTERS, crossChecks.getMask(square, VERTICAL));
+		assertEquals(0, crossChecks.getScore(square, HORIZONTAL));
+	}
+
+	@Test
+	void update() {
+
+		var board = new Board();
+		var crossChecks = board.getCrossChecks(DICTIONARY);
+
+		board.play(List.of(new Tile('Q', 10), new Tile('I', 1)), board.getReference("H8"));
+
+		var occupied = board.getSquare(7, 7);
+		assertEquals(0, crossChecks.getMask(occupied, HORIZONTAL));
+		assertEquals(0, crossChecks.getMask(occupied, VERTICAL));
+
+		var below = board.getSquare(7, 8);
+		assertEquals(mask("Q", ""), crossChecks.getMask(below, HORIZONTAL));
+		assertEquals(10, crossChecks.getScore(below, HORIZONTAL));
+		assertEquals(ALL_LETTERS, crossChecks.getMask(below, VERTICAL));
+
+		var after = board.getSquare(9, 7);
+		assertEquals(mask("QI", ""), crossChecks.getMask(after, VERTICAL));
+		assertEquals(11, crossChecks.getScore(after, VERTICAL));
+
+		var before = board.getSquare(6, 7);
+		assertEquals(mask("", "QI"), crossChecks.getMask(before, VERTICAL));
+
+		board.getSquare(8, 7).clear();
+		assertEquals(ALL_LETTERS, crossChecks.getMask(after, VERTICAL));
+	}
+
+	@Test
+	void unplay() {
+
+		var board = new Board();
+		var crossChecks = board.getCrossChecks(DICTIONARY);
+
+		board.play(List.of(new Tile('Q', 10), new Tile('I', 1)), board.getReference("H8"));
+
+		var masks = board.squares().mapToInt(square -> crossChecks.getMask(square, HORIZONTAL)).toArray();
+		var scores = board.squares().mapToInt(square -> crossChecks.getScore(square, VERTICAL)).toArray();
+
+		var placement = board.play(List.of(new Tile('N', 1), new Tile('S', 1)), board.getReference("8H"));
+		board.unplay(placement);
+
+		assertArrayEquals(masks, board.squares().mapToInt(square -> crossChecks.getMask(square, HORIZONTAL)).toArray());
+		assertArrayEquals(scores, board.squares().mapToInt(square -> crossChecks.getScore(square, VERTICAL)).toArray());
+	}
+}
@@ -2,8 +2,20 @@ package com.github.achaaab.scrabble.model.core;
 
 import org.junit.jupiter.api.Test;
 
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+
+import static java.nio.file.Files.createTempFile;
+import static java.nio.ByteOrder.LITTLE_ENDIAN;
+import static java.nio.file.Files.deleteIfExists;
+import static java.nio.file.Files.readAllBytes;
+import static java.nio.file.Files.write;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 /**
@@ -44,4 +56,88 @@ class DictionaryTest {
 		trie = trie.getChild('r');
 		assertTrue(trie.isWord());
 	}
+
+	@Test
+	void queries() {
+
+		var dictionary = new Dictionary("test-dictionary.txt");
+
+		assertTrue(dictionary.contains("fooo"));
+		assertFalse(dictionary.contains("fo"));
+		assertEquals(List.of("baz", "FO"), dictionary.getInvalidWords(List.of("FOO", "baz", "bar", "FO")));
+		assertEquals(List.of("FOO"), dictionary.getAnagrams("oof", 0));
+		assertEquals(List.of("FOOO"), dictionary.getAnagrams("oof", 1));
+		assertEquals(List.of("BAR", "FOO"), dictionary.getSubanagrams("RabOOF", 0));
+		assertEquals(List.of("BAR", "FOO", "FOOO"), dictionary.getSubanagrams("", 4));
+		assertEquals(List.of("FOO", "FOOO"), dictionary.getMatchingWords("F*"));
+		assertEquals(List.of("BAR", "FOO"), dictionary.getMatchingWords("???"));
+		assertThrows(IllegalArgumentException.class, () -> dictionary.getAnagrams("FO?", 0));
+	}
+
+	@Test
+	void saveLoad() throws IOException {
+
+		var dictionary = new Dictionary("test-dictionary.txt");
+		var path = createTempFile("dictionary", ".dawg");
+
+		try {
+
+			dictionary.save(path);
+			var loadedDictionary = Dictionary.load(path);
+
+			var words = new ArrayList<String>();
+			var loadedWords = new ArrayList<String>();
+			dictionary.dawg().forEachWord(words::add);
+			loadedDictionary.dawg().forEachWord(loadedWords::add);
+			assertEquals(words, loadedWords);
+
+			words.clear();
+			loadedWords.clear();
+			dictionary.gaddag().forEachWord(words::add);
+			loadedDictionary.gaddag().forEachWord(loadedWords::add);
+			assertEquals(words, loadedWords);
+
+			assertTrue(loadedDictionary.trie().getChild("FOO").isWord());
+			assertNull(loadedDictionary.trie().getChild("FOB"));
+
+		} finally {
+
+			deleteIfExists(path);
+		}
+	}
+
+	@Test
+	void loadInvalid() throws IOException {
+
+		var path = createTempFile("dictionary", ".dawg");
+
+		try {
+
+			write(path, new byte[] { 'F', 'O', 'O', '\n' });
+			assertThrows(IllegalArgumentException.class, () -> Dictionary.load(path));
+
+			new Dictionary("test-dictionary.txt").save(path);
+			var bytes = readAllBytes(path);
+			var buffer = ByteBuffer.wrap(bytes).order(LITTLE_ENDIAN);
+			var nodeLength = buffer.getInt(8);
+
+			// first edge of the word graph targeting a missing node
+
+			var firstEdge = buffer.getInt(16 + nodeLength * 4);
+			buffer.putInt(16 + nodeLength * 4, -1);
+			write(path, bytes);
+			assertThrows(IllegalArgumentException.class, () -> Dictionary.load(path));
+
+			// first node of the word graph starting after the edges
+
+			buffer.putInt(16 + nodeLength * 4, firstEdge);
+			buffer.putInt(16, -1);
+			write(path, bytes);
+			assertThrows(IllegalArgumentException.class, () -> Dictionary.load(path));
+
+		} finally {
+
+			deleteIfExists(path);
+		}
+	}
 }
@@ -0,0 +1,194 @@
+package com.github.achaaab.scrabble.model.core;
+
+import org.junit.jupiter.api.RepeatedTest;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Random;
+
+import static com.github.achaaab.scrabble.model.core.Board.SIZE;
+import static com.github.achaaab.scrabble.model.core.Board.SQUARE_COUNT;
+import static com.github.achaaab.scrabble.model.core.Direction.HORIZONTAL;
+import static com.github.achaaab.scrabble.model.core.Direction.VERTICAL;
+import static com.github.achaaab.scrabble.model.core.Grid.OUTSIDE;
+import static com.github.achaaab.scrabble.model.core.Grid.getNext;
+import static com.github.achaaab.scrabble.model.core.Grid.getPrevious;
+import static com.github.achaaab.scrabble.model.core.Tile.blank;
+import static com.github.achaaab.scrabble.model.core.Tile.getEnglishTiles;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Unit tests of {@link Grid}.
+ *
+ * @author Jonathan Guéhenneux
+ * @since 1.1.0
+ */
+class GridTest {
+
+	private static final Random RANDOM = new Random();
+
+	/**
+	 * Counts the consecutive tiles from a square along a direction, navigating the squares.
+	 *
+	 * @param square square to start from, excluded
+	 * @param direction direction to count along
+	 * @param forward whether to count after the square, before otherwise
+	 * @return number of consecutive tiles
+	 * @since 1.1.0
+	 */
+	private static int countTiles(Square square, Direction direction, boolean forward) {
+
+		var count = 0;
+		var next = forward ? square.getNext(direction) : square.getPrevious(direction);
+
+		while (next != null && next.hasTile()) {
+
+			count++;
+			next = forward ? next.getNext(direction) : next.getPrevious(direction);
+		}
+
+		return count;
+	}
+
+	@Test
+	void navigation() {
+
+		var board = new Board();
+
+		var a1 = board.getSquare(0, 0).index();
+		var o1 = board.getSquare(SIZE - 1, 0).index();
+		var a15 = board.getSquare(0, SIZE - 1).index();
+
+		assertEquals(board.getSquare(1, 0).index(), getNext(a1, HORIZONTAL));
+		assertEquals(board.getSquare(0, 1).index(), getNext(a1, VERTICAL));
+		assertEquals(OUTSIDE, getPrevious(a1, HORIZONTAL));
+		assertEquals(OUTSIDE, getPrevious(a1, VERTICAL));
+		assertEquals(OUTSIDE, getNext(o1, HORIZONTAL));
+		assertEquals(OUTSIDE, getNext(a15, VERTICAL));
+	}
+
+	@Test
+	void award() {
+
+		var board = new Board();
+		var grid = board.grid();
+
+		board.squares().forEach(square -> {
+
+			assertEquals(square.award().letterMultiplier(), grid.getLetterMultiplier(square.index()));
+			assertEquals(square.award().wordMultiplier(), grid.getWordMultiplier(square.index()));
+		});
+	}
+
+	@RepeatedTest(16)
+	void synchronization() {
+
+		var board = new Board();
+		var grid = board.grid();
+		var tiles = getEnglishTiles();
+
+		for (var count = 0; count < 80; count++) {
+
+			var square = board.getSquare(RANDOM.nextInt(SQUARE_COUNT));
+			var tile = tiles.get(RANDOM.nextInt(tiles.size()));
+
+			if (tile.isBlank()) {
+				tile = blank((char) ('A' + RANDOM.nextInt(26)));
+			}
+
+			square.setTile(RANDOM.nextInt(4) == 0 ? null : tile);
+		}
+
+		board.squares().forEach(square -> {
+
+			var index = square.index();
+
+			assertEquals(square.hasTile(), grid.hasTile(index));
+			assertEquals(square.isEmpty(), grid.isEmpty(index));
+			assertEquals(square.hasAdjacentTile(), grid.hasAdjacentTile(index));
+
+			if (square.hasTile()) {
+
+				assertEquals(square.getTile().letter(), grid.getLetter(index));
+				assertEquals(square.getTile().letterIndex(), grid.getLetterIndex(index));
+				assertEquals(square.getTile().value(), grid.getValue(index));
+			}
+
+			for (var direction : Direction.values()) {
+
+				assertEquals(square.hasPreviousTile(direction), grid.hasPreviousTile(index, direction));
+				assertEquals(square.hasNextTile(direction), grid.hasNextTile(index, direction));
+				assertEquals(countTiles(square, direction, false), grid.getTileCountBefore(index, direction));
+				assertEquals(countTiles(square, direction, true), grid.getTileCountAfter(index, direction));
+			}
+		});
+
+		board.clear();
+
+		for (var index = 0; index < SQUARE_COUNT; index++) {
+			assertFalse(grid.hasTile(index));
+		}
+
+		for (var line = 0; line < SIZE; line++) {
+
+			assertEquals(0, grid.getOccupancy(line, HORIZONTAL));
+			assertEquals(0, grid.getOccupancy(line, VERTICAL));
+		}
+	}
+
+	@Test
+	void play() {
+
+		var board = new Board();
+		var grid = board.grid();
+		var rack = new Rack();
+		rack.addAll(getEnglishTiles());
+
+		board.play(rack.pickAll("CAT"), board.getReference("H7"));
+
+		var h7 = board.getSquare(6, 7).index();
+
+		assertTrue(grid.hasTile(h7));
+		assertEquals('C', grid.getLetter(h7));
+		assertEquals(2, grid.getTileCountAfter(h7, HORIZONTAL));
+		assertEquals(0b111 << 6, grid.getOccupancy(7, HORIZONTAL));
+	}
+
+	@Test
+	void getHash() {
+
+		var board = new Board();
+		var grid = board.grid();
+		var rack = new Rack();
+		rack.addAll(getEnglishTiles());
+
+		assertEquals(0, grid.getHash());
+
+		var cat = board.play(rack.pickAll("CAT"), board.getReference("H7"));
+		var catHash = grid.getHash();
+		var cats = board.play(rack.pickAll("S"), board.getReference("H10"));
+		var catsHash = grid.getHash();
+
+		assertNotEquals(0L, catHash);
+		assertNotEquals(catHash, catsHash);
+
+		board.unplay(cats);
+		assertEquals(catHash, grid.getHash());
+		board.unplay(cat);
+		assertEquals(0, grid.getHash());
+
+		board.play(rack.pickAll("S"), board.getReference("H10"));
+		board.play(rack.pickAll("CAT"), board.getReference("H7"));
+		assertEquals(catsHash, grid.getHash());
+
+		board.clear();
+		board.play(List.of(blank('C'), new Tile('A', 1), new Tile('T', 1)), board.getReference("H7"));
+		assertNotEquals(catHash, grid.getHash());
+
+		board.clear();
+		assertEquals(0, grid.getHash());
+	}
+}
@@ -0,0 +1,46 @@
+package com.github.achaaab.scrabble.model.core;
+
+import org.junit.jupiter.api.Test;
+
+import static com.github.achaaab.scrabble.model.core.Lexicon.ENGLISH_CSW21;
+import static com.github.achaaab.scrabble.model.core.Lexicon.FRENCH_ODS9;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Unit tests of {@link Lexicon}.
+ *
+ * @author Jonathan Guéhenneux
+ * @since 1.1.0
+ */
+class LexiconTest {
+
+	@Test
+	void get() {
+
+		ENGLISH_CSW21.release();
+		assertFalse(ENGLISH_CSW21.isLoaded());
+
+		var preloaded = ENGLISH_CSW21.preload();
+		var dictionary = ENGLISH_CSW21.get();
+		assertSame(dictionary, preloaded.join());
+		assertTrue(ENGLISH_CSW21.isLoaded());
+		assertTrue(dictionary.dawg().contains("QUIZ"));
+		assertSame(dictionary, ENGLISH_CSW21.get());
+
+		ENGLISH_CSW21.release();
+		assertFalse(ENGLISH_CSW21.isLoaded());
+		assertNotSame(dictionary, ENGLISH_CSW21.get());
+	}
+
+	@Test
+	void getTiles() {
+
+		assertEquals(Tile.getFrenchTiles(), FRENCH_ODS9.getTiles());
+		assertEquals(Tile.getEnglishTiles(), ENGLISH_CSW21.getTiles());
+		assertNotSame(ENGLISH_CSW21.getTiles(), ENGLISH_CSW21.getTiles());
+	}
+}
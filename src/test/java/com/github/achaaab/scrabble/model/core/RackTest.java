@@ -7,9 +7,13 @@ import java.util.List;
 import static com.github.achaaab.scrabble.model.core.Dictionary.LETTER_COUNT;
 import static com.github.achaaab.scrabble.model.core.Rack.CAPACITY;
 import static com.github.achaaab.scrabble.model.core.Tile.getFrenchTiles;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 /**
@@ -47,6 +51,11 @@ class RackTest {
 		assertEquals(0, letterCounts[5]);
 		assertEquals(0, letterCounts[LETTER_COUNT - 1]);
 		assertEquals(1, letterCounts[LETTER_COUNT]);
+
+		var buffer = new int[LETTER_COUNT + 1];
+		buffer[2] = 5;
+		assertSame(buffer, rack.getLetterCounts(buffer));
+		assertArrayEquals(letterCounts, buffer);
 	}
 
 	@Test
@@ -76,6 +85,11 @@ class RackTest {
 		assertNull(tileSamples[5]);
 		assertNull(tileSamples[LETTER_COUNT - 1]);
 		assertEquals(' ', tileSamples[LETTER_COUNT].letter());
+
+		var buffer = new Tile[LETTER_COUNT + 1];
+		buffer[2] = tileSamples[0];
+		assertSame(buffer, rack.getTileSamples(buffer));
+		assertArrayEquals(tileSamples, buffer);
 	}
 
 	@Test
@@ -189,6 +203,42 @@ class RackTest {
 		assertEquals(List.of(tile0, tile1, tile2, tile3, tile4, tile5, tile6), tiles);
 	}
 
+	@Test
+	void getTiles() {
+
+		var bag = new Bag();
+		bag.addAll(getFrenchTiles());
+
+		var rack = new Rack();
+		rack.addAll(bag.pickAll("ZE BEA"));
+		assertEquals("ZE BEA", toString(rack.getTiles()));
+
+		rack.remove(new Tile('E', 1));
+		rack.pick(' ');
+		rack.add(bag.pick('C'));
+		assertEquals("ZBEAC", toString(rack.getTiles()));
+
+		rack.add(bag.pick('e'));
+		rack.pick('B');
+		assertEquals("ZEAC ", toString(rack.getTiles()));
+		assertThrows(UnsupportedOperationException.class, () -> rack.getTiles().clear());
+
+		rack.clear();
+		assertTrue(rack.getTiles().isEmpty());
+	}
+
+	/**
+	 * @param tiles tiles
+	 * @return letters of the specified tiles
+	 * @since 1.1.0
+	 */
+	private static String toString(List<Tile> tiles) {
+
+		var letters = new StringBuilder();
+		tiles.forEach(tile -> letters.append(tile.letter()));
+		return letters.toString();
+	}
+
 	@Test
 	void pickAllEmpty() {
 
@@ -196,4 +246,30 @@ class RackTest {
 		var tiles = rack.pickAll();
 		assertTrue(tiles.isEmpty());
 	}
+
+	@Test
+	void getHash() {
+
+		var bag = new Bag();
+		bag.addAll(getFrenchTiles());
+
+		var rack = new Rack();
+		var otherRack = new Rack();
+
+		assertEquals(rack.getHash(), otherRack.getHash());
+
+		rack.addAll(bag.pickAll("EEB A"));
+		otherRack.addAll(bag.pickAll(" EABE"));
+		assertEquals(rack.getHash(), otherRack.getHash());
+
+		otherRack.remove(otherRack.getFirst('E'));
+		otherRack.add(bag.pick('S'));
+		assertNotEquals(rack.getHash(), otherRack.getHash());
+
+		rack.clear();
+		rack.addAll(bag.pickAll("CD"));
+		otherRack.clear();
+		otherRack.addAll(bag.pickAll("DC"));
+		assertEquals(rack.getHash(), otherRack.getHash());
+	}
 }
@@ -1,11 +1,16 @@
 package com.github.achaaab.scrabble.model.core;
 
+import org.junit.jupiter.api.RepeatedTest;
 import org.junit.jupiter.api.Test;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.NoSuchElementException;
+import java.util.Random;
 
 import static com.github.achaaab.scrabble.model.core.Tile.BLANK;
+import static com.github.achaaab.scrabble.model.core.Tile.blank;
+import static com.github.achaaab.scrabble.model.core.Tile.getEnglishTiles;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertIterableEquals;
@@ -20,6 +25,8 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
  */
 class TileCollectionTest {
 
+	private static final Random RANDOM = new Random();
+
 	@Test
 	void add() {
 
@@ -338,4 +345,38 @@ class TileCollectionTest {
 		tileCollection.addAll(List.of(tile0, tile1, tile2, tile3, tile4, tile5));
 		assertEquals(4, tileCollection.getConsonantCount());
 	}
+
+	@RepeatedTest(16)
+	void multiset() {
+
+		var tileCollection = new Bag();
+		var expected = new ArrayList<Tile>();
+		var tiles = getEnglishTiles();
+
+		for (var count = 0; count < 200; count++) {
+
+			var tile = tiles.get(RANDOM.nextInt(tiles.size()));
+
+			if (RANDOM.nextBoolean()) {
+
+				tileCollection.add(tile);
+				expected.add(tile);
+
+			} else if (expected.contains(tile)) {
+
+				tileCollection.remove(tile.isBlank() ? blank('E') : tile);
+				expected.remove(tile);
+			}
+
+			assertEquals(expected.size(), tileCollection.size());
+			assertEquals(expected.stream().sorted().toList(),
+					tileCollection.getTiles().stream().sorted().toList());
+		}
+
+		while (!tileCollection.isEmpty()) {
+			assertTrue(expected.remove(tileCollection.pickRandom()));
+		}
+
+		assertTrue(expected.isEmpty());
+	}
 }
@@ -0,0 +1,80 @@
+package com.github.achaaab.scrabble.model.duplicate;
+
+import com.github.achaaab.scrabble.model.core.Dictionary;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+import java.util.TreeMap;
+
+import static com.github.achaaab.scrabble.model.core.Lexicon.ENGLISH_CSW21;
+import static com.github.achaaab.scrabble.model.core.Tile.getEnglishTiles;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Unit tests of {@link DuplicateSimulator}.
+ *
+ * @author Jonathan Guéhenneux
+ * @since 1.1.0
+ */
+class DuplicateSimulatorTest {
+
+	private static final Dictionary DICTIONARY = ENGLISH_CSW21.get();
+
+	/**
+	 * Runs a simulation and collects the scoring sheets.
+	 *
+	 * @param simulator simulator to run
+	 * @param gameCount number of games to play
+	 * @param threadCount number of worker threads
+	 * @return scoring sheets by game index
+	 * @throws InterruptedException if interrupted while waiting for the simulation
+	 * @since 1.1.0
+	 */
+	private static Map<Integer, String> run(DuplicateSimulator simulator, int gameCount, int threadCount)
+			throws InterruptedException {
+
+		var sheets = new TreeMap<Integer, String>();
+		var report = simulator.run(gameCount, 42, threadCount, game -> sheets.put(game.index(), game.toString()));
+
+		assertEquals(gameCount, report.gameCount());
+		assertTrue(report.min() <= report.mean() && report.mean() <= report.max());
+
+		return sheets;
+	}
+
+	@Test
+	void reproducibility() throws InterruptedException {
+
+		var simulator = new DuplicateSimulator(DICTIONARY, getEnglishTiles(), DrawRule.DUPLICATE);
+
+		var sequential = run(simulator, 6, 1);
+		var parallel = run(simulator, 6, 3);
+
+		assertEquals(sequential, parallel);
+	}
+
+	@Test
+	void replay() throws InterruptedException {
+
+		var simulator = new DuplicateSimulator(DICTIONARY, getEnglishTiles(), DrawRule.FREE);
+
+		var games = new TreeMap<Integer, SimulatedGame>();
+		simulator.run(2, 7, 2, game -> games.put(game.index(), game));
+
+		for (var game : games.values()) {
+			assertEquals(game.sheet().toString(), simulator.play(game.seed()).toString());
+		}
+	}
+
+	@Test
+	void failure() {
+
+		var simulator = new DuplicateSimulator(DICTIONARY, getEnglishTiles(), DrawRule.FREE);
+
+		assertThrows(IllegalStateException.class, () -> simulator.run(4, 0, 2, game -> {
+			throw new IllegalStateException();
+		}));
+	}
+}
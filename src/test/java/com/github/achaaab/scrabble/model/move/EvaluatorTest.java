@@ -0,0 +1,404 @@
+package com.github.achaaab.scrabble.model.move;
+
+import com.github.achaaab.scrabble.model.core.Bag;
+import com.github.achaaab.scrabble.model.core.Board;
+import com.github.achaaab.scrabble.model.core.Dictionary;
+import com.github.achaaab.scrabble.model.core.Rack;
+import com.github.achaaab.scrabble.model.core.Square;
+import com.github.achaaab.scrabble.model.core.Tile;
+import org.junit.jupiter.api.RepeatedTest;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import static com.github.achaaab.scrabble.model.core.Board.HALF_SIZE;
+import static com.github.achaaab.scrabble.model.core.Lexicon.ENGLISH_CSW21;
+import static com.github.achaaab.scrabble.model.core.Tile.getEnglishTiles;
+import static com.github.achaaab.scrabble.model.move.MoveDescriptions.describe;
+import static java.lang.Character.isLowerCase;
+import static java.lang.Character.toLowerCase;
+import static java.lang.Character.toUpperCase;
+import static java.util.Collections.shuffle;
+import static java.util.Comparator.comparing;
+import static java.util.Comparator.reverseOrder;
+import static java.util.stream.Collectors.groupingBy;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Unit tests of {@link Evaluator}.
+ *
+ * @author Jonathan Guéhenneux
+ * @since 1.1.0
+ */
+class EvaluatorTest {
+
+	private static final Random RANDOM = new Random();
+	private static final Dictionary DICTIONARY = ENGLISH_CSW21.get();
+	private static final ForkJoinPool POOL = new ForkJoinPool(4);
+
+	@RepeatedTest(2)
+	void listMovesInParallel() {
+
+		var seed = RANDOM.nextLong();
+		var random = new Random(seed);
+
+		for (var engine : Engine.values()) {
+
+			var board = new Board();
+			var rack = new Rack();
+			var evaluator = engine.createEvaluator(board, DICTIONARY);
+
+			var bag = new ArrayList<>(getEnglishTiles());
+			shuffle(bag, random);
+
+			var moves = List.<Move>of();
+
+			do {
+
+				while (!rack.isFull() && !bag.isEmpty()) {
+					rack.add(bag.removeLast());
+				}
+
+				moves = evaluator.listMoves(rack);
+				var parallelMoves = evaluator.listMoves(rack, POOL);
+
+				assertEquals(describe(moves), describe(parallelMoves), engine + " seed " + seed);
+
+				if (!moves.isEmpty()) {
+
+					var bestMove = moves.getFirst();
+					rack.removeAll(bestMove.tiles());
+					board.play(bestMove.tiles(), bestMove.reference());
+				}
+
+			} while (!moves.isEmpty() && !rack.isEmpty());
+		}
+	}
+
+	@RepeatedTest(2)
+	void reuse() {
+
+		var seed = RANDOM.nextLong();
+		var random = new Random(seed);
+
+		for (var engine : Engine.values()) {
+
+			var board = new Board();
+			var evaluator = engine.createEvaluator(board, DICTIONARY);
+
+			var bag = new ArrayList<>(getEnglishTiles());
+			shuffle(bag, random);
+
+			var previousMoves = List.<Move>of();
+			var previousDescription = List.<String>of();
+
+			for (var search = 0; search < 8 && bag.size() >= 7; search++) {
+
+				var rack = new Rack();
+
+				for (var index = 0; index < 7; index++) {
+					rack.add(bag.removeLast());
+				}
+
+				var leaveTable = search % 2 == 0 ? LeaveTable.heuristic() : null;
+				evaluator.setLeaveTable(leaveTable);
+
+				var freshEvaluator = engine.createEvaluator(board, DICTIONARY);
+				freshEvaluator.setLeaveTable(leaveTable);
+
+				var message = engine + " seed " + seed;
+				var moves = evaluator.listMoves(rack);
+				assertEquals(describe(freshEvaluator.listMoves(rack)), describe(moves), message);
+				var bestMoves = evaluator.listBestMoves(rack, 5);
+				assertEquals(describe(freshEvaluator.listBestMoves(rack, 5)), describe(bestMoves), message);
+				assertEquals(previousDescription, describe(previousMoves), message);
+
+				previousMoves = moves;
+				previousDescription = describe(moves);
+			}
+		}
+	}
+
+	@RepeatedTest(2)
+	void listBestMoves() {
+
+		var seed = RANDOM.nextLong();
+		var random = new Random(seed);
+
+		for (var engine : Engine.values()) {
+
+			var board = new Board();
+			var rack = new Rack();
+			var evaluator = engine.createEvaluator(board, DICTIONARY);
+
+			var bag = new ArrayList<>(getEnglishTiles());
+			shuffle(bag, random);
+
+			var moves = List.<Move>of();
+
+			do {
+
+				while (!rack.isFull() && !bag.isEmpty()) {
+					rack.add(bag.removeLast());
+				}
+
+				moves = evaluator.listMoves(rack);
+				var count = 1 + random.nextInt(20);
+				var bestMoves = evaluator.listBestMoves(rack, count);
+				var bestMove = evaluator.getBestMove(rack);
+
+				var message = engine + " seed " + seed;
+				assertEquals(describe(moves.subList(0, Math.min(count, moves.size()))), describe(bestMoves), message);
+				assertEquals(describe(moves.stream().limit(1).toList()), describe(bestMove.stream().toList()), message);
+
+				if (!moves.isEmpty()) {
+
+					var move = moves.get(random.nextInt(Math.min(3, moves.size())));
+					rack.removeAll(move.tiles());
+					board.play(move.tiles(), move.reference());
+				}
+
+			} while (!moves.isEmpty() && !rack.isEmpty());
+		}
+	}
+
+	@RepeatedTest(2)
+	void listMovesByEquity() {
+
+		var seed = RANDOM.nextLong();
+		var random = new Random(seed);
+		var leaveTable = LeaveTable.heuristic();
+
+		for (var engine : Engine.values()) {
+
+			var board = new Board();
+			var rack = new Rack();
+			var evaluator = engine.createEvaluator(board, DICTIONARY);
+			evaluator.setLeaveTable(leaveTable);
+
+			var bag = new ArrayList<>(getEnglishTiles());
+			shuffle(bag, random);
+
+			var moves = List.<Move>of();
+
+			do {
+
+				while (!rack.isFull() && !bag.isEmpty()) {
+					rack.add(bag.removeLast());
+				}
+
+				moves = evaluator.listMoves(rack);
+				var bestMoves = evaluator.listBestMoves(rack, 5);
+				var bestMove = evaluator.getBestMove(rack);
+
+				var message = engine + " seed " + seed;
+				assertEquals(describe(moves.subList(0, Math.min(5, moves.size()))), describe(bestMoves), message);
+				assertEquals(describe(moves.stream().limit(1).toList()), describe(bestMove.stream().toList()), message);
+
+				for (var move : moves) {
+
+					var leave = new Rack();
+					leave.addAll(rack.getTiles());
+					leave.removeAll(move.tiles());
+
+					var equity = move.score() + leaveTable.getValue(leave.getLetterCounts());
+					assertEquals(equity, move.equity(), 1e-6, message + " " + move);
+				}
+
+				if (!moves.isEmpty()) {
+
+					var move = moves.get(random.nextInt(Math.min(3, moves.size())));
+					rack.removeAll(move.tiles());
+					board.play(move.tiles(), move.reference());
+				}
+
+			} while (!moves.isEmpty() && !rack.isEmpty());
+		}
+	}
+
+	@RepeatedTest(2)
+	void assignBlanks() {
+
+		var seed = RANDOM.nextLong();
+		var random = new Random(seed);
+
+		for (var engine : Engine.values()) {
+
+			var board = new Board();
+			var rack = new Rack();
+			var evaluator = engine.createEvaluator(board, DICTIONARY);
+
+			var bag = new ArrayList<>(getEnglishTiles());
+			shuffle(bag, random);
+			bag.sort(comparing(Tile::isBlank));
+
+			var moves = List.<Move>of();
+
+			do {
+
+				while (!rack.isFull() && !bag.isEmpty()) {
+					rack.add(bag.removeLast());
+				}
+
+				moves = evaluator.listMoves(rack);
+
+				var message = engine + " seed " + seed;
+				var positions = new HashSet<String>();
+
+				for (var move : moves) {
+
+					var reference = move.reference();
+					var word = move.word();
+					assertTrue(positions.add(reference + " " + word.toUpperCase()), message + " " + move);
+
+					var placed = new ArrayList<Integer>();
+					var square = reference.square();
+
+					for (var position = 0; position < word.length(); position++) {
+
+						if (square.isEmpty()) {
+							placed.add(position);
+						}
+
+						square = square.getNext(reference.direction());
+					}
+
+					for (var blank : placed) {
+
+						for (var natural : placed) {
+
+							var letter = word.charAt(natural);
+
+							if (isLowerCase(word.charAt(blank)) && toUpperCase(word.charAt(blank)) == letter) {
+
+								var swapped = new StringBuilder(word);
+								swapped.setCharAt(blank, letter);
+								swapped.setCharAt(natural, toLowerCase(letter));
+
+								var tiles = new Rack();
+								tiles.addAll(rack.getTiles());
+
+								var alternative = evaluator.getMove(reference.square(), reference.direction(),
+										swapped.toString(), tiles);
+
+								assertTrue(alternative.score() <= move.score(), message + " " + move);
+							}
+						}
+					}
+				}
+
+				if (!moves.isEmpty()) {
+
+					var move = moves.get(random.nextInt(Math.min(3, moves.size())));
+					rack.removeAll(move.tiles());
+					board.play(move.tiles(), move.reference());
+				}
+
+			} while (!moves.isEmpty() && !rack.isEmpty());
+		}
+	}
+
+	@Test
+	void listBestMovesKo() {
+
+		var evaluator = new Evaluator(new Board(), DICTIONARY);
+		assertThrows(IllegalArgumentException.class, () -> evaluator.listBestMoves(new Rack(), 0));
+	}
+
+	@Test
+	void visitMoves() {
+
+		var board = new Board();
+		var rack = new Rack();
+		var evaluator = new Evaluator(board, DICTIONARY);
+
+		rack.addAll(getEnglishTiles().stream().filter(tile -> "QUIZERS".indexOf(tile.letter()) != -1).
+				collect(groupingBy(Tile::letter)).values().stream().map(List::getFirst).toList());
+
+		var moves = evaluator.listMoves(rack);
+		var visitedMoves = new ArrayList<Move>();
+		assertTrue(evaluator.visitMoves(rack, candidate -> visitedMoves.add(candidate.toMove())));
+		visitedMoves.sort(reverseOrder());
+		assertEquals(describe(moves), describe(visitedMoves));
+
+		var central = board.getSquare(HALF_SIZE, HALF_SIZE);
+		var coveringCount = new int[1];
+		evaluator.visitMoves(rack, candidate -> {
+
+			if (candidate.covers(central)) {
+				coveringCount[0]++;
+			}
+
+			return true;
+		});
+
+		assertEquals(moves.size(), coveringCount[0]);
+
+		var visitedCount = new int[1];
+		assertFalse(evaluator.visitMoves(rack, candidate -> ++visitedCount[0] < 10));
+		assertEquals(10, visitedCount[0]);
+	}
+
+	@Test
+	void cancelVisit() {
+
+		for (var engine : Engine.values()) {
+
+			var board = new Board();
+			var evaluator = engine.createEvaluator(board, DICTIONARY);
+			var bag = new Bag();
+			bag.addAll(getEnglishTiles());
+
+			var rack = new Rack();
+			rack.addAll(bag.pickAll("  AERST"));
+
+			var checkCount = new int[1];
+			var visitedCount = new int[1];
+
+			var completed = evaluator.visitMoves(rack, candidate -> ++visitedCount[0] > 0, () -> ++checkCount[0] > 0);
+
+			assertFalse(completed, engine.toString());
+			assertEquals(1, checkCount[0], engine.toString());
+			assertEquals(Evaluator.CANCELLATION_PERIOD, evaluator.getNodeCount(), engine.toString());
+			assertTrue(evaluator.visitMoves(rack, candidate -> true, () -> false), engine.toString());
+			assertTrue(evaluator.getNodeCount() > Evaluator.CANCELLATION_PERIOD, engine.toString());
+		}
+	}
+
+	@Test
+	void covers() {
+
+		var board = new Board();
+		var rack = new Rack();
+		var evaluator = new Evaluator(board, DICTIONARY);
+
+		board.play(List.of(new Tile('Q', 10), new Tile('I', 1)), board.getReference("H8"));
+		rack.addAll(List.of(new Tile('S', 1), new Tile('A', 1), new Tile('T', 1)));
+
+		evaluator.visitMoves(rack, candidate -> {
+
+			var move = candidate.toMove();
+			var direction = move.reference().direction();
+			var coveredSquares = new ArrayList<Square>();
+
+			for (var square = move.reference().square();
+				 coveredSquares.size() < move.word().length();
+				 square = square.getNext(direction)) {
+
+				coveredSquares.add(square);
+			}
+
+			board.squares().forEach(square ->
+					assertEquals(coveredSquares.contains(square), candidate.covers(square), move + " " + square));
+
+			return true;
+		});
+	}
+}
@@ -0,0 +1,97 @@
+package com.github.achaaab.scrabble.model.move;
+
+import com.github.achaaab.scrabble.model.core.Board;
+import com.github.achaaab.scrabble.model.core.Dictionary;
+import com.github.achaaab.scrabble.model.core.Rack;
+import com.github.achaaab.scrabble.model.core.Tile;
+import org.junit.jupiter.api.RepeatedTest;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static com.github.achaaab.scrabble.model.core.Lexicon.ENGLISH_CSW21;
+import static com.github.achaaab.scrabble.model.core.Tile.getEnglishTiles;
+import static com.github.achaaab.scrabble.model.move.MoveDescriptions.describeSorted;
+import static java.util.Collections.shuffle;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+/**
+ * Parity tests of {@link GaddagEvaluator} against {@link Evaluator}.
+ *
+ * @author Jonathan Guéhenneux
+ * @since 1.1.0
+ */
+class GaddagEvaluatorTest {
+
+	private static final Random RANDOM = new Random();
+	private static final Dictionary DICTIONARY = ENGLISH_CSW21.get();
+
+	@RepeatedTest(4)
+	void parity() {
+
+		var seed = RANDOM.nextLong();
+		var random = new Random(seed);
+
+		var board = new Board();
+		var rack = new Rack();
+		var evaluator = new Evaluator(board, DICTIONARY);
+		var gaddagEvaluator = new GaddagEvaluator(board, DICTIONARY);
+
+		var bag = new ArrayList<>(getEnglishTiles());
+		shuffle(bag, random);
+
+		var moves = List.<Move>of();
+
+		do {
+
+			while (!rack.isFull() && !bag.isEmpty()) {
+				rack.add(bag.removeLast());
+			}
+
+			moves = evaluator.listMoves(rack);
+			var gaddagMoves = gaddagEvaluator.listMoves(rack);
+
+			assertEquals(describeSorted(moves), describeSorted(gaddagMoves), "seed " + seed);
+
+			if (!moves.isEmpty()) {
+
+				var bestMove = moves.getFirst();
+				rack.removeAll(bestMove.tiles());
+				board.play(bestMove.tiles(), bestMove.reference());
+			}
+
+		} while (!moves.isEmpty() && !rack.isEmpty());
+	}
+
+	@Test
+	void blanks() {
+
+		var board = new Board();
+		var rack = new Rack();
+		var evaluator = new Evaluator(board, DICTIONARY);
+		var gaddagEvaluator = new GaddagEvaluator(board, DICTIONARY);
+
+		board.play(List.of(
+				new Tile('Q', 10),
+				new Tile('U', 1),
+				new Tile('I', 1),
+				new Tile('Z', 10)), board.getReference("H8"));
+
+		board.play(List.of(
+				new Tile('A', 1),
+				new Tile('X', 8)), board.getReference("9K"));
+
+		rack.addAll(List.of(
+				new Tile(' ', 0),
+				new Tile(' ', 0),
+				new Tile('E', 1),
+				new Tile('S', 1)));
+
+		var moves = evaluator.listMoves(rack);
+		assertFalse(moves.isEmpty());
+		assertEquals(describeSorted(moves), describeSorted(gaddagEvaluator.listMoves(rack)));
+	}
+}
@@ -0,0 +1,129 @@
+package com.github.achaaab.scrabble.model.move;
+
+import org.junit.jupiter.api.RepeatedTest;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Random;
+
+import static com.github.achaaab.scrabble.model.core.Dictionary.LETTER_COUNT;
+import static com.github.achaaab.scrabble.model.move.LeaveTable.MAXIMUM_SIZE;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Unit tests of {@link LeaveTable}.
+ *
+ * @author Jonathan Guéhenneux
+ * @since 1.1.0
+ */
+class LeaveTableTest {
+
+	private static final Random RANDOM = new Random();
+
+	/**
+	 * Counts the tiles of a leave.
+	 *
+	 * @param letters letters of the leave, {@code ?} for a blank tile
+	 * @return number of tiles of each letter, blank last
+	 * @since 1.1.0
+	 */
+	private static int[] count(String letters) {
+
+		var letterCounts = new int[LETTER_COUNT + 1];
+		letters.chars().forEach(letter -> letterCounts[letter == '?' ? LETTER_COUNT : letter - 'A']++);
+		return letterCounts;
+	}
+
+	/**
+	 * Enumerates all the leaves and checks that their indices are distinct.
+	 *
+	 * @param letterCounts letter counts of the current leave
+	 * @param slot first slot to which tiles can be added
+	 * @param size size of the current leave
+	 * @param indices indices of the enumerated leaves
+	 * @since 1.1.0
+	 */
+	private static void enumerate(int[] letterCounts, int slot, int size, HashSet<Integer> indices) {
+
+		assertTrue(indices.add(LeaveTable.getIndex(letterCounts)), Arrays.toString(letterCounts));
+
+		if (size < MAXIMUM_SIZE) {
+
+			for (var nextSlot = slot; nextSlot <= LETTER_COUNT; nextSlot++) {
+
+				letterCounts[nextSlot]++;
+				enumerate(letterCounts, nextSlot, size + 1, indices);
+				letterCounts[nextSlot]--;
+			}
+		}
+	}
+
+	/**
+	 * @return number of leaves in a table
+	 * @since 1.1.0
+	 */
+	private static int size() {
+
+		var indices = new HashSet<Integer>();
+		enumerate(new int[LETTER_COUNT + 1], 0, 0, indices);
+		return indices.size();
+	}
+
+	@Test
+	void getIndex() {
+
+		var indices = new HashSet<Integer>();
+		var letterCounts = new int[LETTER_COUNT + 1];
+		enumerate(letterCounts, 0, 0, indices);
+
+		for (var index = 0; index < indices.size(); index++) {
+			assertTrue(indices.contains(index));
+		}
+
+		assertEquals(0, LeaveTable.getIndex(count("")));
+		assertEquals(-1, LeaveTable.getIndex(count("AEINRST")));
+	}
+
+	@Test
+	void heuristic() {
+
+		var table = LeaveTable.heuristic();
+
+		assertEquals(0, table.getValue(count("")));
+		assertEquals(0, table.getValue(count("AEINRST")));
+		assertTrue(table.getValue(count("?")) > table.getValue(count("Q")));
+		assertTrue(table.getValue(count("ERS")) > table.getValue(count("UUV")));
+		assertTrue(table.getValue(count("AEI")) > table.getValue(count("AAA")));
+	}
+
+	@RepeatedTest(2)
+	void readWrite() {
+
+		var values = new float[size()];
+
+		for (var index = 0; index < values.length; index++) {
+			values[index] = RANDOM.nextFloat();
+		}
+
+		var table = new LeaveTable(values);
+		var output = new ByteArrayOutputStream();
+		table.write(output);
+		var bytes = output.toByteArray();
+
+		var readTable = LeaveTable.read(new ByteArrayInputStream(bytes));
+
+		for (var letters : new String[] { "", "?", "Q", "ERS", "AEIRST", "??ZZZZ" }) {
+			assertEquals(table.getValue(count(letters)), readTable.getValue(count(letters)), letters);
+		}
+
+		var truncated = Arrays.copyOf(bytes, bytes.length - 1);
+		assertThrows(IllegalArgumentException.class, () -> LeaveTable.read(new ByteArrayInputStream(truncated)));
+		assertThrows(IllegalArgumentException.class, () -> LeaveTable.read(new ByteArrayInputStream(new byte[8])));
+		assertThrows(IllegalArgumentException.class, () -> new LeaveTable(new float[1]));
+	}
+}
@@ -0,0 +1,103 @@
+package com.github.achaaab.scrabble.model.move;
+
+import com.github.achaaab.scrabble.model.core.Board;
+import com.github.achaaab.scrabble.model.core.Rack;
+import com.github.achaaab.scrabble.model.core.Tile;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static java.util.Collections.nCopies;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Unit tests of {@link MoveCache}.
+ *
+ * @author Jonathan Guéhenneux
+ * @since 1.1.0
+ */
+class MoveCacheTest {
+
+	/**
+	 * Creates a rack with a single tile.
+	 *
+	 * @param letter letter of the tile
+	 * @return created rack
+	 * @since 1.1.0
+	 */
+	private static Rack createRack(char letter) {
+
+		var rack = new Rack();
+		rack.add(new Tile(letter, 1));
+		return rack;
+	}
+
+	/**
+	 * Creates a list of moves.
+	 *
+	 * @param board board of the moves
+	 * @param count number of moves
+	 * @return created moves
+	 * @since 1.1.0
+	 */
+	private static List<Move> createMoves(Board board, int count) {
+		return nCopies(count, new Move(board.getReference("H8"), "A", List.of(new Tile('A', 1)), 1));
+	}
+
+	@Test
+	void leastRecentlyUsed() {
+
+		var board = new Board();
+		var cache = new MoveCache(10);
+		var a = createRack('A');
+		var b = createRack('B');
+		var c = createRack('C');
+
+		cache.put(board, a, createMoves(board, 4));
+		cache.put(board, b, createMoves(board, 4));
+		assertEquals(8, cache.getMoveCount());
+		assertEquals(4, cache.get(board, a).size());
+
+		cache.put(board, c, createMoves(board, 4));
+		assertEquals(8, cache.getMoveCount());
+		assertNull(cache.get(board, b));
+		assertEquals(4, cache.get(board, a).size());
+		assertEquals(4, cache.get(board, c).size());
+
+		cache.put(board, c, createMoves(board, 2));
+		assertEquals(6, cache.getMoveCount());
+
+		cache.put(board, b, createMoves(board, 11));
+		assertNull(cache.get(board, b));
+
+		cache.setCapacity(3);
+		assertEquals(2, cache.getMoveCount());
+		assertNull(cache.get(board, a));
+
+		cache.clear();
+		assertEquals(0, cache.getMoveCount());
+		assertNull(cache.get(board, c));
+	}
+
+	@Test
+	void position() {
+
+		var board = new Board();
+		var cache = new MoveCache();
+		var rack = createRack('A');
+
+		cache.put(board, rack, createMoves(board, 1));
+		board.play(List.of(new Tile('Z', 10)), board.getReference("H8"));
+		assertNull(cache.get(board, rack));
+
+		board.clear();
+		assertEquals(1, cache.get(board, rack).size());
+	}
+
+	@Test
+	void capacityKo() {
+		assertThrows(IllegalArgumentException.class, () -> new MoveCache(-1));
+	}
+}
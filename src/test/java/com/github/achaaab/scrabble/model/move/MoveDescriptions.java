@@ -0,0 +1,40 @@
+package com.github.achaaab.scrabble.model.move;
+
+import java.util.List;
+
+/**
+ * Descriptions of moves, to compare the moves listed by the tests of the evaluators.
+ *
+ * @author Jonathan Guéhenneux
+ * @since 1.1.0
+ */
+class MoveDescriptions {
+
+	/**
+	 * Describes the specified moves, keeping their order.
+	 *
+	 * @param moves moves to describe
+	 * @return move descriptions
+	 * @since 1.1.0
+	 */
+	static List<String> describe(List<Move> moves) {
+
+		return moves.stream().
+				map(move -> move.reference() + " " + move.word() + " " + move.tiles() + " " + move.score()).
+				toList();
+	}
+
+	/**
+	 * Describes the specified moves, in a canonical order.
+	 *
+	 * @param moves moves to describe
+	 * @return sorted move descriptions
+	 * @since 1.1.0
+	 */
+	static List<String> describeSorted(List<Move> moves) {
+
+		return describe(moves).stream().
+				sorted().
+				toList();
+	}
+}
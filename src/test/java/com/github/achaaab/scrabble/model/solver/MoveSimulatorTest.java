@@ -0,0 +1,123 @@
+package com.github.achaaab.scrabble.model.solver;
+
+import com.github.achaaab.scrabble.model.core.Dictionary;
+import com.github.achaaab.scrabble.model.move.LeaveTable;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+import static com.github.achaaab.scrabble.model.core.Lexicon.ENGLISH_CSW21;
+import static com.github.achaaab.scrabble.model.core.Tile.getEnglishTiles;
+import static com.github.achaaab.scrabble.model.move.Engine.DAWG;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Unit tests of {@link MoveSimulator}.
+ *
+ * @author Jonathan Guéhenneux
+ * @since 1.1.0
+ */
+class MoveSimulatorTest {
+
+	private static final Dictionary DICTIONARY = ENGLISH_CSW21.get();
+	private static final ForkJoinPool EXECUTOR = new ForkJoinPool(3);
+	private static final Duration BUDGET = Duration.ofMinutes(5);
+
+	/**
+	 * Creates a solver and plays the first move on a fixed rack.
+	 *
+	 * @return solver with a rack to play
+	 * @since 1.1.0
+	 */
+	private static Solver createSolver() {
+
+		var solver = new Solver(getEnglishTiles(), DICTIONARY);
+		solver.sheet().add(new SolverSheetEntry());
+		solver.change("QUIXOTE");
+		solver.sheet().setLast(solver.solve().entries().getFirst());
+		solver.replay();
+		solver.change("AERSTL ");
+		return solver;
+	}
+
+	/**
+	 * Describes the specified simulated moves, keeping their order.
+	 *
+	 * @param simulatedMoves simulated moves to describe
+	 * @return simulated move descriptions
+	 * @since 1.1.0
+	 */
+	private static List<String> describe(List<SimulatedMove> simulatedMoves) {
+
+		return simulatedMoves.stream().
+				map(simulatedMove -> simulatedMove.move().reference() + " " + simulatedMove).
+				toList();
+	}
+
+	@Test
+	void reproducibility() throws InterruptedException {
+
+		var solver = createSolver();
+		var sequential = new MoveSimulator(DICTIONARY, DAWG, 2, EXECUTOR, 1);
+		var parallel = new MoveSimulator(DICTIONARY, DAWG, 2, EXECUTOR, 3);
+
+		var sequentialMoves = solver.simulate(sequential, 5, 6, BUDGET, 42);
+		var parallelMoves = solver.simulate(parallel, 5, 6, BUDGET, 42);
+
+		assertEquals(5, sequentialMoves.size());
+		assertEquals(describe(sequentialMoves), describe(parallelMoves));
+		sequentialMoves.forEach(simulatedMove -> assertEquals(6, simulatedMove.playoutCount()));
+
+		for (var index = 1; index < sequentialMoves.size(); index++) {
+			assertTrue(sequentialMoves.get(index - 1).outcome() >= sequentialMoves.get(index).outcome());
+		}
+
+		assertEquals(describe(sequentialMoves), describe(solver.simulate(sequential, 5, 6, BUDGET, 42)));
+	}
+
+	@Test
+	void noPly() throws InterruptedException {
+
+		var solver = createSolver();
+		solver.setLeaveTable(LeaveTable.heuristic());
+
+		var simulator = new MoveSimulator(DICTIONARY, DAWG, 0, EXECUTOR, 2);
+		simulator.setLeaveTable(LeaveTable.heuristic());
+		var simulatedMoves = solver.simulate(simulator, 10, 3, BUDGET, 0);
+
+		assertFalse(simulatedMoves.isEmpty());
+
+		var equities = solver.solve().entries().stream().
+				limit(10).
+				map(SolverSheetEntry::getEquity).
+				toList();
+
+		assertEquals(equities, simulatedMoves.stream().map(SimulatedMove::outcome).toList());
+	}
+
+	@Test
+	void budget() throws InterruptedException {
+
+		var solver = createSolver();
+		var simulator = new MoveSimulator(DICTIONARY, DAWG, 2, EXECUTOR, 3);
+		var simulatedMoves = solver.simulate(simulator, 5, 1000, Duration.ZERO, 0);
+
+		simulatedMoves.forEach(simulatedMove -> {
+
+			assertEquals(0, simulatedMove.playoutCount());
+			assertEquals(simulatedMove.move().equity(), simulatedMove.outcome());
+		});
+	}
+
+	@Test
+	void invalid() {
+
+		assertThrows(IllegalArgumentException.class, () -> new MoveSimulator(DICTIONARY, DAWG, -1, EXECUTOR, 1));
+		assertThrows(IllegalArgumentException.class, () -> new MoveSimulator(DICTIONARY, DAWG, 1, EXECUTOR, 0));
+	}
+}
@@ -0,0 +1,216 @@
+package com.github.achaaab.scrabble.model.solver;
+
+import com.github.achaaab.scrabble.model.core.Dictionary;
+import com.github.achaaab.scrabble.model.core.Square;
+import com.github.achaaab.scrabble.model.core.Tile;
+import com.github.achaaab.scrabble.model.move.LeaveTable;
+import org.junit.jupiter.api.RepeatedTest;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+import static com.github.achaaab.scrabble.model.core.Lexicon.ENGLISH_CSW21;
+import static com.github.achaaab.scrabble.model.core.Tile.getEnglishTiles;
+import static java.util.Comparator.comparingDouble;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Unit tests of {@link Solver}.
+ *
+ * @author Jonathan Guéhenneux
+ * @since 1.1.0
+ */
+class SolverTest {
+
+	private static final Dictionary DICTIONARY = ENGLISH_CSW21.get();
+
+	/**
+	 * Plays the best move for a few turns, drawing random tiles.
+	 *
+	 * @param solver solver with an empty sheet
+	 * @param turnCount number of turns to play
+	 * @since 1.1.0
+	 */
+	private static void play(Solver solver, int turnCount) {
+
+		solver.sheet().add(new SolverSheetEntry());
+
+		for (var turn = 0; turn < turnCount; turn++) {
+
+			solver.rack().fill(solver.bag());
+			var moves = solver.solve().entries();
+
+			if (!moves.isEmpty()) {
+
+				solver.sheet().setLast(moves.getFirst());
+				solver.replay();
+			}
+		}
+	}
+
+	/**
+	 * Replays the sheet of a solver from scratch, with a new solver.
+	 *
+	 * @param solver solver whose sheet to replay
+	 * @return new solver, with a copy of the sheet replayed
+	 * @since 1.1.0
+	 */
+	private static Solver replay(Solver solver) {
+
+		var replayed = new Solver(getEnglishTiles(), DICTIONARY);
+
+		solver.sheet().entries().stream().
+				map(entry -> new SolverSheetEntry(entry.getWord(), entry.getKey(), 0)).
+				forEach(replayed.sheet()::add);
+
+		replayed.replay();
+		return replayed;
+	}
+
+	/**
+	 * Asserts that 2 solvers have the same board, bag, rack and scores.
+	 *
+	 * @param expected expected solver
+	 * @param actual actual solver
+	 * @since 1.1.0
+	 */
+	private static void assertSameState(Solver expected, Solver actual) {
+
+		assertEquals(getTiles(expected), getTiles(actual));
+		assertEquals(expected.bag().getTiles().stream().sorted().toList(),
+				actual.bag().getTiles().stream().sorted().toList());
+		assertEquals(expected.rack().getTiles(), actual.rack().getTiles());
+
+		assertEquals(
+				expected.sheet().entries().stream().map(SolverSheetEntry::getScore).toList(),
+				actual.sheet().entries().stream().map(SolverSheetEntry::getScore).toList());
+	}
+
+	/**
+	 * @param solver solver
+	 * @return tiles on the board of the specified solver
+	 * @since 1.1.0
+	 */
+	private static List<Tile> getTiles(Solver solver) {
+
+		return solver.board().squares().
+				map(Square::getTile).
+				filter(Objects::nonNull).
+				toList();
+	}
+
+	/**
+	 * @param entries sheet entries
+	 * @return word, key and score of each entry
+	 * @since 1.1.0
+	 */
+	private static List<String> describe(List<SolverSheetEntry> entries) {
+
+		return entries.stream().
+				map(entry -> entry.getWord() + " " + entry.getKey() + " " + entry.getScore()).
+				toList();
+	}
+
+	@RepeatedTest(4)
+	void replay() {
+
+		var solver = new Solver(getEnglishTiles(), DICTIONARY);
+		play(solver, 6);
+		assertSameState(replay(solver), solver);
+
+		var entries = solver.sheet().entries();
+		solver.sheet().remove(entries.size() - 2);
+		solver.replay();
+		assertSameState(replay(solver), solver);
+
+		solver.sheet().insert(1);
+		solver.replay();
+		assertSameState(replay(solver), solver);
+
+		solver.sheet().clear(0);
+		solver.replay();
+		assertSameState(replay(solver), solver);
+	}
+
+	@RepeatedTest(4)
+	void preview() {
+
+		var solver = new Solver(getEnglishTiles(), DICTIONARY);
+		play(solver, 4);
+
+		solver.rack().fill(solver.bag());
+		var rack = solver.rack().getTiles().stream().sorted().toList();
+		var tiles = getTiles(solver);
+
+		for (var move : solver.solve().entries().stream().limit(8).toList()) {
+
+			solver.preview(move);
+			assertEquals(tiles.size() + rack.size() - solver.rack().size(), getTiles(solver).size());
+		}
+
+		solver.cancelPreview();
+		assertEquals(tiles, getTiles(solver));
+		assertEquals(rack, solver.rack().getTiles().stream().sorted().toList());
+	}
+
+	@RepeatedTest(4)
+	void progressiveSolve() {
+
+		var solver = new Solver(getEnglishTiles(), DICTIONARY);
+		solver.cache().setCapacity(0);
+		play(solver, 4);
+		solver.rack().fill(solver.bag());
+
+		var expected = solver.solve().entries();
+		var merged = new SolverSheet(false, false);
+		var found = new ArrayList<SolverSheetEntry>();
+
+		assertTrue(solver.solve(found::add, () -> false));
+		assertTrue(solver.getNodeCount() > 0);
+
+		for (var from = 0; from < found.size(); from += 100) {
+			merged.merge(found.subList(from, Math.min(from + 100, found.size())));
+		}
+
+		assertEquals(describe(expected), describe(merged.entries()));
+
+		if (!expected.isEmpty()) {
+
+			var cancelled = new ArrayList<SolverSheetEntry>();
+			assertFalse(solver.solve(cancelled::add, () -> !cancelled.isEmpty()));
+			assertEquals(1, cancelled.size());
+		}
+	}
+
+	@RepeatedTest(4)
+	void cache() {
+
+		var solver = new Solver(getEnglishTiles(), DICTIONARY);
+		play(solver, 4);
+		solver.rack().fill(solver.bag());
+		solver.cache().clear();
+
+		var found = new ArrayList<SolverSheetEntry>();
+		assertTrue(solver.solve(found::add, () -> false));
+
+		var expected = solver.solve().entries();
+		assertEquals(expected.size(), solver.cache().getMoveCount());
+		found.sort(comparingDouble(SolverSheetEntry::getEquity).reversed());
+		assertEquals(describe(expected), describe(found));
+
+		var cached = new ArrayList<SolverSheetEntry>();
+		assertTrue(solver.solve(cached::add, () -> false));
+		assertEquals(describe(expected), describe(cached));
+
+		var rack = solver.rack().pickAll();
+		solver.rack().addAll(rack.reversed());
+		assertEquals(describe(expected), describe(solver.solve().entries()));
+		assertEquals(expected.size(), solver.cache().getMoveCount());
+
+		solver.setLeaveTable(LeaveTable.heuristic());
+		assertEquals(0, solver.cache().getMoveCount());
+	}
+}
@@ -0,0 +1,288 @@
+package com.github.achaaab.scrabble.server;
+
+import com.github.achaaab.scrabble.model.core.Bag;
+import com.github.achaaab.scrabble.model.core.Board;
+import com.github.achaaab.scrabble.model.core.Dictionary;
+import com.github.achaaab.scrabble.model.core.Lexicon;
+import com.github.achaaab.scrabble.model.core.Rack;
+import com.github.achaaab.scrabble.model.move.Evaluator;
+import com.github.achaaab.scrabble.tools.Json;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.HttpURLConnection;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+
+import static com.github.achaaab.scrabble.model.core.Lexicon.ENGLISH_CSW21;
+import static com.github.achaaab.scrabble.model.core.Tile.getEnglishTiles;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Unit tests of {@link SolverServer}.
+ *
+ * @author Jonathan Guéhenneux
+ * @since 1.1.0
+ */
+class SolverServerTest {
+
+	private static final Dictionary DICTIONARY = ENGLISH_CSW21.get();
+	private static final ForkJoinPool EXECUTOR = new ForkJoinPool(4);
+
+	private static final String WORDS_REQUEST = """
+			{"lexicon": "ENGLISH_CSW21", "rack": "AERSTL?", "count": 5,
+			"words": [{"reference": "H4", "word": "QUIXOTE"}, {"reference": "7F", "word": "sIX"}]}""";
+
+	/**
+	 * Sends a request to a server.
+	 *
+	 * @param server started server
+	 * @param method request method
+	 * @param body request body
+	 * @param response body of the response, filled by this method
+	 * @return status of the response
+	 * @since 1.1.0
+	 */
+	private static int send(SolverServer server, String method, String body, StringBuilder response) {
+
+		try {
+
+			var address = server.getAddress();
+			var uri = URI.create("http://localhost:" + address.getPort() + SolverServer.SOLVE_PATH);
+			var connection = (HttpURLConnection) uri.toURL().openConnection();
+			connection.setRequestMethod(method);
+
+			if (body != null) {
+
+				connection.setDoOutput(true);
+
+				try (var output = connection.getOutputStream()) {
+					output.write(body.getBytes(UTF_8));
+				}
+			}
+
+			var status = connection.getResponseCode();
+			var input = status < 400 ? connection.getInputStream() : connection.getErrorStream();
+
+			try (input) {
+				response.append(new String(input.readAllBytes(), UTF_8));
+			}
+
+			return status;
+
+		} catch (IOException cause) {
+
+			throw new UncheckedIOException(cause);
+		}
+	}
+
+	/**
+	 * @return started server bound to an ephemeral port of the loopback address
+	 * @throws IOException if the server cannot be bound
+	 * @since 1.1.0
+	 */
+	private static SolverServer start() throws IOException {
+
+		var server = new SolverServer(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0));
+		server.start();
+		return server;
+	}
+
+	/**
+	 * @param middleRow middle row of the grid, the other rows being empty
+	 * @return request of the best moves on the specified grid
+	 * @since 1.1.0
+	 */
+	private static String gridRequest(String middleRow) {
+
+		var rows = new ArrayList<String>();
+
+		for (var row = 0; row < 15; row++) {
+			rows.add(row == 7 ? middleRow : "...............");
+		}
+
+		return Json.write(Map.of("grid", rows));
+	}
+
+	@Test
+	void solve() throws IOException {
+
+		var server = start();
+
+		try {
+
+			var response = new StringBuilder();
+			assertEquals(200, send(server, "POST", WORDS_REQUEST, response));
+
+			var board = new Board();
+			var bag = new Bag();
+			bag.addAll(getEnglishTiles());
+			var evaluator = new Evaluator(board, DICTIONARY);
+
+			for (var placement : List.of("H4 QUIXOTE", "7F sIX")) {
+
+				var reference = board.getReference(placement.substring(0, placement.indexOf(' ')));
+				var word = placement.substring(placement.indexOf(' ') + 1);
+				var move = evaluator.getMove(reference.square(), reference.direction(), word, bag);
+				board.play(move.tiles(), reference);
+			}
+
+			var rack = new Rack();
+			rack.addAll(bag.pickAll("AERSTL "));
+
+			var expectedMoves = evaluator.listBestMoves(rack, 5).stream().
+					map(move -> move.reference() + " " + move.word() + " " + move.score()).
+					toList();
+
+			var moves = ((List<?>) ((Map<?, ?>) Json.parse(response)).get("moves")).stream().
+					map(Map.class::cast).
+					map(move -> move.get("reference") + " " + move.get("word") + " " + move.get("score")).
+					toList();
+
+			assertEquals(expectedMoves, moves);
+
+		} finally {
+
+			server.stop(Duration.ZERO);
+		}
+	}
+
+	@Test
+	void grid() throws IOException {
+
+		var server = start();
+
+		try {
+
+			var rows = new ArrayList<String>();
+
+			for (var row = 0; row < 15; row++) {
+				rows.add(switch (row) {
+					case 5 -> "......s........";
+					case 6 -> "......I........";
+					case 7 -> "...QUIXOTE.....";
+					default -> "...............";
+				});
+			}
+
+			var gridRequest = Json.write(Map.of("rack", "AERSTL?", "count", 5, "grid", rows));
+			var wordsResponse = new StringBuilder();
+			var gridResponse = new StringBuilder();
+
+			assertEquals(200, send(server, "POST", WORDS_REQUEST, wordsResponse));
+			assertEquals(200, send(server, "POST", gridRequest, gridResponse));
+			assertEquals(wordsResponse.toString(), gridResponse.toString());
+
+		} finally {
+
+			server.stop(Duration.ZERO);
+		}
+	}
+
+	@Test
+	void concurrentRequests() throws IOException, InterruptedException, ExecutionException {
+
+		var server = start();
+
+		try {
+
+			var expected = new StringBuilder();
+			assertEquals(200, send(server, "POST", WORDS_REQUEST, expected));
+
+			var requests = new ArrayList<Callable<String>>();
+
+			for (var index = 0; index < 16; index++) {
+
+				requests.add(() -> {
+
+					var response = new StringBuilder();
+					assertEquals(200, send(server, "POST", WORDS_REQUEST, response));
+					return response.toString();
+				});
+			}
+
+			for (var result : EXECUTOR.invokeAll(requests)) {
+				assertEquals(expected.toString(), result.get());
+			}
+
+		} finally {
+
+			server.stop(Duration.ZERO);
+		}
+	}
+
+	@Test
+	void invalidRequests() throws IOException {
+
+		var server = start();
+
+		try {
+
+			var response = new StringBuilder();
+			assertEquals(405, send(server, "GET", null, response));
+
+			for (var request : List.of(
+					"{",
+					"[]",
+					"{\"rack\": \"QQQ\"}",
+					"{\"rack\": \"AB1\"}",
+					"{\"lexicon\": \"KLINGON\"}",
+					"{\"count\": 0}",
+					"{\"count\": 2000000000}",
+					"{\"words\": [{\"reference\": \"Z99\", \"word\": \"QUIXOTE\"}]}",
+					"{\"words\": [{\"reference\": \"H8\", \"word\": \"café\"}]}",
+					"{\"grid\": [\"...\"]}",
+					gridRequest("......é........"))) {
+
+				response.setLength(0);
+				assertEquals(400, send(server, "POST", request, response), request);
+				assertTrue(((Map<?, ?>) Json.parse(response)).containsKey("error"), request);
+			}
+
+			var largeRequest = "{\"rack\": \"" + " ".repeat(SolverServer.MAXIMUM_BODY_SIZE) + "\"}";
+			response.setLength(0);
+			assertEquals(413, send(server, "POST", largeRequest, response));
+			assertTrue(((Map<?, ?>) Json.parse(response)).containsKey("error"));
+
+		} finally {
+
+			server.stop(Duration.ZERO);
+		}
+	}
+
+	@Test
+	void dictionaryFailure() throws IOException {
+
+		var server = new SolverServer(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0)) {
+
+			@Override
+			public Dictionary getDictionary(Lexicon lexicon) {
+				throw new IllegalArgumentException("corrupted dictionary");
+			}
+		};
+
+		server.start();
+
+		try {
+
+			var response = new StringBuilder();
+			assertEquals(500, send(server, "POST", WORDS_REQUEST, response));
+			assertEquals(Map.of("error", "internal error"), Json.parse(response));
+
+		} finally {
+
+			server.stop(Duration.ZERO);
+		}
+	}
+}
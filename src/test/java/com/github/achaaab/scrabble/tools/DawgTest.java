@@ -0,0 +1,185 @@
+package com.github.achaaab.scrabble.tools;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.github.achaaab.scrabble.tools.Dawg.NONE;
+import static com.github.achaaab.scrabble.tools.Dawg.ROOT;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Unit tests of {@link Dawg} and {@link DawgBuilder}.
+ *
+ * @author Jonathan Guéhenneux
+ * @since 1.1.0
+ */
+class DawgTest {
+
+	/**
+	 * Builds a word graph from the specified sorted words.
+	 *
+	 * @param words sorted words
+	 * @return built word graph
+	 * @since 1.1.0
+	 */
+	private static Dawg build(String... words) {
+
+		var builder = new DawgBuilder();
+
+		for (var word : words) {
+			builder.add(word);
+		}
+
+		return builder.build();
+	}
+
+	@Test
+	void empty() {
+
+		var dawg = build();
+
+		assertEquals(1, dawg.getNodeCount());
+		assertEquals(0, dawg.getEdgeCount());
+		assertFalse(dawg.isWord(ROOT));
+		assertEquals(NONE, dawg.getChild(ROOT, 'A'));
+	}
+
+	@Test
+	void contains() {
+
+		var dawg = build("BAR", "FOO", "FOOO");
+
+		assertTrue(dawg.contains("BAR"));
+		assertTrue(dawg.contains("foo"));
+		assertTrue(dawg.contains("FOOO"));
+		assertFalse(dawg.contains(""));
+		assertFalse(dawg.contains("BA"));
+		assertFalse(dawg.contains("FOOOO"));
+		assertFalse(dawg.contains("ZOO"));
+	}
+
+	@Test
+	void forEachAnagram() {
+
+		var dawg = build("AB", "ABA", "BA", "BAA", "CAB");
+		var letterCounts = new int[26];
+		letterCounts[0] = 1;
+		letterCounts[1] = 1;
+
+		var anagrams = new ArrayList<String>();
+		dawg.forEachAnagram(letterCounts, 0, true, anagrams::add);
+		assertEquals(List.of("AB", "BA"), anagrams);
+
+		anagrams.clear();
+		dawg.forEachAnagram(letterCounts, 1, true, anagrams::add);
+		assertEquals(List.of("ABA", "BAA", "CAB"), anagrams);
+
+		anagrams.clear();
+		dawg.forEachAnagram(letterCounts, 1, false, anagrams::add);
+		assertEquals(List.of("AB", "ABA", "BA", "BAA", "CAB"), anagrams);
+		assertEquals(1, letterCounts[0]);
+		assertEquals(1, letterCounts[1]);
+
+		anagrams.clear();
+		dawg.forEachAnagram(new int[26], 3, true, anagrams::add);
+		assertEquals(List.of("ABA", "BAA", "CAB"), anagrams);
+	}
+
+	@Test
+	void forEachMatch() {
+
+		var dawg = build("AB", "ABA", "BA", "BAA", "CAB");
+
+		var words = new ArrayList<String>();
+		dawg.forEachMatch("?A*", words::add);
+		assertEquals(List.of("BA", "BAA", "CAB"), words);
+
+		words.clear();
+		dawg.forEachMatch("*a", words::add);
+		assertEquals(List.of("ABA", "BA", "BAA"), words);
+
+		words.clear();
+		dawg.forEachMatch("**B**", words::add);
+		assertEquals(List.of("AB", "ABA", "BA", "BAA", "CAB"), words);
+
+		words.clear();
+		dawg.forEachMatch("???", words::add);
+		assertEquals(List.of("ABA", "BAA", "CAB"), words);
+
+		words.clear();
+		dawg.forEachMatch("A", words::add);
+		assertEquals(List.of(), words);
+
+		assertThrows(IllegalArgumentException.class, () -> dawg.forEachMatch("*".repeat(64), words::add));
+	}
+
+	@Test
+	void getChild() {
+
+		var dawg = build("AB", "AC", "B");
+
+		var a = dawg.getChild(ROOT, 'A');
+		assertFalse(dawg.isWord(a));
+		assertEquals(NONE, dawg.getChild(a, 'A'));
+		assertTrue(dawg.isWord(dawg.getChild(a, 'B')));
+		assertTrue(dawg.isWord(dawg.getChild(a, 'C')));
+		assertEquals(NONE, dawg.getChild(a, 'D'));
+		assertEquals(NONE, dawg.getChild(ROOT, '?'));
+		assertEquals(NONE, dawg.getChild(ROOT, "AZ"));
+	}
+
+	@Test
+	void edges() {
+
+		var dawg = build("AB", "AC", "AE");
+
+		var a = dawg.getChild(ROOT, 'A');
+		var start = dawg.getEdgeStart(a);
+		var end = dawg.getEdgeEnd(a);
+
+		assertEquals(3, end - start);
+		assertEquals(1, dawg.getLetterIndex(start));
+		assertEquals(2, dawg.getLetterIndex(start + 1));
+		assertEquals(4, dawg.getLetterIndex(start + 2));
+	}
+
+	@Test
+	void minimal() {
+
+		var dawg = build("CAT", "CATS", "DOG", "DOGS", "RAT", "RATS");
+
+		assertEquals(dawg.getChild(ROOT, "CAT"), dawg.getChild(ROOT, "DOG"));
+		assertEquals(dawg.getChild(ROOT, "CA"), dawg.getChild(ROOT, "RA"));
+		assertEquals(7, dawg.getNodeCount());
+	}
+
+	@Test
+	void duplicates() {
+
+		var dawg = build("A", "A", "B");
+
+		assertTrue(dawg.contains("A"));
+		assertTrue(dawg.contains("B"));
+	}
+
+	@Test
+	void unsorted() {
+
+		var builder = new DawgBuilder();
+		builder.add("B");
+
+		assertThrows(IllegalArgumentException.class, () -> builder.add("A"));
+	}
+
+	@Test
+	void unsupportedCharacter() {
+
+		var builder = new DawgBuilder();
+		assertThrows(IllegalArgumentException.class, () -> builder.add("A-B"));
+	}
+}
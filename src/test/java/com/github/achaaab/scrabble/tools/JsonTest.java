@@ -0,0 +1,68 @@
+package com.github.achaaab.scrabble.tools;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Unit tests of {@link Json}.
+ *
+ * @author Jonathan Guéhenneux
+ * @since 1.1.0
+ */
+class JsonTest {
+
+	@Test
+	void parse() {
+
+		var value = Json.parse(" { \"rack\" : \"AB\\u0043\\n\", \"count\": 12, \"equity\": -1.5e1, " +
+				"\"words\": [true, false, null, {}, []] } ");
+
+		var expected = new LinkedHashMap<String, Object>();
+		expected.put("rack", "ABC\n");
+		expected.put("count", 12L);
+		expected.put("equity", -15.0);
+		expected.put("words", Arrays.asList(true, false, null, Map.of(), List.of()));
+
+		assertEquals(expected, value);
+		assertNull(Json.parse("null"));
+		var members = (Map<?, ?>) Json.parse("{\"count\":1,\"rack\":2}");
+		assertEquals(List.of("count", "rack"), List.copyOf(members.keySet()));
+	}
+
+	@Test
+	void parseInvalid() {
+
+		assertThrows(IllegalArgumentException.class, () -> Json.parse(""));
+		assertThrows(IllegalArgumentException.class, () -> Json.parse("{"));
+		assertThrows(IllegalArgumentException.class, () -> Json.parse("{\"a\" 1}"));
+		assertThrows(IllegalArgumentException.class, () -> Json.parse("[1,]"));
+		assertThrows(IllegalArgumentException.class, () -> Json.parse("\"abc"));
+		assertThrows(IllegalArgumentException.class, () -> Json.parse("tru"));
+		assertThrows(IllegalArgumentException.class, () -> Json.parse("1 2"));
+		assertThrows(IllegalArgumentException.class, () -> Json.parse("\"\\x\""));
+	}
+
+	@Test
+	void write() {
+
+		var value = new LinkedHashMap<String, Object>();
+		value.put("word", "QU\"I\\X\n");
+		value.put("score", 42);
+		value.put("equity", 40.5);
+		value.put("moves", Arrays.asList(null, true, Thread.State.NEW));
+
+		var text = Json.write(value);
+		assertEquals("{\"word\":\"QU\\\"I\\\\X\\n\",\"score\":42,\"equity\":40.5,\"moves\":[null,true,\"NEW\"]}", text);
+		assertEquals("\"\\u0001\"", Json.write("\u0001"));
+		assertThrows(IllegalArgumentException.class, () -> Json.write(Double.NaN));
+		assertThrows(IllegalArgumentException.class, () -> Json.write(new Object()));
+	}
+}